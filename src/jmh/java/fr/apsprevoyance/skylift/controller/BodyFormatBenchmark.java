@@ -0,0 +1,98 @@
+package fr.apsprevoyance.skylift.controller;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import fr.apsprevoyance.skylift.constants.SportLabels;
+import fr.apsprevoyance.skylift.dto.SkiLiftDTO;
+import fr.apsprevoyance.skylift.enums.SkiLiftStatus;
+import fr.apsprevoyance.skylift.enums.SkiLiftType;
+
+/**
+ * Encoding and decoding a ski lift list in each body format
+ * {@link WebConfiguration} negotiates, with mappers built the way it builds
+ * them. The body size of each format is printed at the end of each fork.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BodyFormatBenchmark {
+
+    @Param({ "json", "cbor", "smile" })
+    private String format;
+
+    @Param({ "1000" })
+    private int lifts;
+
+    private ObjectMapper mapper;
+    private JavaType listType;
+    private List<SkiLiftDTO> catalogue;
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws IOException {
+        JsonFactory factory = switch (format) {
+        case "cbor" -> new CBORFactory();
+        case "smile" -> new SmileFactory();
+        default -> new JsonFactory();
+        };
+        mapper = Jackson2ObjectMapperBuilder.json().factory(factory).build();
+        listType = mapper.getTypeFactory().constructCollectionType(List.class, SkiLiftDTO.class);
+        catalogue = LongStream.rangeClosed(1, lifts).mapToObj(BodyFormatBenchmark::skiLift).toList();
+        body = mapper.writeValueAsBytes(catalogue);
+    }
+
+    @TearDown
+    public void printSize() {
+        System.out.printf("%n%s body for %d lifts: %,d B%n", format, lifts, body.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return mapper.writeValueAsBytes(catalogue);
+    }
+
+    @Benchmark
+    public List<SkiLiftDTO> decode() throws IOException {
+        return mapper.readValue(body, listType);
+    }
+
+    private static SkiLiftDTO skiLift(long id) {
+        SkiLiftDTO dto = new SkiLiftDTO();
+        dto.setId(id);
+        dto.setName("Télésiège " + id);
+        dto.setType(SkiLiftType.TELESIEGE);
+        dto.setStatus(id % 5 == 0 ? SkiLiftStatus.CLOSED : SkiLiftStatus.OPEN);
+        dto.setComment("Accès depuis le front de neige");
+        dto.setAvailableSports(Set.of(SportLabels.SKI, SportLabels.SNOWBOARD));
+        dto.setCommissioningDate(LocalDate.of(2010, 12, 1));
+        return dto;
+    }
+}
@@ -0,0 +1,108 @@
+package fr.apsprevoyance.skylift.controller;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ParameterizedTypeReference;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import fr.apsprevoyance.skylift.constants.SportLabels;
+import fr.apsprevoyance.skylift.dto.SkiLiftDTO;
+import fr.apsprevoyance.skylift.enums.SkiLiftStatus;
+import fr.apsprevoyance.skylift.enums.SkiLiftType;
+
+/**
+ * Writing an unchanged ski lift collection from the cached copies of
+ * {@link CachedJsonHttpMessageConverter} against encoding and compressing it
+ * on every request. The body sizes are printed at the end of each fork.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectionEncodingBenchmark {
+
+    private static final Type SKI_LIFT_LIST = new ParameterizedTypeReference<List<SkiLiftDTO>>() {
+    }.getType();
+
+    @Param({ "100", "1000" })
+    private int lifts;
+
+    private ObjectMapper objectMapper;
+    private CachedJsonHttpMessageConverter converter;
+    private List<SkiLiftDTO> catalogue;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        converter = new CachedJsonHttpMessageConverter(objectMapper);
+        catalogue = LongStream.rangeClosed(1, lifts).mapToObj(CollectionEncodingBenchmark::skiLift).toList();
+    }
+
+    @TearDown
+    public void printSizes() throws IOException {
+        System.out.printf("%n%d lifts on the wire: identity %,d B, gzip per request %,d B, cached gzip %,d B%n",
+                lifts, objectMapper.writeValueAsBytes(catalogue).length, jacksonGzip().length,
+                converter.encodeGzip(catalogue, SKI_LIFT_LIST).length);
+    }
+
+    @Benchmark
+    public byte[] jacksonIdentity() throws IOException {
+        return objectMapper.writeValueAsBytes(catalogue);
+    }
+
+    @Benchmark
+    public byte[] jacksonGzip() throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            objectMapper.writeValue(gzip, catalogue);
+        }
+        return buffer.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] cachedIdentity() throws IOException {
+        return converter.encode(catalogue, SKI_LIFT_LIST);
+    }
+
+    @Benchmark
+    public byte[] cachedGzip() throws IOException {
+        return converter.encodeGzip(catalogue, SKI_LIFT_LIST);
+    }
+
+    private static SkiLiftDTO skiLift(long id) {
+        SkiLiftDTO dto = new SkiLiftDTO();
+        dto.setId(id);
+        dto.setName("Télésiège " + id);
+        dto.setType(SkiLiftType.TELESIEGE);
+        dto.setStatus(id % 5 == 0 ? SkiLiftStatus.CLOSED : SkiLiftStatus.OPEN);
+        dto.setComment("");
+        dto.setAvailableSports(Set.of(SportLabels.SKI, SportLabels.SNOWBOARD));
+        dto.setCommissioningDate(LocalDate.of(2010, 12, 1));
+        return dto;
+    }
+}
@@ -0,0 +1,145 @@
+package fr.apsprevoyance.skylift.model;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import fr.apsprevoyance.skylift.constants.SportLabels;
+import fr.apsprevoyance.skylift.enums.SkiLiftStatus;
+import fr.apsprevoyance.skylift.enums.SkiLiftType;
+
+/**
+ * Hash set and map lookups of {@link SkiLift}, with its cached hash code and
+ * cheap-first equals, against {@link Uncached}, which keeps the previous
+ * {@code Objects.hash} and field order.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelHashBenchmark {
+
+    @Param({ "1000" })
+    private int rows;
+
+    private SkiLift[] lifts;
+    private SkiLift[] equalLifts;
+    private Set<SkiLift> cachedSet;
+    private Map<SkiLift, Long> cachedMap;
+
+    private Uncached[] uncachedLifts;
+    private Uncached[] equalUncachedLifts;
+    private Set<Uncached> uncachedSet;
+    private Map<Uncached, Long> uncachedMap;
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        lifts = new SkiLift[rows];
+        equalLifts = new SkiLift[rows];
+        uncachedLifts = new Uncached[rows];
+        equalUncachedLifts = new Uncached[rows];
+        cachedSet = new HashSet<>();
+        cachedMap = new HashMap<>();
+        uncachedSet = new HashSet<>();
+        uncachedMap = new HashMap<>();
+        for (int i = 0; i < rows; i++) {
+            lifts[i] = skiLift(i);
+            equalLifts[i] = skiLift(i);
+            uncachedLifts[i] = new Uncached(skiLift(i));
+            equalUncachedLifts[i] = new Uncached(skiLift(i));
+            cachedSet.add(lifts[i]);
+            cachedMap.put(lifts[i], (long) i);
+            uncachedSet.add(uncachedLifts[i]);
+            uncachedMap.put(uncachedLifts[i], (long) i);
+        }
+    }
+
+    @Benchmark
+    public boolean contains_cached() {
+        return cachedSet.contains(lifts[nextRow()]);
+    }
+
+    @Benchmark
+    public boolean contains_uncached() {
+        return uncachedSet.contains(uncachedLifts[nextRow()]);
+    }
+
+    @Benchmark
+    public boolean containsEqualCopy_cached() {
+        return cachedSet.contains(equalLifts[nextRow()]);
+    }
+
+    @Benchmark
+    public boolean containsEqualCopy_uncached() {
+        return uncachedSet.contains(equalUncachedLifts[nextRow()]);
+    }
+
+    @Benchmark
+    public Long mapGet_cached() {
+        return cachedMap.get(equalLifts[nextRow()]);
+    }
+
+    @Benchmark
+    public Long mapGet_uncached() {
+        return uncachedMap.get(equalUncachedLifts[nextRow()]);
+    }
+
+    private int nextRow() {
+        next = next + 1 == rows ? 0 : next + 1;
+        return next;
+    }
+
+    private static SkiLift skiLift(int row) {
+        return SkiLift.builder().id((long) row + 1).name("Téléski " + row).type(SkiLiftType.TELESKI)
+                .status(SkiLiftStatus.OPEN).comment("Près du départ des pistes")
+                .availableSports(Set.of(SportLabels.SKI, SportLabels.SNOWBOARD))
+                .commissioningDate(LocalDate.of(2020, 12, 1)).build();
+    }
+
+    /**
+     * The {@code hashCode} and {@code equals} of {@link SkiLift} before they
+     * were cached and reordered.
+     */
+    private record Uncached(SkiLift skiLift) {
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(skiLift.getAvailableSports(), skiLift.getComment(), skiLift.getCommissioningDate(),
+                    skiLift.getId(), skiLift.getName(), skiLift.getStatus(), skiLift.getType());
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof Uncached(SkiLift other)))
+                return false;
+            return Objects.equals(skiLift.getAvailableSports(), other.getAvailableSports())
+                    && Objects.equals(skiLift.getComment(), other.getComment())
+                    && Objects.equals(skiLift.getCommissioningDate(), other.getCommissioningDate())
+                    && Objects.equals(skiLift.getId(), other.getId())
+                    && Objects.equals(skiLift.getName(), other.getName()) && skiLift.getStatus() == other.getStatus()
+                    && skiLift.getType() == other.getType();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package fr.apsprevoyance.skylift.model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.openjdk.jol.info.GraphLayout;
+
+import fr.apsprevoyance.skylift.constants.SportLabels;
+import fr.apsprevoyance.skylift.enums.SkiLiftStatus;
+import fr.apsprevoyance.skylift.enums.SkiLiftType;
+
+/**
+ * Retained heap of ski lifts whose sports are plain hash sets against the same
+ * lifts with their sports compacted by {@link SportNames}.
+ * <p>
+ * Run with
+ * {@code ./mvnw -Pbenchmarks test-compile exec:exec -Dbenchmark.main=fr.apsprevoyance.skylift.model.SportSetFootprint -Djmh.args=10000}
+ * where the argument is the number of lifts.
+ */
+public final class SportSetFootprint {
+
+    private static final int DEFAULT_LIFTS = 10_000;
+    private static final List<String> CATALOGUE = List.of(SportLabels.SKI, SportLabels.SNOWBOARD,
+            SportLabels.SLEDGE);
+
+    private SportSetFootprint() {
+    }
+
+    public static void main(String[] args) {
+        int lifts = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_LIFTS;
+        SportNames sportNames = new SportNames();
+        CATALOGUE.forEach(sportNames::register);
+
+        List<SkiLift> plain = new ArrayList<>(lifts);
+        List<SkiLift> compact = new ArrayList<>(lifts);
+        for (int i = 0; i < lifts; i++) {
+            Set<String> sports = sportsOf(i);
+            plain.add(skiLift(i, sports));
+            compact.add(skiLift(i, sportNames.compact(sports)));
+        }
+
+        // Both lists hold equal lifts, so the difference is the sport sets alone.
+        long plainBytes = GraphLayout.parseInstance(plain).totalSize();
+        long compactBytes = GraphLayout.parseInstance(compact, sportNames).totalSize();
+        System.out.printf("%d ski lifts%n", lifts);
+        System.out.printf("  hash sets:       %,12d bytes (%,d per lift)%n", plainBytes, plainBytes / lifts);
+        System.out.printf("  sport name sets: %,12d bytes (%,d per lift), dictionary included%n", compactBytes,
+                compactBytes / lifts);
+    }
+
+    // Every non-empty combination of the catalogue, each lift with fresh strings as if decoded from a request.
+    private static Set<String> sportsOf(int lift) {
+        int mask = lift % ((1 << CATALOGUE.size()) - 1) + 1;
+        Set<String> sports = new HashSet<>();
+        for (int i = 0; i < CATALOGUE.size(); i++) {
+            if ((mask & 1 << i) != 0) {
+                sports.add(new String(CATALOGUE.get(i)));
+            }
+        }
+        return sports;
+    }
+
+    private static SkiLift skiLift(int lift, Set<String> sports) {
+        return SkiLift.builder().id((long) lift + 1).name("Téléski " + lift).type(SkiLiftType.TELESKI)
+                .status(SkiLiftStatus.OPEN).availableSports(sports).commissioningDate(LocalDate.of(2020, 12, 1))
+                .build();
+    }
+}
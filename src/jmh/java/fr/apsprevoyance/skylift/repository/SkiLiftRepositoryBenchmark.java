@@ -0,0 +1,93 @@
+package fr.apsprevoyance.skylift.repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import fr.apsprevoyance.skylift.constants.SportLabels;
+import fr.apsprevoyance.skylift.enums.SkiLiftStatus;
+import fr.apsprevoyance.skylift.enums.SkiLiftType;
+import fr.apsprevoyance.skylift.model.SkiLift;
+
+/**
+ * Point reads and updates of {@link SkiLiftRepositoryInMemory} against the
+ * list scan it replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SkiLiftRepositoryBenchmark {
+
+    @Param({ "100", "10000" })
+    private int rows;
+
+    private SkiLiftRepositoryInMemory repository;
+    private List<SkiLift> list;
+
+    @Setup
+    public void setUp() {
+        repository = new SkiLiftRepositoryInMemory();
+        list = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            list.add(repository.create(skiLift("Téléski " + i)));
+        }
+    }
+
+    @Benchmark
+    public Optional<SkiLift> findById_map() {
+        return repository.findById(randomId());
+    }
+
+    @Benchmark
+    public Optional<SkiLift> findById_listScan() {
+        Long id = randomId();
+        return list.stream().filter(skiLift -> id.equals(skiLift.getId())).findFirst();
+    }
+
+    @Benchmark
+    public SkiLift update_map() {
+        return repository.update(skiLift("Téléski modifié").toBuilder().id(randomId()).build());
+    }
+
+    @Benchmark
+    public SkiLift update_listScan() {
+        SkiLift updated = skiLift("Téléski modifié").toBuilder().id(randomId()).build();
+        synchronized (list) {
+            for (int i = 0; i < list.size(); i++) {
+                if (updated.getId().equals(list.get(i).getId())) {
+                    list.set(i, updated);
+                    return updated;
+                }
+            }
+        }
+        return null;
+    }
+
+    private Long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, rows + 1);
+    }
+
+    private static SkiLift skiLift(String name) {
+        return SkiLift.builder().name(name).type(SkiLiftType.TELESIEGE).status(SkiLiftStatus.OPEN)
+                .availableSports(Set.of(SportLabels.SKI)).commissioningDate(LocalDate.of(2020, 12, 1)).build();
+    }
+}
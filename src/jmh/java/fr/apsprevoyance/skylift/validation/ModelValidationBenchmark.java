@@ -0,0 +1,64 @@
+package fr.apsprevoyance.skylift.validation;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import fr.apsprevoyance.skylift.constants.SportLabels;
+import fr.apsprevoyance.skylift.dto.SkiLiftDTO;
+import fr.apsprevoyance.skylift.enums.SkiLiftStatus;
+import fr.apsprevoyance.skylift.enums.SkiLiftType;
+import fr.apsprevoyance.skylift.enums.ValidationBackend;
+import fr.apsprevoyance.skylift.model.SkiLift;
+
+/**
+ * Validating a mapped ski lift in full, as the services did, against checking
+ * only the constraints its DTO did not prove.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelValidationBenchmark {
+
+    private ModelValidationService service;
+    private SkiLift skiLift;
+
+    @Setup
+    public void setUp() {
+        service = new ModelValidationService(ValidationBackend.BEAN_VALIDATION);
+        skiLift = SkiLift.builder().name("Télésiège des Marmottes").type(SkiLiftType.TELESIEGE)
+                .status(SkiLiftStatus.OPEN).availableSports(Set.of(SportLabels.SKI))
+                .commissioningDate(LocalDate.of(2020, 12, 1)).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        service.shutdown();
+    }
+
+    @Benchmark
+    public List<String> fullValidation() {
+        return service.checkWithAnnotations(skiLift, OnCreate.class);
+    }
+
+    @Benchmark
+    public List<String> remainingConstraints() {
+        return service.checkRemaining(skiLift, SkiLiftDTO.class, OnCreate.class);
+    }
+}
@@ -0,0 +1,46 @@
+package fr.apsprevoyance.skylift.validation;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import fr.apsprevoyance.skylift.constants.ValidationConstants;
+
+/**
+ * The name character check of {@link ValidName} against the
+ * {@code @Pattern} it replaced. Run with {@code -prof gc} to see the matcher
+ * allocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NameCharactersBenchmark {
+
+    private static final Pattern NAME = Pattern.compile(ValidationConstants.REGEX_NAME_VALID_CHARS);
+
+    @Param({ "Télésiège des Marmottes", "Piste d'Émile 2", "Télécabine <script>" })
+    private String name;
+
+    @Benchmark
+    public boolean regex() {
+        return NAME.matcher(name).matches();
+    }
+
+    @Benchmark
+    public boolean table() {
+        return NameCharacters.matches(name);
+    }
+}
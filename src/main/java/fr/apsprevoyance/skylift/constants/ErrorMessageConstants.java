@@ -27,6 +27,14 @@ public final class ErrorMessageConstants {
 
         public static final String REQUEST_PARSING_ERROR = "Failed to parse request body";
 
+        public static final String PAGE_LIMIT_OUT_OF_RANGE = "limit must be between 1 and %d";
+        public static final String PAGE_CURSOR_NEGATIVE = "after cannot be negative";
+        public static final String BATCH_SIZE_OUT_OF_RANGE = "batch must contain between 1 and %d items";
+        public static final String BATCH_DUPLICATE_ID = "id %s appears more than once in the batch";
+        public static final String FIELDS_UNKNOWN = "fields contains unknown property %s";
+        public static final String PATCH_UNKNOWN_PROPERTY = "patch contains unknown property %s";
+        public static final String PATCH_NOT_AN_OBJECT = "merge patch must be a JSON object";
+
         public static final String ENTITY_NOT_FOUND_SAFE = "The requested %s with identifier %s was not found";
         public static final String DUPLICATE_ENTITY_SAFE = "A %s with these details already exists";
         public static final String ERROR_DUPLICATE_MESSAGE = "Entity %s with %s %s already exists";
@@ -80,6 +88,7 @@ public final class ErrorMessageConstants {
     public static final class Formats {
         public static final String ERROR_WITH_MODEL = "%s for %s";
         public static final String FIELD_ERROR = "%s: %s";
+        public static final String BATCH_ITEM_ERROR = "[%d] %s";
     }
 
     public static final class General {
@@ -0,0 +1,10 @@
+package fr.apsprevoyance.skylift.constants;
+
+public final class Profiles {
+
+    private Profiles() {
+    }
+
+    public static final String JPA = "jpa";
+    public static final String IN_MEMORY = "!" + JPA;
+}
@@ -11,6 +11,10 @@ public final class ValidationConstants {
     public static final int NAME_MAX_LENGTH = 50;
     public static final int DESCRIPTION_MAX_LENGTH = 1000;
 
+    public static final int PAGE_DEFAULT_SIZE = 100;
+    public static final int PAGE_MAX_SIZE = 1000;
+    public static final int BATCH_MAX_SIZE = 1000;
+
     public static final LocalDate FIRST_SKILIFT_DATE = LocalDate.of(1934, 12, 23);
 
     public static final String REGEX_NAME_VALID_CHARS = "[a-zA-ZÀ-ÿ0-9\\s']+";
@@ -0,0 +1,361 @@
+package fr.apsprevoyance.skylift.controller;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import fr.apsprevoyance.skylift.dto.SkiLiftDTO;
+import fr.apsprevoyance.skylift.dto.SportDTO;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Writes ski lift and sport DTOs, and lists of them, from JSON encoded once and
+ * kept as bytes.
+ * <p>
+ * The services hand out the same frozen DTO instance for as long as the model
+ * behind it is unchanged, so the instance is the version: each item's bytes
+ * are reused while the same instance comes back, and a list is assembled from
+ * its items' bytes, re-encoding only the items that changed. The last list written per
+ * type is kept whole, so repeating an unchanged collection GET is a copy. The
+ * output is byte-for-byte what the Jackson converter would write; with
+ * indented output this converter steps aside.
+ * <p>
+ * Lists large enough to gain from it are sent gzip-encoded to GET requests
+ * that accept it; other methods always get the identity body, since only the
+ * collection GETs vary on {@code Accept-Encoding}. The compressed copy is made
+ * once, at the highest level, and kept with the list's bytes until the list
+ * changes. The entity tag already on the response names the identity body, so
+ * a compressed body gets its own tag, suffixed with {@code -gzip}.
+ */
+public class CachedJsonHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    static final int DEFAULT_CAPACITY = 10_000;
+
+    static final String GZIP = "gzip";
+    // Below this, the gzip header and a round trip outweigh the bytes saved.
+    static final int MIN_COMPRESSED_SIZE = 1024;
+
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.UTF_8);
+
+    private final Map<Class<?>, Encoder<?>> encoders;
+    private final boolean enabled;
+    private final LongAdder encodings = new LongAdder();
+    private final LongAdder compressions = new LongAdder();
+
+    public CachedJsonHttpMessageConverter(ObjectMapper objectMapper) {
+        this(objectMapper, DEFAULT_CAPACITY);
+    }
+
+    CachedJsonHttpMessageConverter(ObjectMapper objectMapper, int capacity) {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        this.encoders = Map.of(
+                SkiLiftDTO.class, new Encoder<>(objectMapper.writerFor(SkiLiftDTO.class), SkiLiftDTO::getId, capacity),
+                SportDTO.class, new Encoder<>(objectMapper.writerFor(SportDTO.class), SportDTO::getId, capacity));
+        this.enabled = !objectMapper.isEnabled(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return enabled && encoders.containsKey(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return enabled && encoderFor(type != null ? type : clazz) != null && canWrite(mediaType);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Write-only converter", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Write-only converter", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object value, Type type, HttpOutputMessage outputMessage) throws IOException {
+        HttpServletRequest request = currentRequest();
+        boolean gzip = request != null && HttpMethod.GET.matches(request.getMethod())
+                && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        byte[] body = gzip ? encodeGzip(value, type) : null;
+        if (body != null) {
+            outputMessage.getHeaders().set(HttpHeaders.CONTENT_ENCODING, GZIP);
+            tagAsGzip(outputMessage);
+        } else {
+            body = encode(value, type);
+        }
+        outputMessage.getHeaders().setContentLength(body.length);
+        outputMessage.getBody().write(body);
+    }
+
+    byte[] encode(Object value, Type type) throws IOException {
+        Encoder<?> encoder = encoderFor(type != null ? type : value.getClass());
+        if (value instanceof List<?> items) {
+            return encoder.encodeList(items).json();
+        }
+        return encoder.encode(value);
+    }
+
+    /**
+     * The gzip encoding of a list, or {@code null} for single DTOs and lists
+     * too small to be worth compressing.
+     */
+    byte[] encodeGzip(Object value, Type type) throws IOException {
+        if (!(value instanceof List<?> items)) {
+            return null;
+        }
+        Body body = encoderFor(type != null ? type : value.getClass()).encodeList(items);
+        return body.json().length < MIN_COMPRESSED_SIZE ? null : body.gzipped();
+    }
+
+    long encodings() {
+        return encodings.sum();
+    }
+
+    long compressions() {
+        return compressions.sum();
+    }
+
+    /**
+     * Whether an {@code Accept-Encoding} value lets gzip through: listed as
+     * {@code gzip} or {@code x-gzip}, or else covered by {@code *}, without
+     * {@code q=0}.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean gzip = null;
+        boolean any = false;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            boolean accepted = parts.length < 2 || !isZeroQuality(parts[1]);
+            if (name.equalsIgnoreCase(GZIP) || name.equalsIgnoreCase("x-gzip")) {
+                gzip = accepted;
+            } else if (name.equals("*")) {
+                any = accepted;
+            }
+        }
+        return gzip != null ? gzip : any;
+    }
+
+    private static boolean isZeroQuality(String parameter) {
+        String[] pair = parameter.split("=", 2);
+        if (pair.length < 2 || !pair[0].trim().equalsIgnoreCase("q")) {
+            return false;
+        }
+        try {
+            return Double.parseDouble(pair[1].trim()) == 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static HttpServletRequest currentRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes.getRequest()
+                : null;
+    }
+
+    // The controller sets the tag on the servlet response itself, so it is rewritten there.
+    private static void tagAsGzip(HttpOutputMessage outputMessage) {
+        if (!(outputMessage instanceof ServletServerHttpResponse response)) {
+            return;
+        }
+        HttpServletResponse servletResponse = response.getServletResponse();
+        String etag = servletResponse.getHeader(HttpHeaders.ETAG);
+        if (etag != null && etag.length() > 1 && etag.endsWith("\"")) {
+            servletResponse.setHeader(HttpHeaders.ETAG, etag.substring(0, etag.length() - 1) + "-" + GZIP + '"');
+        }
+    }
+
+    private Encoder<?> encoderFor(Type type) {
+        if (type instanceof Class<?> clazz) {
+            return encoders.get(clazz);
+        }
+        if (type instanceof ParameterizedType parameterized && parameterized.getRawType() == List.class) {
+            Type[] arguments = parameterized.getActualTypeArguments();
+            return arguments.length == 1 && arguments[0] instanceof Class<?> element ? encoders.get(element) : null;
+        }
+        return null;
+    }
+
+    private final class Body {
+
+        private final Object[] items;
+        private final byte[] json;
+        private volatile byte[] gzipped;
+
+        Body(Object[] items, byte[] json) {
+            this.items = items;
+            this.json = json;
+        }
+
+        Object[] items() {
+            return items;
+        }
+
+        byte[] json() {
+            return json;
+        }
+
+        // Racing writers may both compress; either result is the same bytes.
+        byte[] gzipped() throws IOException {
+            byte[] result = gzipped;
+            if (result == null) {
+                result = gzip(json);
+                gzipped = result;
+            }
+            return result;
+        }
+
+        private byte[] gzip(byte[] data) throws IOException {
+            compressions.increment();
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(data.length / 4);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(buffer) {
+                {
+                    def.setLevel(Deflater.BEST_COMPRESSION);
+                }
+            }) {
+                gzip.write(data);
+            }
+            return buffer.toByteArray();
+        }
+    }
+
+    private final class Encoder<D> {
+
+        private record Item(Object dto, byte[] json) {
+        }
+
+        private final ObjectWriter writer;
+        private final Function<D, Long> idOf;
+        private final int capacity;
+        private final Map<Long, Item> items = new ConcurrentHashMap<>();
+        private final AtomicReference<Body> lastList = new AtomicReference<>();
+
+        Encoder(ObjectWriter writer, Function<D, Long> idOf, int capacity) {
+            this.writer = writer;
+            this.idOf = idOf;
+            this.capacity = capacity;
+        }
+
+        @SuppressWarnings("unchecked")
+        byte[] encode(Object dto) throws IOException {
+            if (dto == null) {
+                return NULL;
+            }
+            Long id = idOf.apply((D) dto);
+            if (id == null) {
+                return write(dto);
+            }
+
+            Item item = items.get(id);
+            if (item != null && item.dto() == dto) {
+                return item.json();
+            }
+
+            byte[] json = write(dto);
+            items.put(id, new Item(dto, json));
+            if (items.size() > capacity) {
+                evictOverflow();
+            }
+            return json;
+        }
+
+        Body encodeList(List<?> dtos) throws IOException {
+            Body last = lastList.get();
+            if (last != null && sameInstances(last.items(), dtos)) {
+                return last;
+            }
+
+            byte[][] parts = new byte[dtos.size()][];
+            int length = 2 + Math.max(0, parts.length - 1);
+            for (int i = 0; i < parts.length; i++) {
+                parts[i] = encode(dtos.get(i));
+                length += parts[i].length;
+            }
+
+            byte[] json = new byte[length];
+            int position = 0;
+            json[position++] = '[';
+            for (int i = 0; i < parts.length; i++) {
+                if (i > 0) {
+                    json[position++] = ',';
+                }
+                System.arraycopy(parts[i], 0, json, position, parts[i].length);
+                position += parts[i].length;
+            }
+            json[position] = ']';
+
+            Body body = new Body(dtos.toArray(), json);
+            lastList.set(body);
+            return body;
+        }
+
+        private byte[] write(Object dto) throws IOException {
+            encodings.increment();
+            return writer.writeValueAsBytes(dto);
+        }
+
+        private boolean sameInstances(Object[] cached, List<?> dtos) {
+            if (cached.length != dtos.size()) {
+                return false;
+            }
+            for (int i = 0; i < cached.length; i++) {
+                if (cached[i] != dtos.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void evictOverflow() {
+            Iterator<Long> ids = items.keySet().iterator();
+            while (items.size() > capacity && ids.hasNext()) {
+                ids.next();
+                ids.remove();
+            }
+        }
+    }
+}
@@ -1,21 +1,53 @@
 package fr.apsprevoyance.skylift.controller;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.EnumSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.Function;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import fr.apsprevoyance.skylift.constants.ErrorMessageConstants;
+import fr.apsprevoyance.skylift.constants.ValidationConstants;
 import fr.apsprevoyance.skylift.dto.SkiLiftDTO;
 import fr.apsprevoyance.skylift.dto.SportDTO;
+import fr.apsprevoyance.skylift.enums.SkiLiftField;
+import fr.apsprevoyance.skylift.enums.SkiLiftStatus;
+import fr.apsprevoyance.skylift.enums.SkiLiftType;
+import fr.apsprevoyance.skylift.enums.SportField;
 import fr.apsprevoyance.skylift.enums.ValidationContextType;
 import fr.apsprevoyance.skylift.exception.ValidationException;
 import fr.apsprevoyance.skylift.service.SkiLiftService;
@@ -32,13 +64,27 @@ public class DispatcherController {
     private static final String SPORT_ID_MISMATCH_ERROR = "L'ID de l'URL ne correspond pas à l'ID du sport dans le corps de la requête";
     private static final String SKILIFT_ENTITY_NAME = "SkiLift";
     private static final String SKILIFT_ID_MISMATCH_ERROR = "L'ID de l'URL ne correspond pas à l'ID de la remontée dans le corps de la requête";
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int EXPORT_BATCH_SIZE = 500;
+    private static final String FIELDS_PARAM = "fields";
+    public static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+    public static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+    private static final String CBOR_SUBTYPE = "cbor";
+    private static final String SMILE_SUBTYPE = "smile";
+    // Repository versions restart with the process, so tags carry the start time to never repeat across restarts.
+    private static final String ETAG_EPOCH = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
 
     private final SportService sportService;
     private final SkiLiftService skiLiftService;
+    private final ObjectMapper objectMapper;
+    private final SkiLiftEventStream skiLiftEventStream;
 
-    public DispatcherController(SportService sportService, SkiLiftService skiLiftService) {
+    public DispatcherController(SportService sportService, SkiLiftService skiLiftService, ObjectMapper objectMapper,
+            SkiLiftEventStream skiLiftEventStream) {
         this.sportService = sportService;
         this.skiLiftService = skiLiftService;
+        this.objectMapper = objectMapper;
+        this.skiLiftEventStream = skiLiftEventStream;
     }
 
     @PostMapping("/sports")
@@ -48,17 +94,65 @@ public class DispatcherController {
     }
 
     @GetMapping("/sports")
-    public ResponseEntity<List<SportDTO>> getAllSports() {
-        List<SportDTO> sports = sportService.findAllSports();
-        return ResponseEntity.ok(sports);
+    public ResponseEntity<List<SportDTO>> getAllSports(@RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit, WebRequest request) {
+        boolean paged = after != null || limit != null;
+        int pageSize = paged ? checkPageRequest(SPORT_ENTITY_NAME, after, limit) : 0;
+        if (isCollectionNotModified(request, sportService.sportsVersion())) {
+            return null;
+        }
+
+        if (!paged) {
+            List<SportDTO> sports = sportService.findAllSports();
+            return ResponseEntity.ok(sports);
+        }
+
+        List<SportDTO> page = sportService.findSportPage(after, pageSize);
+        return pageResponse(page, pageSize, SportDTO::getId);
+    }
+
+    @GetMapping(value = "/sports", params = FIELDS_PARAM)
+    public ResponseEntity<List<Map<String, Object>>> getSportProjections(@RequestParam String fields,
+            @RequestParam(required = false) Long after, @RequestParam(required = false) Integer limit,
+            WebRequest request) {
+        Set<SportField> projection = checkFields(SPORT_ENTITY_NAME, fields, SportField.ID, SportField::fromProperty);
+        boolean paged = after != null || limit != null;
+        int pageSize = paged ? checkPageRequest(SPORT_ENTITY_NAME, after, limit) : 0;
+        if (isCollectionNotModified(request, sportService.sportsVersion())) {
+            return null;
+        }
+
+        if (!paged) {
+            List<Map<String, Object>> sports = sportService.findSportProjections(projection);
+            return ResponseEntity.ok(sports);
+        }
+
+        List<Map<String, Object>> page = sportService.findSportProjectionPage(after, pageSize, projection);
+        return pageResponse(page, pageSize, sport -> (Long) sport.get(SportField.ID.getProperty()));
     }
 
     @GetMapping("/sports/{id}")
-    public ResponseEntity<SportDTO> getSportById(@PathVariable Long id) {
+    public ResponseEntity<SportDTO> getSportById(@PathVariable Long id, WebRequest request) {
+        if (isNotModified(request, sportService.sportVersion(id))) {
+            return null;
+        }
+
         SportDTO sport = sportService.findSportById(id);
         return ResponseEntity.ok(sport);
     }
 
+    @GetMapping(value = "/sports/{id}", params = FIELDS_PARAM)
+    public ResponseEntity<Map<String, Object>> getSportProjectionById(@PathVariable Long id,
+            @RequestParam String fields, WebRequest request) {
+        Set<SportField> projection = checkFields(SPORT_ENTITY_NAME, fields, SportField.ID, SportField::fromProperty);
+        if (isNotModified(request, sportService.sportVersion(id))) {
+            return null;
+        }
+
+        Map<String, Object> sport = sportService.findSportProjectionById(id, projection);
+        return ResponseEntity.ok(sport);
+    }
+
     @PutMapping("/sports/{id}")
     public ResponseEntity<SportDTO> updateSport(@PathVariable Long id,
             @Validated(OnUpdate.class) @RequestBody SportDTO sportDTO) {
@@ -82,18 +176,94 @@ public class DispatcherController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdSkiLift);
     }
 
+    @PostMapping("/ski-lifts/batch")
+    public ResponseEntity<List<SkiLiftDTO>> createSkiLifts(@RequestBody List<SkiLiftDTO> skiLiftDTOs) {
+        checkBatchSize(skiLiftDTOs);
+
+        List<SkiLiftDTO> createdSkiLifts = skiLiftService.createSkiLifts(skiLiftDTOs);
+        return ResponseEntity.status(HttpStatus.CREATED).body(createdSkiLifts);
+    }
+
     @GetMapping("/ski-lifts")
-    public ResponseEntity<List<SkiLiftDTO>> getAllSkiLifts() {
-        List<SkiLiftDTO> skiLifts = skiLiftService.findAllSkiLifts();
+    public ResponseEntity<List<SkiLiftDTO>> getAllSkiLifts(@RequestParam(required = false) SkiLiftStatus status,
+            @RequestParam(required = false) SkiLiftType type, @RequestParam(required = false) String sport,
+            @RequestParam(required = false) Long after, @RequestParam(required = false) Integer limit,
+            WebRequest request) {
+        boolean paged = after != null || limit != null;
+        int pageSize = paged ? checkPageRequest(SKILIFT_ENTITY_NAME, after, limit) : 0;
+        if (isCollectionNotModified(request, skiLiftService.skiLiftsVersion())) {
+            return null;
+        }
+
+        if (paged) {
+            List<SkiLiftDTO> page = skiLiftService.findSkiLiftPage(status, type, sport, after, pageSize);
+            return pageResponse(page, pageSize, SkiLiftDTO::getId);
+        }
+
+        boolean filtered = status != null || type != null || sport != null;
+        List<SkiLiftDTO> skiLifts = filtered ? skiLiftService.findSkiLifts(status, type, sport)
+                : skiLiftService.findAllSkiLifts();
         return ResponseEntity.ok(skiLifts);
     }
 
+    @GetMapping(value = "/ski-lifts", params = FIELDS_PARAM)
+    public ResponseEntity<List<Map<String, Object>>> getSkiLiftProjections(@RequestParam String fields,
+            @RequestParam(required = false) SkiLiftStatus status, @RequestParam(required = false) SkiLiftType type,
+            @RequestParam(required = false) String sport, @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit, WebRequest request) {
+        Set<SkiLiftField> projection = checkFields(SKILIFT_ENTITY_NAME, fields, SkiLiftField.ID,
+                SkiLiftField::fromProperty);
+        boolean paged = after != null || limit != null;
+        int pageSize = paged ? checkPageRequest(SKILIFT_ENTITY_NAME, after, limit) : 0;
+        if (isCollectionNotModified(request, skiLiftService.skiLiftsVersion())) {
+            return null;
+        }
+
+        if (paged) {
+            List<Map<String, Object>> page = skiLiftService.findSkiLiftProjectionPage(status, type, sport, after,
+                    pageSize, projection);
+            return pageResponse(page, pageSize, skiLift -> (Long) skiLift.get(SkiLiftField.ID.getProperty()));
+        }
+
+        List<Map<String, Object>> skiLifts = skiLiftService.findSkiLiftProjections(status, type, sport, projection);
+        return ResponseEntity.ok(skiLifts);
+    }
+
+    @GetMapping(value = "/ski-lifts/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportSkiLifts() {
+        StreamingResponseBody body = this::writeSkiLiftsAsNdjson;
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @GetMapping(value = "/ski-lifts/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSkiLiftEvents(
+            @RequestHeader(value = LAST_EVENT_ID_HEADER, required = false) String lastEventId) {
+        return skiLiftEventStream.open(lastEventId);
+    }
+
     @GetMapping("/ski-lifts/{id}")
-    public ResponseEntity<SkiLiftDTO> getSkiLiftById(@PathVariable Long id) {
+    public ResponseEntity<SkiLiftDTO> getSkiLiftById(@PathVariable Long id, WebRequest request) {
+        if (isNotModified(request, skiLiftService.skiLiftVersion(id))) {
+            return null;
+        }
+
         SkiLiftDTO skiLift = skiLiftService.findSkiLiftById(id);
         return ResponseEntity.ok(skiLift);
     }
 
+    @GetMapping(value = "/ski-lifts/{id}", params = FIELDS_PARAM)
+    public ResponseEntity<Map<String, Object>> getSkiLiftProjectionById(@PathVariable Long id,
+            @RequestParam String fields, WebRequest request) {
+        Set<SkiLiftField> projection = checkFields(SKILIFT_ENTITY_NAME, fields, SkiLiftField.ID,
+                SkiLiftField::fromProperty);
+        if (isNotModified(request, skiLiftService.skiLiftVersion(id))) {
+            return null;
+        }
+
+        Map<String, Object> skiLift = skiLiftService.findSkiLiftProjectionById(id, projection);
+        return ResponseEntity.ok(skiLift);
+    }
+
     @PutMapping("/ski-lifts/{id}")
     public ResponseEntity<SkiLiftDTO> updateSkiLift(@PathVariable Long id,
             @Validated(OnUpdate.class) @RequestBody SkiLiftDTO skiLiftDTO) {
@@ -106,9 +276,219 @@ public class DispatcherController {
         return ResponseEntity.ok(updatedSkiLift);
     }
 
+    /**
+     * JSON Merge Patch (RFC 7396): the members present are the properties to
+     * change, and {@code null} resets a property the way the DTO would, which
+     * fails validation for required ones. An {@code id} member must match the
+     * URL.
+     */
+    @PatchMapping(value = "/ski-lifts/{id}", consumes = { MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity<SkiLiftDTO> patchSkiLift(@PathVariable Long id, @RequestBody JsonNode patch) {
+        if (!patch.isObject()) {
+            throw new ValidationException(SKILIFT_ENTITY_NAME, ValidationContextType.REQUEST,
+                    ErrorMessageConstants.Validation.PATCH_NOT_AN_OBJECT);
+        }
+
+        Set<SkiLiftField> fields = EnumSet.noneOf(SkiLiftField.class);
+        for (Iterator<String> names = patch.fieldNames(); names.hasNext();) {
+            String name = names.next();
+            fields.add(SkiLiftField.fromProperty(name).orElseThrow(() -> new ValidationException(SKILIFT_ENTITY_NAME,
+                    ValidationContextType.REQUEST,
+                    String.format(ErrorMessageConstants.Validation.PATCH_UNKNOWN_PROPERTY, name))));
+        }
+
+        SkiLiftDTO changes = readPatch(patch);
+        if (fields.remove(SkiLiftField.ID) && !id.equals(changes.getId())) {
+            throw new ValidationException(SKILIFT_ENTITY_NAME, ValidationContextType.REQUEST,
+                    SKILIFT_ID_MISMATCH_ERROR);
+        }
+
+        SkiLiftDTO patchedSkiLift = skiLiftService.patchSkiLift(id, changes, fields);
+        return ResponseEntity.ok(patchedSkiLift);
+    }
+
+    /**
+     * Status flips are most of the writes, so they get a path of their own
+     * whose body is just the new status as a JSON string.
+     */
+    @PatchMapping(value = "/ski-lifts/{id}/status", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<SkiLiftDTO> updateSkiLiftStatus(@PathVariable Long id,
+            @RequestBody SkiLiftStatus status) {
+        SkiLiftDTO updatedSkiLift = skiLiftService.updateSkiLiftStatus(id, status);
+        return ResponseEntity.ok(updatedSkiLift);
+    }
+
+    @PutMapping("/ski-lifts/batch")
+    public ResponseEntity<List<SkiLiftDTO>> updateSkiLifts(@RequestBody List<SkiLiftDTO> skiLiftDTOs) {
+        checkBatchSize(skiLiftDTOs);
+
+        List<SkiLiftDTO> updatedSkiLifts = skiLiftService.updateSkiLifts(skiLiftDTOs);
+        return ResponseEntity.ok(updatedSkiLifts);
+    }
+
     @DeleteMapping("/ski-lifts/{id}")
     public ResponseEntity<Void> deleteSkiLift(@PathVariable Long id) {
         skiLiftService.deleteSkiLift(id);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Answers a conditional GET from the repository version alone, before any
+     * row is read, mapped or serialized. When the tag matches, the response is
+     * already a 304 and the handler returns {@code null}; otherwise the tag is
+     * set on the response about to be written. The version is read before the
+     * data, so a tag can only be older than its body, never newer.
+     */
+    private static boolean isNotModified(WebRequest request, OptionalLong version) {
+        vary(request, HttpHeaders.ACCEPT);
+        return isNotModified(request, version, formatOf(request));
+    }
+
+    /**
+     * Collections may also go out gzip-encoded, which is a representation of
+     * its own with its own tag. Only the converter knows whether the body is
+     * large enough to compress, so the response is tagged as identity and the
+     * converter adds the gzip suffix when it compresses; a client holding
+     * either tag of the current version gets a 304.
+     */
+    private static boolean isCollectionNotModified(WebRequest request, OptionalLong version) {
+        vary(request, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING);
+        if (version.isEmpty()) {
+            return false;
+        }
+        String representation = formatOf(request);
+        String gzipTag = etag(version.getAsLong(), representation + "-" + CachedJsonHttpMessageConverter.GZIP);
+        // A checked tag is left on the response, so the gzip one is only checked when the client holds it.
+        if (CachedJsonHttpMessageConverter.acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))
+                && isHeld(request, gzipTag)) {
+            return request.checkNotModified(gzipTag);
+        }
+        return request.checkNotModified(etag(version.getAsLong(), representation));
+    }
+
+    private static boolean isNotModified(WebRequest request, OptionalLong version, String representation) {
+        return version.isPresent() && request.checkNotModified(etag(version.getAsLong(), representation));
+    }
+
+    private static String etag(long version, String representation) {
+        return '"' + ETAG_EPOCH + '-' + Long.toString(version, Character.MAX_RADIX) + representation + '"';
+    }
+
+    private static boolean isHeld(WebRequest request, String etag) {
+        String[] ifNoneMatch = request.getHeaderValues(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            for (String value : ifNoneMatch) {
+                if (value.contains(etag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // JSON unless the client names a binary format; then the Accept value itself keys the tag.
+    private static String formatOf(WebRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null) {
+            return "";
+        }
+        String lowerCase = accept.toLowerCase(Locale.ROOT);
+        if (!lowerCase.contains(CBOR_SUBTYPE) && !lowerCase.contains(SMILE_SUBTYPE)) {
+            return "";
+        }
+        return "-" + Integer.toString(accept.hashCode() & Integer.MAX_VALUE, Character.MAX_RADIX);
+    }
+
+    private static void vary(WebRequest request, String headers) {
+        if (request instanceof ServletWebRequest servletRequest && servletRequest.getResponse() != null) {
+            servletRequest.getResponse().addHeader(HttpHeaders.VARY, headers);
+        }
+    }
+
+    private int checkPageRequest(String entityName, Long after, Integer limit) {
+        if (after != null && after < 0) {
+            throw new ValidationException(entityName, ValidationContextType.REQUEST,
+                    ErrorMessageConstants.Validation.PAGE_CURSOR_NEGATIVE);
+        }
+        if (limit == null) {
+            return ValidationConstants.PAGE_DEFAULT_SIZE;
+        }
+        if (limit < 1 || limit > ValidationConstants.PAGE_MAX_SIZE) {
+            throw new ValidationException(entityName, ValidationContextType.REQUEST, String
+                    .format(ErrorMessageConstants.Validation.PAGE_LIMIT_OUT_OF_RANGE, ValidationConstants.PAGE_MAX_SIZE));
+        }
+        return limit;
+    }
+
+    /**
+     * Reads a comma-separated {@code fields} list into the properties to map and
+     * write. The id is always part of it: it names the item and is the cursor of
+     * the next page.
+     */
+    private static <F extends Enum<F>> Set<F> checkFields(String entityName, String fields, F id,
+            Function<String, Optional<F>> lookup) {
+        Set<F> projection = EnumSet.of(id);
+        for (String property : fields.split(",")) {
+            String name = property.trim();
+            if (!name.isEmpty()) {
+                projection.add(lookup.apply(name).orElseThrow(() -> new ValidationException(entityName,
+                        ValidationContextType.REQUEST,
+                        String.format(ErrorMessageConstants.Validation.FIELDS_UNKNOWN, name))));
+            }
+        }
+        return projection;
+    }
+
+    private SkiLiftDTO readPatch(JsonNode patch) {
+        try {
+            return objectMapper.treeToValue(patch, SkiLiftDTO.class);
+        } catch (JsonProcessingException e) {
+            throw new ValidationException(SKILIFT_ENTITY_NAME, ValidationContextType.REQUEST,
+                    ErrorMessageConstants.Validation.REQUEST_PARSING_ERROR);
+        }
+    }
+
+    private void checkBatchSize(List<SkiLiftDTO> skiLiftDTOs) {
+        if (skiLiftDTOs.isEmpty() || skiLiftDTOs.size() > ValidationConstants.BATCH_MAX_SIZE) {
+            throw new ValidationException(SKILIFT_ENTITY_NAME, ValidationContextType.REQUEST, String
+                    .format(ErrorMessageConstants.Validation.BATCH_SIZE_OUT_OF_RANGE, ValidationConstants.BATCH_MAX_SIZE));
+        }
+    }
+
+    private <T> ResponseEntity<List<T>> pageResponse(List<T> page, int pageSize, Function<T, Long> idExtractor) {
+        if (page.size() < pageSize) {
+            return ResponseEntity.ok(page);
+        }
+        Long nextCursor = idExtractor.apply(page.get(page.size() - 1));
+        return ResponseEntity.ok().header(NEXT_CURSOR_HEADER, String.valueOf(nextCursor)).body(page);
+    }
+
+    /**
+     * Walks the catalogue one cursor page at a time and writes one JSON document
+     * per line, flushing after each page. Only a single page is ever held in
+     * memory, and a slow client blocks the loop on the socket write instead of
+     * letting rows pile up in a buffer.
+     */
+    private void writeSkiLiftsAsNdjson(OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            ObjectWriter writer = objectMapper.writerFor(SkiLiftDTO.class)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+            Long after = null;
+            List<SkiLiftDTO> page;
+            do {
+                page = skiLiftService.findSkiLiftPage(null, null, null, after, EXPORT_BATCH_SIZE);
+                for (SkiLiftDTO skiLift : page) {
+                    writer.writeValue(generator, skiLift);
+                    generator.writeRaw('\n');
+                }
+                generator.flush();
+                if (!page.isEmpty()) {
+                    after = page.get(page.size() - 1).getId();
+                }
+            } while (page.size() == EXPORT_BATCH_SIZE);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package fr.apsprevoyance.skylift.controller;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import fr.apsprevoyance.skylift.dto.SkiLiftDTO;
+import fr.apsprevoyance.skylift.exception.EntityNotFoundException;
+import fr.apsprevoyance.skylift.service.SkiLiftChangeBus;
+import fr.apsprevoyance.skylift.service.SkiLiftService;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Server-sent events of the ski lift changes.
+ * <p>
+ * Every client is flushed at most once per {@link #FLUSH_MILLIS}, so a lift
+ * changed several times in that window is sent once, with its state at send
+ * time. A {@code changed} event carries the lift, a {@code deleted} event its
+ * id, and a {@code reset} event asks the client to reload the whole list.
+ */
+@Component
+public class SkiLiftEventStream {
+
+    public static final String CHANGED_EVENT = "changed";
+    public static final String DELETED_EVENT = "deleted";
+    public static final String RESET_EVENT = "reset";
+    static final long FLUSH_MILLIS = 250;
+    static final long HEARTBEAT_MILLIS = 20_000;
+    static final long TIMEOUT_MILLIS = 10 * 60_000;
+
+    private static final Logger log = LoggerFactory.getLogger(SkiLiftEventStream.class);
+    private static final String RESET_DATA = "reload";
+
+    private final SkiLiftChangeBus changeBus;
+    private final SkiLiftService skiLiftService;
+    private final Set<Client> clients = ConcurrentHashMap.newKeySet();
+    // Sends block on slow clients, so each flush gets its own virtual thread instead of holding the ticker.
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService ticker;
+
+    public SkiLiftEventStream(SkiLiftChangeBus changeBus, SkiLiftService skiLiftService) {
+        this.changeBus = changeBus;
+        this.skiLiftService = skiLiftService;
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ski-lift-events");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleWithFixedDelay(this::tick, FLUSH_MILLIS, FLUSH_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Opens a stream resuming after {@code lastEventId}, or starting with a
+     * reset when there is none to resume from.
+     */
+    public SseEmitter open(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(TIMEOUT_MILLIS);
+        Client client = new Client(emitter, changeBus.subscribe(lastEventId, SkiLiftChangeBus.DEFAULT_BUFFER));
+        emitter.onCompletion(client::close);
+        emitter.onTimeout(client::close);
+        emitter.onError(error -> client.close());
+        clients.add(client);
+        return emitter;
+    }
+
+    int clients() {
+        return clients.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdown();
+        senders.shutdown();
+        clients.forEach(client -> {
+            client.close();
+            client.emitter.complete();
+        });
+    }
+
+    void tick() {
+        long now = System.currentTimeMillis();
+        for (Client client : clients) {
+            boolean due = client.subscription.hasChanges() || now - client.lastSent >= HEARTBEAT_MILLIS;
+            if (due && client.sending.compareAndSet(false, true)) {
+                senders.execute(() -> flush(client));
+            }
+        }
+    }
+
+    private void flush(Client client) {
+        try {
+            List<SkiLiftChangeBus.Change> changes = client.subscription.drain();
+            if (changes.isEmpty()) {
+                client.emitter.send(SseEmitter.event().comment("heartbeat"));
+            }
+            for (SkiLiftChangeBus.Change change : changes) {
+                client.emitter.send(toEvent(change));
+            }
+            client.lastSent = System.currentTimeMillis();
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Closing ski lift event stream: {}", e.getMessage());
+            client.close();
+        } finally {
+            client.sending.set(false);
+        }
+    }
+
+    private SseEmitter.SseEventBuilder toEvent(SkiLiftChangeBus.Change change) {
+        SseEmitter.SseEventBuilder event = SseEmitter.event().id(changeBus.eventId(change.sequence()));
+        if (change.isReset()) {
+            return event.name(RESET_EVENT).data(RESET_DATA);
+        }
+        // The builder writes as it goes, so the lift is read before the event is named.
+        SkiLiftDTO skiLift;
+        try {
+            skiLift = skiLiftService.findSkiLiftById(change.id());
+        } catch (EntityNotFoundException e) {
+            return event.name(DELETED_EVENT).data(change.id());
+        }
+        return event.name(CHANGED_EVENT).data(skiLift, MediaType.APPLICATION_JSON);
+    }
+
+    private final class Client {
+
+        private final SseEmitter emitter;
+        private final SkiLiftChangeBus.Subscription subscription;
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private volatile long lastSent = System.currentTimeMillis();
+
+        private Client(SseEmitter emitter, SkiLiftChangeBus.Subscription subscription) {
+            this.emitter = emitter;
+            this.subscription = subscription;
+        }
+
+        private void close() {
+            clients.remove(this);
+            subscription.close();
+        }
+    }
+}
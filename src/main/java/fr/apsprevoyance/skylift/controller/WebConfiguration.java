@@ -0,0 +1,50 @@
+package fr.apsprevoyance.skylift.controller;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Puts the pre-encoded JSON converter ahead of Jackson, which still handles
+ * every other body and all request parsing.
+ * <p>
+ * CBOR and Smile are negotiated through {@code Accept} and
+ * {@code Content-Type} like JSON. Their converters are built from the same
+ * customised builder as the application's mapper, so the binary formats carry
+ * exactly the fields and date formats the JSON does; they replace the
+ * defaults Spring would build without those customisations.
+ */
+@Configuration
+public class WebConfiguration implements WebMvcConfigurer {
+
+    private final ObjectMapper objectMapper;
+
+    public WebConfiguration(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new CachedJsonHttpMessageConverter(objectMapper));
+    }
+}
@@ -1,6 +1,7 @@
 package fr.apsprevoyance.skylift.dto;
 
 import java.time.LocalDate;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -10,17 +11,19 @@ import fr.apsprevoyance.skylift.enums.SkiLiftStatus;
 import fr.apsprevoyance.skylift.enums.SkiLiftType;
 import fr.apsprevoyance.skylift.validation.OnCreate;
 import fr.apsprevoyance.skylift.validation.OnUpdate;
+import fr.apsprevoyance.skylift.validation.ValidName;
 import fr.apsprevoyance.skylift.validation.ValidSkiLiftDate;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
 import jakarta.validation.groups.Default;
 
 public class SkiLiftDTO {
 
+    private static final String READ_ONLY_MESSAGE = "SkiLiftDTO is read-only";
+
     @NotNull(groups = OnUpdate.class, message = AnnotationMessages.Id.NULL)
     @Positive(groups = { OnUpdate.class, OnCreate.class, Default.class }, message = AnnotationMessages.Id.POSITIVE)
     private Long id;
@@ -28,8 +31,7 @@ public class SkiLiftDTO {
     @NotBlank(groups = { OnUpdate.class, OnCreate.class }, message = AnnotationMessages.Name.EMPTY)
     @Size(groups = { OnUpdate.class, OnCreate.class,
             Default.class }, min = ValidationConstants.NAME_MIN_LENGTH, max = ValidationConstants.NAME_MAX_LENGTH, message = AnnotationMessages.Name.TEXT_LENGHT)
-    @Pattern(groups = { OnUpdate.class, OnCreate.class,
-            Default.class }, regexp = ValidationConstants.REGEX_NAME_VALID_CHARS, message = AnnotationMessages.Name.INVALID_CHARS)
+    @ValidName(groups = { OnUpdate.class, OnCreate.class, Default.class })
     private String name;
 
     @NotNull(groups = { OnUpdate.class, OnCreate.class }, message = AnnotationMessages.Type.NULL)
@@ -49,11 +51,14 @@ public class SkiLiftDTO {
     @ValidSkiLiftDate(groups = { OnUpdate.class, OnCreate.class, Default.class })
     private LocalDate commissioningDate;
 
+    private boolean readOnly;
+
     public Long getId() {
         return id;
     }
 
     public void setId(Long id) {
+        checkWritable();
         this.id = id;
     }
 
@@ -62,6 +67,7 @@ public class SkiLiftDTO {
     }
 
     public void setName(String name) {
+        checkWritable();
         this.name = name;
     }
 
@@ -70,6 +76,7 @@ public class SkiLiftDTO {
     }
 
     public void setType(SkiLiftType type) {
+        checkWritable();
         this.type = type;
     }
 
@@ -78,6 +85,7 @@ public class SkiLiftDTO {
     }
 
     public void setStatus(SkiLiftStatus status) {
+        checkWritable();
         this.status = status;
     }
 
@@ -86,6 +94,7 @@ public class SkiLiftDTO {
     }
 
     public void setComment(String comment) {
+        checkWritable();
         this.comment = comment != null ? comment : "";
     }
 
@@ -94,6 +103,7 @@ public class SkiLiftDTO {
     }
 
     public void setAvailableSports(Set<String> availableSports) {
+        checkWritable();
         this.availableSports = availableSports != null ? availableSports : new HashSet<>();
     }
 
@@ -102,6 +112,23 @@ public class SkiLiftDTO {
     }
 
     public void setCommissioningDate(LocalDate commissioningDate) {
+        checkWritable();
         this.commissioningDate = commissioningDate;
     }
-}
\ No newline at end of file
+
+    /**
+     * Makes every setter throw {@link UnsupportedOperationException}. The
+     * services freeze the DTOs they cache, since every caller gets the same
+     * instance.
+     */
+    public void freeze() {
+        availableSports = Collections.unmodifiableSet(availableSports);
+        readOnly = true;
+    }
+
+    private void checkWritable() {
+        if (readOnly) {
+            throw new UnsupportedOperationException(READ_ONLY_MESSAGE);
+        }
+    }
+}
@@ -5,15 +5,17 @@ import fr.apsprevoyance.skylift.constants.ValidationConstants;
 import fr.apsprevoyance.skylift.enums.Season;
 import fr.apsprevoyance.skylift.validation.OnCreate;
 import fr.apsprevoyance.skylift.validation.OnUpdate;
+import fr.apsprevoyance.skylift.validation.ValidName;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
 import jakarta.validation.groups.Default;
 
 public class SportDTO {
 
+    private static final String READ_ONLY_MESSAGE = "SportDTO is read-only";
+
     @NotNull(groups = OnUpdate.class, message = AnnotationMessages.Id.NULL)
     @Positive(groups = { OnUpdate.class, OnCreate.class, Default.class }, message = AnnotationMessages.Id.POSITIVE)
     private Long id;
@@ -21,8 +23,7 @@ public class SportDTO {
     @NotBlank(groups = { OnUpdate.class, OnCreate.class }, message = AnnotationMessages.Name.EMPTY)
     @Size(groups = { OnUpdate.class, OnCreate.class,
             Default.class }, min = ValidationConstants.NAME_MIN_LENGTH, max = ValidationConstants.NAME_MAX_LENGTH, message = AnnotationMessages.Name.TEXT_LENGHT)
-    @Pattern(groups = { OnUpdate.class, OnCreate.class,
-            Default.class }, regexp = ValidationConstants.REGEX_NAME_VALID_CHARS, message = AnnotationMessages.Name.INVALID_CHARS)
+    @ValidName(groups = { OnUpdate.class, OnCreate.class, Default.class })
     private String name;
 
     @Size(groups = { OnUpdate.class, OnCreate.class,
@@ -34,11 +35,14 @@ public class SportDTO {
     @NotNull(groups = { OnUpdate.class, OnCreate.class }, message = AnnotationMessages.Season.NULL)
     private Season season;
 
+    private boolean readOnly;
+
     public Long getId() {
         return id;
     }
 
     public void setId(Long id) {
+        checkWritable();
         this.id = id;
     }
 
@@ -47,6 +51,7 @@ public class SportDTO {
     }
 
     public void setName(String name) {
+        checkWritable();
         this.name = name;
     }
 
@@ -55,6 +60,7 @@ public class SportDTO {
     }
 
     public void setDescription(String description) {
+        checkWritable();
         this.description = description != null ? description : "";
     }
 
@@ -63,6 +69,7 @@ public class SportDTO {
     }
 
     public void setActive(boolean active) {
+        checkWritable();
         this.active = active;
     }
 
@@ -71,6 +78,22 @@ public class SportDTO {
     }
 
     public void setSeason(Season season) {
+        checkWritable();
         this.season = season;
     }
-}
\ No newline at end of file
+
+    /**
+     * Makes every setter throw {@link UnsupportedOperationException}. The
+     * services freeze the DTOs they cache, since every caller gets the same
+     * instance.
+     */
+    public void freeze() {
+        readOnly = true;
+    }
+
+    private void checkWritable() {
+        if (readOnly) {
+            throw new UnsupportedOperationException(READ_ONLY_MESSAGE);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package fr.apsprevoyance.skylift.enums;
+
+import java.util.Optional;
+
+/**
+ * The properties of a ski lift a client can select with {@code fields=}, in
+ * the order {@code SkiLiftDTO} writes them.
+ */
+public enum SkiLiftField {
+
+    ID("id"),
+    NAME("name"),
+    TYPE("type"),
+    STATUS("status"),
+    COMMENT("comment"),
+    AVAILABLE_SPORTS("availableSports"),
+    COMMISSIONING_DATE("commissioningDate");
+
+    private final String property;
+
+    SkiLiftField(String property) {
+        this.property = property;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public static Optional<SkiLiftField> fromProperty(String property) {
+        for (SkiLiftField field : values()) {
+            if (field.property.equals(property)) {
+                return Optional.of(field);
+            }
+        }
+        return Optional.empty();
+    }
+}
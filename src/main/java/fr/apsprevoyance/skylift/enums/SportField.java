@@ -0,0 +1,35 @@
+package fr.apsprevoyance.skylift.enums;
+
+import java.util.Optional;
+
+/**
+ * The properties of a sport a client can select with {@code fields=}, in the
+ * order {@code SportDTO} writes them.
+ */
+public enum SportField {
+
+    ID("id"),
+    NAME("name"),
+    DESCRIPTION("description"),
+    ACTIVE("active"),
+    SEASON("season");
+
+    private final String property;
+
+    SportField(String property) {
+        this.property = property;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public static Optional<SportField> fromProperty(String property) {
+        for (SportField field : values()) {
+            if (field.property.equals(property)) {
+                return Optional.of(field);
+            }
+        }
+        return Optional.empty();
+    }
+}
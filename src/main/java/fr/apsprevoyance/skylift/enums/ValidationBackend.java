@@ -0,0 +1,5 @@
+package fr.apsprevoyance.skylift.enums;
+
+public enum ValidationBackend {
+    BEAN_VALIDATION, COMPILED;
+}
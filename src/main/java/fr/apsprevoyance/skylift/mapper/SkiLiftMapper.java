@@ -1,5 +1,9 @@
 package fr.apsprevoyance.skylift.mapper;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -7,6 +11,7 @@ import org.mapstruct.NullValuePropertyMappingStrategy;
 import org.springframework.stereotype.Component;
 
 import fr.apsprevoyance.skylift.dto.SkiLiftDTO;
+import fr.apsprevoyance.skylift.enums.SkiLiftField;
 import fr.apsprevoyance.skylift.model.SkiLift;
 
 @Component
@@ -22,6 +27,26 @@ public interface SkiLiftMapper {
 
     SkiLiftDTO toDto(SkiLift entity);
 
+    /**
+     * Reads only the requested properties, with the values {@link #toDto}
+     * would give them; the others are never copied.
+     */
+    default Map<String, Object> toProjection(SkiLift entity, Set<SkiLiftField> fields) {
+        Map<String, Object> projection = new LinkedHashMap<>();
+        for (SkiLiftField field : fields) {
+            projection.put(field.getProperty(), switch (field) {
+            case ID -> entity.getId();
+            case NAME -> entity.getName();
+            case TYPE -> entity.getType();
+            case STATUS -> entity.getStatus();
+            case COMMENT -> entity.getComment() != null ? entity.getComment() : "";
+            case AVAILABLE_SPORTS -> entity.getAvailableSports() != null ? entity.getAvailableSports() : Set.of();
+            case COMMISSIONING_DATE -> entity.getCommissioningDate();
+            });
+        }
+        return projection;
+    }
+
     default SkiLift.Builder dtoToBuilderForCreate(SkiLiftDTO dto) {
         if (dto == null) {
             return SkiLift.builder();
@@ -51,6 +76,25 @@ public interface SkiLiftMapper {
                 .commissioningDate(dto.getCommissioningDate());
     }
     
+    /**
+     * Copies the listed properties of {@code dto}, and only those, so a patch
+     * can set a property to what its DTO setter makes of {@code null}.
+     */
+    default void updateEntityFromDto(SkiLiftDTO dto, Set<SkiLiftField> fields,
+            @MappingTarget SkiLift.Builder builder) {
+        for (SkiLiftField field : fields) {
+            switch (field) {
+            case ID -> builder.id(dto.getId());
+            case NAME -> builder.name(dto.getName());
+            case TYPE -> builder.type(dto.getType());
+            case STATUS -> builder.status(dto.getStatus());
+            case COMMENT -> builder.comment(dto.getComment());
+            case AVAILABLE_SPORTS -> builder.availableSports(dto.getAvailableSports());
+            case COMMISSIONING_DATE -> builder.commissioningDate(dto.getCommissioningDate());
+            }
+        }
+    }
+
     default void updateEntityFromDto(SkiLiftDTO dto, @MappingTarget SkiLift.Builder builder) {
         if (dto == null) {
             return;
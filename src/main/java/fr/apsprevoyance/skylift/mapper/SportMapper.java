@@ -1,11 +1,16 @@
 package fr.apsprevoyance.skylift.mapper;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.NullValuePropertyMappingStrategy;
 import org.springframework.stereotype.Component;
 
 import fr.apsprevoyance.skylift.dto.SportDTO;
+import fr.apsprevoyance.skylift.enums.SportField;
 import fr.apsprevoyance.skylift.model.Sport;
 
 @Component
@@ -21,6 +26,24 @@ public interface SportMapper {
 
     SportDTO toDto(Sport entity);
 
+    /**
+     * Reads only the requested properties, with the values {@link #toDto}
+     * would give them; the others are never copied.
+     */
+    default Map<String, Object> toProjection(Sport entity, Set<SportField> fields) {
+        Map<String, Object> projection = new LinkedHashMap<>();
+        for (SportField field : fields) {
+            projection.put(field.getProperty(), switch (field) {
+            case ID -> entity.getId();
+            case NAME -> entity.getName();
+            case DESCRIPTION -> entity.getDescription() != null ? entity.getDescription() : "";
+            case ACTIVE -> entity.isActive();
+            case SEASON -> entity.getSeason();
+            });
+        }
+        return projection;
+    }
+
     default Sport.Builder dtoToBuilderForCreate(SportDTO dto) {
         if (dto == null) {
             return Sport.builder();
@@ -12,13 +12,13 @@ import fr.apsprevoyance.skylift.enums.SkiLiftStatus;
 import fr.apsprevoyance.skylift.enums.SkiLiftType;
 import fr.apsprevoyance.skylift.validation.OnCreate;
 import fr.apsprevoyance.skylift.validation.OnUpdate;
+import fr.apsprevoyance.skylift.validation.ValidName;
 import fr.apsprevoyance.skylift.validation.ValidSkiLiftDate;
 import jakarta.annotation.Generated;
 import jakarta.annotation.Nonnull;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
 import jakarta.validation.groups.Default;
@@ -27,11 +27,11 @@ public class SkiLift {
 
     @NotNull(groups = OnUpdate.class, message = AnnotationMessages.Id.NULL)
     @Positive(message = AnnotationMessages.Id.POSITIVE)
-    private Long id;
+    private final Long id;
 
     @NotBlank(groups = { OnUpdate.class, OnCreate.class }, message = AnnotationMessages.Name.EMPTY)
     @Size(min = ValidationConstants.NAME_MIN_LENGTH, max = ValidationConstants.NAME_MAX_LENGTH, message = AnnotationMessages.Name.TEXT_LENGHT)
-    @Pattern(regexp = ValidationConstants.REGEX_NAME_VALID_CHARS, message = AnnotationMessages.Name.INVALID_CHARS)
+    @ValidName
     private final String name;
 
     @NotNull(groups = { OnUpdate.class, OnCreate.class }, message = AnnotationMessages.Type.NULL)
@@ -51,6 +51,9 @@ public class SkiLift {
     @ValidSkiLiftDate(groups = { OnUpdate.class, OnCreate.class, Default.class })
     private final LocalDate commissioningDate;
 
+    // Every field is final, so the hash is computed on first use and kept; 0 means not computed yet.
+    private int hash;
+
     @Generated("SparkTools")
     private SkiLift(Builder builder) {
         this.id = builder.id;
@@ -58,7 +61,7 @@ public class SkiLift {
         this.type = builder.type;
         this.status = builder.status;
         this.comment = builder.comment;
-        this.availableSports = Collections.unmodifiableSet(new HashSet<>(builder.availableSports));
+        this.availableSports = builder.availableSports;
         this.commissioningDate = builder.commissioningDate;
     }
 
@@ -75,7 +78,7 @@ public class SkiLift {
         private SkiLiftType type;
         private SkiLiftStatus status;
         private String comment;
-        private Set<String> availableSports = new HashSet<>();
+        private Set<String> availableSports = Set.of();
         private LocalDate commissioningDate = LocalDate.now();
 
         private Builder() {
@@ -107,12 +110,14 @@ public class SkiLift {
         }
 
         public Builder availableSports(Set<String> availableSports) {
-            this.availableSports = availableSports == null ? new HashSet<>() : new HashSet<>(availableSports);
+            this.availableSports = availableSports == null ? Set.of() : copyOf(availableSports);
             return this;
         }
 
         public Builder addAvailableSport(@Nonnull String sport) {
-            this.availableSports.add(sport);
+            Set<String> sports = new HashSet<>(this.availableSports);
+            sports.add(sport);
+            this.availableSports = Collections.unmodifiableSet(sports);
             return this;
         }
 
@@ -125,6 +130,27 @@ public class SkiLift {
             return new SkiLift(this);
         }
 
+        // A compact set is immutable already; any other set is copied once, here, and never again.
+        private static Set<String> copyOf(Set<String> sports) {
+            return sports instanceof SportNameSet ? sports : Collections.unmodifiableSet(new HashSet<>(sports));
+        }
+
+    }
+
+    /**
+     * A builder holding this ski lift's values, for changing a few of them;
+     * the sport set is shared, not copied.
+     */
+    public Builder toBuilder() {
+        Builder builder = new Builder();
+        builder.id = id;
+        builder.name = name;
+        builder.type = type;
+        builder.status = status;
+        builder.comment = comment;
+        builder.availableSports = availableSports;
+        builder.commissioningDate = commissioningDate;
+        return builder;
     }
 
     public Long getId() {
@@ -164,7 +190,21 @@ public class SkiLift {
 
     @Override
     public int hashCode() {
-        return Objects.hash(availableSports, comment, commissioningDate, id, name, status, type);
+        int h = hash;
+        if (h == 0) {
+            // Same value as Objects.hash(availableSports, comment, commissioningDate, id, name, status, type),
+            // without the varargs array.
+            h = 1;
+            h = 31 * h + Objects.hashCode(availableSports);
+            h = 31 * h + Objects.hashCode(comment);
+            h = 31 * h + Objects.hashCode(commissioningDate);
+            h = 31 * h + Objects.hashCode(id);
+            h = 31 * h + Objects.hashCode(name);
+            h = 31 * h + Objects.hashCode(status);
+            h = 31 * h + Objects.hashCode(type);
+            hash = h;
+        }
+        return h;
     }
 
     @Override
@@ -176,8 +216,11 @@ public class SkiLift {
         if (getClass() != obj.getClass())
             return false;
         SkiLift other = (SkiLift) obj;
-        return Objects.equals(availableSports, other.availableSports) && Objects.equals(comment, other.comment)
-                && Objects.equals(commissioningDate, other.commissioningDate) && Objects.equals(id, other.id)
-                && Objects.equals(name, other.name) && status == other.status && type == other.type;
+        // Different cached hashes settle it; otherwise the cheap fields go first.
+        if (hash != 0 && other.hash != 0 && hash != other.hash)
+            return false;
+        return Objects.equals(id, other.id) && status == other.status && type == other.type
+                && Objects.equals(commissioningDate, other.commissioningDate) && Objects.equals(name, other.name)
+                && Objects.equals(availableSports, other.availableSports) && Objects.equals(comment, other.comment);
     }
 }
\ No newline at end of file
@@ -10,10 +10,10 @@ import fr.apsprevoyance.skylift.constants.ValidationConstants;
 import fr.apsprevoyance.skylift.enums.Season;
 import fr.apsprevoyance.skylift.validation.OnCreate;
 import fr.apsprevoyance.skylift.validation.OnUpdate;
+import fr.apsprevoyance.skylift.validation.ValidName;
 import jakarta.annotation.Generated;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
 
@@ -21,11 +21,11 @@ public class Sport {
 
     @NotNull(groups = OnUpdate.class, message = AnnotationMessages.Id.NULL)
     @Positive(message = AnnotationMessages.Id.POSITIVE)
-    private Long id;
+    private final Long id;
 
     @NotBlank(groups = { OnUpdate.class, OnCreate.class }, message = AnnotationMessages.Name.EMPTY)
     @Size(min = ValidationConstants.NAME_MIN_LENGTH, max = ValidationConstants.NAME_MAX_LENGTH, message = AnnotationMessages.Name.TEXT_LENGHT)
-    @Pattern(regexp = ValidationConstants.REGEX_NAME_VALID_CHARS, message = AnnotationMessages.Name.INVALID_CHARS)
+    @ValidName
     private final String name;
 
     @Size(max = ValidationConstants.DESCRIPTION_MAX_LENGTH, message = AnnotationMessages.Description.TOO_LENGHT)
@@ -36,6 +36,9 @@ public class Sport {
     @NotNull(groups = { OnUpdate.class, OnCreate.class }, message = AnnotationMessages.Season.NULL)
     private final Season season;
 
+    // Cached as in SkiLift.
+    private int hash;
+
     @Generated("SparkTools")
     private Sport(Builder builder) {
         this.id = builder.id;
@@ -122,7 +125,18 @@ public class Sport {
 
     @Override
     public int hashCode() {
-        return Objects.hash(active, description, id, name, season);
+        int h = hash;
+        if (h == 0) {
+            // Same value as Objects.hash(active, description, id, name, season), without the varargs array.
+            h = 1;
+            h = 31 * h + Boolean.hashCode(active);
+            h = 31 * h + Objects.hashCode(description);
+            h = 31 * h + Objects.hashCode(id);
+            h = 31 * h + Objects.hashCode(name);
+            h = 31 * h + Objects.hashCode(season);
+            hash = h;
+        }
+        return h;
     }
 
     @Override
@@ -134,7 +148,9 @@ public class Sport {
         if (getClass() != obj.getClass())
             return false;
         Sport other = (Sport) obj;
-        return active == other.active && Objects.equals(description, other.description) && Objects.equals(id, other.id)
-                && Objects.equals(name, other.name) && season == other.season;
+        if (hash != 0 && other.hash != 0 && hash != other.hash)
+            return false;
+        return active == other.active && season == other.season && Objects.equals(id, other.id)
+                && Objects.equals(name, other.name) && Objects.equals(description, other.description);
     }
 }
\ No newline at end of file
@@ -0,0 +1,106 @@
+package fr.apsprevoyance.skylift.model;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable set of catalogue sport names stored as a bitset of
+ * {@link SportNames} ids.
+ * <p>
+ * Only {@link SportNames#compact} builds them, so the bitset is never wider
+ * than the catalogue. Sets whose ids all fit in one word are canonical: every
+ * ski lift offering the same sports shares one instance, so a lift only pays
+ * for a reference. Iteration follows id order; mutators throw
+ * {@link UnsupportedOperationException}.
+ */
+public final class SportNameSet extends AbstractSet<String> {
+
+    private final SportNames names;
+    private final long[] words;
+    private final int size;
+    private final int hash;
+
+    SportNameSet(SportNames names, long[] words) {
+        this.names = names;
+        this.words = words;
+        int bits = 0;
+        int hashes = 0;
+        for (int id = nextId(0); id >= 0; id = nextId(id + 1)) {
+            bits++;
+            hashes += names.nameOf(id).hashCode();
+        }
+        this.size = bits;
+        this.hash = hashes;
+    }
+
+    @Override
+    public boolean contains(Object name) {
+        return contains(names.idOf(name));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<>() {
+            private int next = nextId(0);
+
+            @Override
+            public boolean hasNext() {
+                return next >= 0;
+            }
+
+            @Override
+            public String next() {
+                if (next < 0) {
+                    throw new NoSuchElementException();
+                }
+                String name = names.nameOf(next);
+                next = nextId(next + 1);
+                return name;
+            }
+        };
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof SportNameSet set && set.names == names) {
+            return Arrays.equals(words, set.words);
+        }
+        return super.equals(other);
+    }
+
+    boolean isFrom(SportNames dictionary) {
+        return names == dictionary;
+    }
+
+    private boolean contains(int id) {
+        int word = id >>> 6;
+        return id >= 0 && word < words.length && (words[word] & (1L << id)) != 0;
+    }
+
+    private int nextId(int from) {
+        int word = from >>> 6;
+        if (word >= words.length) {
+            return -1;
+        }
+        long bits = words[word] & (-1L << from);
+        while (bits == 0) {
+            if (++word == words.length) {
+                return -1;
+            }
+            bits = words[word];
+        }
+        return word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+    }
+}
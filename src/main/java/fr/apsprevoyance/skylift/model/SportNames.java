@@ -0,0 +1,111 @@
+package fr.apsprevoyance.skylift.model;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dictionary of the sport catalogue, giving every catalogue name a small,
+ * stable id so {@link SportNameSet} can store a ski lift's sports as bits and
+ * hand out one shared instance of each name.
+ * <p>
+ * Only the sport repository registers names, after it stored a sport, so ids
+ * stay bounded by the catalogue instead of by what clients send. Ids are never
+ * reused: lifts may still carry the name of a deleted sport.
+ */
+public final class SportNames {
+
+    // Distinct sport combinations kept canonical; enough for any real catalogue.
+    private static final int CANONICAL_LIMIT = 4096;
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final Map<Long, SportNameSet> canonical = new ConcurrentHashMap<>();
+    private volatile String[] names = new String[Long.SIZE];
+    private int count;
+
+    /**
+     * The id of the catalogue name {@code name}, assigning the next one if it
+     * is new.
+     */
+    public int register(String name) {
+        Integer id = ids.get(Objects.requireNonNull(name, "sport name cannot be null"));
+        if (id != null) {
+            return id;
+        }
+        synchronized (this) {
+            id = ids.get(name);
+            if (id != null) {
+                return id;
+            }
+            String[] current = names;
+            if (count == current.length) {
+                current = Arrays.copyOf(current, current.length * 2);
+            }
+            current[count] = name;
+            // Published before the id, so a reader that finds the id also finds the name.
+            names = current;
+            ids.put(name, count);
+            return count++;
+        }
+    }
+
+    /**
+     * {@code sports} as a compact, shared {@link SportNameSet} when every name
+     * is in the catalogue, otherwise {@code sports} itself.
+     */
+    public Set<String> compact(Set<String> sports) {
+        if (sports instanceof SportNameSet set && set.isFrom(this) || sports.isEmpty()) {
+            return sports;
+        }
+        long[] words = new long[1];
+        for (String sport : sports) {
+            int id = idOf(sport);
+            if (id < 0) {
+                return sports;
+            }
+            int word = id >>> 6;
+            if (word >= words.length) {
+                words = Arrays.copyOf(words, word + 1);
+            }
+            words[word] |= 1L << id;
+        }
+        return canonical(words);
+    }
+
+    /**
+     * Whether {@code name} is in the catalogue. Only looks, never registers.
+     */
+    public boolean contains(String name) {
+        return idOf(name) >= 0;
+    }
+
+    /**
+     * The id of {@code name}, or -1 if it is not in the catalogue.
+     */
+    int idOf(Object name) {
+        Integer id = name == null ? null : ids.get(name);
+        return id == null ? -1 : id;
+    }
+
+    String nameOf(int id) {
+        return names[id];
+    }
+
+    private SportNameSet canonical(long[] words) {
+        if (words.length > 1) {
+            return new SportNameSet(this, words);
+        }
+        SportNameSet set = canonical.get(words[0]);
+        if (set != null) {
+            return set;
+        }
+        set = new SportNameSet(this, words);
+        if (canonical.size() >= CANONICAL_LIMIT) {
+            return set;
+        }
+        SportNameSet existing = canonical.putIfAbsent(words[0], set);
+        return existing != null ? existing : set;
+    }
+}
@@ -0,0 +1,25 @@
+package fr.apsprevoyance.skylift.repository;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import fr.apsprevoyance.skylift.constants.Profiles;
+import fr.apsprevoyance.skylift.model.SportNames;
+
+/**
+ * Shares the sport catalogue dictionary between the in-memory repositories.
+ * <p>
+ * The dictionary comes from the sport repository, so the ski lift repository,
+ * which needs it to recover its rows compactly, is only built once the
+ * catalogue is loaded.
+ */
+@Configuration
+@Profile(Profiles.IN_MEMORY)
+public class InMemoryRepositoryConfiguration {
+
+    @Bean
+    public SportNames sportNames(SportRepositoryInMemory sportRepository) {
+        return sportRepository.sportNames();
+    }
+}
@@ -0,0 +1,32 @@
+package fr.apsprevoyance.skylift.repository;
+
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-row version numbers of an in-memory repository, drawn from one counter so
+ * no two writes to a row ever share a version.
+ * <p>
+ * Writers call {@link #touch} after storing the row, so a reader that takes the
+ * version before the row may get a row newer than its version, never older.
+ */
+final class RowVersions {
+
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+    private final AtomicLong counter = new AtomicLong();
+
+    void touch(Long id) {
+        versions.put(id, counter.incrementAndGet());
+    }
+
+    void remove(Long id) {
+        versions.remove(id);
+    }
+
+    OptionalLong of(Long id) {
+        Long version = versions.get(id);
+        return version == null ? OptionalLong.empty() : OptionalLong.of(version);
+    }
+}
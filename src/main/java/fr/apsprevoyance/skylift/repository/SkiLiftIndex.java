@@ -0,0 +1,135 @@
+package fr.apsprevoyance.skylift.repository;
+
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import fr.apsprevoyance.skylift.enums.SkiLiftStatus;
+import fr.apsprevoyance.skylift.enums.SkiLiftType;
+import fr.apsprevoyance.skylift.model.SkiLift;
+import fr.apsprevoyance.skylift.model.SportNames;
+
+/**
+ * Secondary indexes of ski lift ids by status, type and available sport.
+ * <p>
+ * Ids are stored as bits, so a combined filter is a couple of word-wise ANDs
+ * and never reads a non-matching row. A bit set costs a bit per id up to the
+ * highest one, so only catalogue sports get one; any other name a lift carries
+ * keeps just the ids of its own rows. Not thread-safe: the owning repository
+ * guards it with its own lock.
+ */
+final class SkiLiftIndex {
+
+    // Ids are bit positions, and BitSet sizes are ints.
+    static final long MAX_ID = Integer.MAX_VALUE - 1L;
+
+    private final Map<SkiLiftStatus, BitSet> byStatus = new EnumMap<>(SkiLiftStatus.class);
+    private final Map<SkiLiftType, BitSet> byType = new EnumMap<>(SkiLiftType.class);
+    private final Map<String, BitSet> bySport = new HashMap<>();
+    private final Map<String, Set<Integer>> byOtherSport = new HashMap<>();
+    private final SportNames sportNames;
+
+    SkiLiftIndex(SportNames sportNames) {
+        this.sportNames = sportNames;
+    }
+
+    static boolean canHold(long id) {
+        return id >= 0 && id <= MAX_ID;
+    }
+
+    void add(SkiLift skiLift) {
+        int bit = bitOf(skiLift);
+        set(byStatus, skiLift.getStatus(), bit);
+        set(byType, skiLift.getType(), bit);
+        for (String sport : skiLift.getAvailableSports()) {
+            if (sportNames.contains(sport)) {
+                set(bySport, sport, bit);
+            } else if (sport != null) {
+                byOtherSport.computeIfAbsent(sport, k -> new HashSet<>()).add(bit);
+            }
+        }
+    }
+
+    // A name may have joined the catalogue since the row was added, so both maps are cleared.
+    void remove(SkiLift skiLift) {
+        int bit = bitOf(skiLift);
+        clear(byStatus, skiLift.getStatus(), bit);
+        clear(byType, skiLift.getType(), bit);
+        for (String sport : skiLift.getAvailableSports()) {
+            clear(bySport, sport, bit);
+            Set<Integer> ids = sport != null ? byOtherSport.get(sport) : null;
+            if (ids != null && ids.remove(bit) && ids.isEmpty()) {
+                byOtherSport.remove(sport);
+            }
+        }
+    }
+
+    void replace(SkiLift previous, SkiLift current) {
+        remove(previous);
+        add(current);
+    }
+
+    /**
+     * Returns the ids matching every non-null criterion, as a fresh bit set the
+     * caller may keep. At least one criterion must be given.
+     */
+    BitSet matching(SkiLiftStatus status, SkiLiftType type, String sport) {
+        BitSet result = null;
+        if (status != null) {
+            result = intersect(result, byStatus.get(status));
+        }
+        if (type != null) {
+            result = intersect(result, byType.get(type));
+        }
+        if (sport != null) {
+            result = intersect(result, sportBits(sport));
+        }
+        return result != null ? result : new BitSet();
+    }
+
+    private BitSet sportBits(String sport) {
+        BitSet bits = bySport.get(sport);
+        Set<Integer> others = byOtherSport.get(sport);
+        if (others == null) {
+            return bits;
+        }
+        BitSet result = bits != null ? (BitSet) bits.clone() : new BitSet();
+        others.forEach(result::set);
+        return result;
+    }
+
+    private static BitSet intersect(BitSet current, BitSet other) {
+        if (other == null) {
+            return new BitSet();
+        }
+        if (current == null) {
+            return (BitSet) other.clone();
+        }
+        current.and(other);
+        return current;
+    }
+
+    private static <K> void set(Map<K, BitSet> index, K key, int bit) {
+        if (key != null) {
+            index.computeIfAbsent(key, k -> new BitSet()).set(bit);
+        }
+    }
+
+    private static <K> void clear(Map<K, BitSet> index, K key, int bit) {
+        BitSet bits = key != null ? index.get(key) : null;
+        if (bits == null) {
+            return;
+        }
+        bits.clear(bit);
+        if (bits.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static int bitOf(SkiLift skiLift) {
+        return Math.toIntExact(skiLift.getId());
+    }
+}
@@ -2,19 +2,61 @@ package fr.apsprevoyance.skylift.repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.UnaryOperator;
 
+import fr.apsprevoyance.skylift.enums.SkiLiftStatus;
+import fr.apsprevoyance.skylift.enums.SkiLiftType;
+import fr.apsprevoyance.skylift.exception.EntityNotFoundException;
 import fr.apsprevoyance.skylift.model.SkiLift;
 
 public interface SkiLiftRepository {
     SkiLift create(SkiLift skiLift);
 
+    List<SkiLift> createAll(List<SkiLift> skiLifts);
+
     List<SkiLift> findAll();
 
     Optional<SkiLift> findById(Long id);
 
     SkiLift update(SkiLift skiLift);
 
+    List<SkiLift> updateAll(List<SkiLift> skiLifts);
+
+    /**
+     * Replaces a row with {@code change} applied to it, and returns the stored
+     * result. When {@code change} returns the row it was given, nothing is
+     * written. This default reads then writes, so concurrent changes to one
+     * row may overwrite each other; repositories that can should apply the
+     * change atomically.
+     */
+    default SkiLift modify(Long id, UnaryOperator<SkiLift> change) {
+        SkiLift current = findById(id).orElseThrow(() -> new EntityNotFoundException("SkiLift", id.toString()));
+        SkiLift changed = change.apply(current);
+        return changed == current ? current : update(changed);
+    }
+
     void delete(Long id);
 
     boolean existsById(Long id);
-}
\ No newline at end of file
+
+    List<SkiLift> findByCriteria(SkiLiftStatus status, SkiLiftType type, String sport);
+
+    List<SkiLift> findPage(SkiLiftStatus status, SkiLiftType type, String sport, Long after, int limit);
+
+    /**
+     * Version of the whole table, bumped after every write, or empty when this
+     * repository does not track versions. Read it before the rows it describes.
+     */
+    default OptionalLong version() {
+        return OptionalLong.empty();
+    }
+
+    /**
+     * Version of one row, changed by every write to it, or empty when the row
+     * does not exist or this repository does not track versions.
+     */
+    default OptionalLong versionOf(Long id) {
+        return OptionalLong.empty();
+    }
+}
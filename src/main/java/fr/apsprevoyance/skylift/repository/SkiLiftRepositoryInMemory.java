@@ -1,97 +1,376 @@
 package fr.apsprevoyance.skylift.repository;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.UnaryOperator;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
 import fr.apsprevoyance.skylift.constants.ErrorMessageConstants;
+import fr.apsprevoyance.skylift.constants.Profiles;
+import fr.apsprevoyance.skylift.enums.SkiLiftStatus;
+import fr.apsprevoyance.skylift.enums.SkiLiftType;
 import fr.apsprevoyance.skylift.enums.ValidationContextType;
 import fr.apsprevoyance.skylift.exception.EntityNotFoundException;
 import fr.apsprevoyance.skylift.exception.ValidationException;
 import fr.apsprevoyance.skylift.model.SkiLift;
+import fr.apsprevoyance.skylift.model.SportNames;
+import fr.apsprevoyance.skylift.repository.wal.Journal;
+import fr.apsprevoyance.skylift.repository.wal.JournalTarget;
 
 @Repository
+@Profile(Profiles.IN_MEMORY)
 public class SkiLiftRepositoryInMemory implements SkiLiftRepository {
     private static final String ENTITY_NAME = "SkiLift";
     private static final String REPOSITORY_CLASS_NAME = SkiLiftRepositoryInMemory.class.getSimpleName();
 
-    private final List<SkiLift> skiLifts = new ArrayList<>();
+    private final Map<Long, SkiLift> skiLifts = new ConcurrentHashMap<>();
+    private final VersionedSnapshot<SkiLift> snapshot = new VersionedSnapshot<>();
+    private final RowVersions rowVersions = new RowVersions();
     private final AtomicLong idCounter = new AtomicLong(1);
 
+    // Point reads go straight to the map; writes and index queries hold this lock so rows and indexes agree.
+    private final SkiLiftIndex index;
+    private final ReadWriteLock indexLock = new ReentrantReadWriteLock();
+
+    // Appended to under the write lock, so the log order is the order writes were applied in.
+    private final Journal<SkiLift> journal;
+
+    // Stored rows get their sports from here, so lifts offering the same catalogue sports share one set.
+    private final SportNames sportNames;
+
+    public SkiLiftRepositoryInMemory() {
+        this(Journal.none());
+    }
+
+    @Autowired
+    public SkiLiftRepositoryInMemory(ObjectProvider<Journal<SkiLift>> journal, SportNames sportNames) {
+        this(journal.getIfAvailable(Journal::none), sportNames);
+    }
+
+    public SkiLiftRepositoryInMemory(Journal<SkiLift> journal) {
+        this(journal, new SportNames());
+    }
+
+    public SkiLiftRepositoryInMemory(Journal<SkiLift> journal, SportNames sportNames) {
+        this.journal = journal;
+        this.sportNames = sportNames;
+        this.index = new SkiLiftIndex(sportNames);
+        journal.recover(new Target());
+        snapshot.invalidate();
+    }
+
     @Override
     public SkiLift create(SkiLift skiLift) {
-        Objects.requireNonNull(skiLift, ErrorMessageConstants.Errors.SPORT_NULL);
+        return createAll(List.of(Objects.requireNonNull(skiLift, ErrorMessageConstants.Errors.SPORT_NULL))).get(0);
+    }
 
-        if (skiLift.getId() != null) {
-            throw new ValidationException(REPOSITORY_CLASS_NAME, ValidationContextType.PERSISTENCE,
-                    ErrorMessageConstants.Errors.SPORT_ID_PREDEFINED);
+    @Override
+    public List<SkiLift> createAll(List<SkiLift> batch) {
+        Objects.requireNonNull(batch, ErrorMessageConstants.Errors.SPORT_NULL);
+
+        List<SkiLift> newSkiLifts = new ArrayList<>(batch.size());
+        for (SkiLift skiLift : batch) {
+            Objects.requireNonNull(skiLift, ErrorMessageConstants.Errors.SPORT_NULL);
+            if (skiLift.getId() != null) {
+                throw new ValidationException(REPOSITORY_CLASS_NAME, ValidationContextType.PERSISTENCE,
+                        ErrorMessageConstants.Errors.SPORT_ID_PREDEFINED);
+            }
         }
 
-        Long newId = idCounter.getAndIncrement();
-        SkiLift newSkiLift = SkiLift.builder().id(newId).name(skiLift.getName()).type(skiLift.getType())
-                .status(skiLift.getStatus()).comment(skiLift.getComment()).availableSports(skiLift.getAvailableSports())
-                .commissioningDate(skiLift.getCommissioningDate()).build();
+        indexLock.writeLock().lock();
+        try {
+            journal.ensureWritable();
+            checkIndexable(idCounter.get() + batch.size() - 1);
+            for (SkiLift skiLift : batch) {
+                Long newId = idCounter.getAndIncrement();
+                SkiLift newSkiLift = copyWithId(skiLift, newId);
+                skiLifts.put(newId, newSkiLift);
+                rowVersions.touch(newId);
+                index.add(newSkiLift);
+                journal.logPut(newSkiLift);
+                newSkiLifts.add(newSkiLift);
+            }
+        } finally {
+            indexLock.writeLock().unlock();
+        }
 
-        skiLifts.add(newSkiLift);
-        return newSkiLift;
+        snapshot.invalidate();
+        return newSkiLifts;
     }
 
     @Override
     public List<SkiLift> findAll() {
-        return new ArrayList<>(skiLifts);
+        return snapshot.get(this::sortedRows);
     }
 
     @Override
     public Optional<SkiLift> findById(Long id) {
         Objects.requireNonNull(id, ErrorMessageConstants.Errors.ID_NULL);
 
-        return skiLifts.stream().filter(skiLift -> id.equals(skiLift.getId())).findFirst();
+        return Optional.ofNullable(skiLifts.get(id));
     }
 
     @Override
     public SkiLift update(SkiLift skiLift) {
-        Objects.requireNonNull(skiLift, ErrorMessageConstants.Errors.SPORT_NULL);
-        Objects.requireNonNull(skiLift.getId(), ErrorMessageConstants.Errors.ID_NULL);
-
-        int index = -1;
-        for (int i = 0; i < skiLifts.size(); i++) {
-            if (skiLifts.get(i).getId().equals(skiLift.getId())) {
-                index = i;
-                break;
-            }
+        return updateAll(List.of(Objects.requireNonNull(skiLift, ErrorMessageConstants.Errors.SPORT_NULL))).get(0);
+    }
+
+    @Override
+    public List<SkiLift> updateAll(List<SkiLift> batch) {
+        Objects.requireNonNull(batch, ErrorMessageConstants.Errors.SPORT_NULL);
+
+        List<SkiLift> updatedSkiLifts = new ArrayList<>(batch.size());
+        for (SkiLift skiLift : batch) {
+            Objects.requireNonNull(skiLift, ErrorMessageConstants.Errors.SPORT_NULL);
+            Objects.requireNonNull(skiLift.getId(), ErrorMessageConstants.Errors.ID_NULL);
+            updatedSkiLifts.add(copyWithId(skiLift, skiLift.getId()));
         }
 
-        if (index == -1) {
-            throw new EntityNotFoundException(ENTITY_NAME, skiLift.getId().toString());
+        indexLock.writeLock().lock();
+        try {
+            journal.ensureWritable();
+            for (SkiLift updatedSkiLift : updatedSkiLifts) {
+                if (!skiLifts.containsKey(updatedSkiLift.getId())) {
+                    throw new EntityNotFoundException(ENTITY_NAME, updatedSkiLift.getId().toString());
+                }
+            }
+            for (SkiLift updatedSkiLift : updatedSkiLifts) {
+                index.replace(skiLifts.put(updatedSkiLift.getId(), updatedSkiLift), updatedSkiLift);
+                rowVersions.touch(updatedSkiLift.getId());
+                journal.logPut(updatedSkiLift);
+            }
+        } finally {
+            indexLock.writeLock().unlock();
         }
 
-        SkiLift updatedSkiLift = SkiLift.builder().id(skiLift.getId()).name(skiLift.getName()).type(skiLift.getType())
-                .status(skiLift.getStatus()).comment(skiLift.getComment()).availableSports(skiLift.getAvailableSports())
-                .commissioningDate(skiLift.getCommissioningDate()).build();
+        snapshot.invalidate();
+        return updatedSkiLifts;
+    }
+
+    // The change runs under the write lock, so it always sees the latest row and no other write lands in between.
+    @Override
+    public SkiLift modify(Long id, UnaryOperator<SkiLift> change) {
+        Objects.requireNonNull(id, ErrorMessageConstants.Errors.ID_NULL);
+
+        SkiLift changed;
+        indexLock.writeLock().lock();
+        try {
+            journal.ensureWritable();
+            SkiLift current = skiLifts.get(id);
+            if (current == null) {
+                throw new EntityNotFoundException(ENTITY_NAME, id.toString());
+            }
+            changed = change.apply(current);
+            if (changed == current) {
+                return current;
+            }
+            changed = withCompactSports(changed);
+            if (!id.equals(changed.getId())) {
+                throw new ValidationException(REPOSITORY_CLASS_NAME, ValidationContextType.PERSISTENCE,
+                        ErrorMessageConstants.Errors.ID_INVALID);
+            }
+            index.replace(skiLifts.put(id, changed), changed);
+            rowVersions.touch(id);
+            journal.logPut(changed);
+        } finally {
+            indexLock.writeLock().unlock();
+        }
 
-        skiLifts.set(index, updatedSkiLift);
-        return updatedSkiLift;
+        snapshot.invalidate();
+        return changed;
     }
 
     @Override
     public void delete(Long id) {
         Objects.requireNonNull(id, ErrorMessageConstants.Errors.ID_NULL);
 
-        boolean removed = skiLifts.removeIf(skiLift -> skiLift.getId().equals(id));
-
-        if (!removed) {
-            throw new EntityNotFoundException(ENTITY_NAME, id.toString());
+        indexLock.writeLock().lock();
+        try {
+            journal.ensureWritable();
+            SkiLift removed = skiLifts.remove(id);
+            if (removed == null) {
+                throw new EntityNotFoundException(ENTITY_NAME, id.toString());
+            }
+            rowVersions.remove(id);
+            index.remove(removed);
+            journal.logDelete(id);
+        } finally {
+            indexLock.writeLock().unlock();
         }
+
+        snapshot.invalidate();
+    }
+
+    @Override
+    public OptionalLong version() {
+        return OptionalLong.of(snapshot.version());
+    }
+
+    @Override
+    public OptionalLong versionOf(Long id) {
+        Objects.requireNonNull(id, ErrorMessageConstants.Errors.ID_NULL);
+
+        return rowVersions.of(id);
     }
 
     @Override
     public boolean existsById(Long id) {
         Objects.requireNonNull(id, ErrorMessageConstants.Errors.ID_NULL);
 
-        return skiLifts.stream().anyMatch(skiLift -> id.equals(skiLift.getId()));
+        return skiLifts.containsKey(id);
+    }
+
+    @Override
+    public List<SkiLift> findByCriteria(SkiLiftStatus status, SkiLiftType type, String sport) {
+        if (status == null && type == null && sport == null) {
+            return findAll();
+        }
+
+        List<SkiLift> result = new ArrayList<>();
+        indexLock.readLock().lock();
+        try {
+            BitSet ids = index.matching(status, type, sport);
+            for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+                result.add(skiLifts.get((long) id));
+            }
+        } finally {
+            indexLock.readLock().unlock();
+        }
+        return result;
+    }
+
+    @Override
+    public List<SkiLift> findPage(SkiLiftStatus status, SkiLiftType type, String sport, Long after, int limit) {
+        if (status == null && type == null && sport == null) {
+            List<SkiLift> all = findAll();
+            int from = after == null ? 0 : firstIndexAfter(all, after);
+            return all.subList(from, Math.min(all.size(), from + limit));
+        }
+
+        List<SkiLift> result = new ArrayList<>(limit);
+        if (after != null && after >= Integer.MAX_VALUE) {
+            return result;
+        }
+
+        indexLock.readLock().lock();
+        try {
+            BitSet ids = index.matching(status, type, sport);
+            int start = after == null ? 0 : (int) Math.max(0, after + 1);
+            for (int id = ids.nextSetBit(start); id >= 0 && result.size() < limit; id = ids.nextSetBit(id + 1)) {
+                result.add(skiLifts.get((long) id));
+            }
+        } finally {
+            indexLock.readLock().unlock();
+        }
+        return result;
+    }
+
+    // Checked before anything is stored, so a row the index cannot hold never reaches the map.
+    private static void checkIndexable(long id) {
+        if (!SkiLiftIndex.canHold(id)) {
+            throw new ValidationException(REPOSITORY_CLASS_NAME, ValidationContextType.PERSISTENCE,
+                    ErrorMessageConstants.Errors.ID_INVALID);
+        }
+    }
+
+    private SkiLift copyWithId(SkiLift skiLift, Long id) {
+        return SkiLift.builder().id(id).name(skiLift.getName()).type(skiLift.getType()).status(skiLift.getStatus())
+                .comment(skiLift.getComment()).availableSports(sportNames.compact(skiLift.getAvailableSports()))
+                .commissioningDate(skiLift.getCommissioningDate()).build();
+    }
+
+    private SkiLift withCompactSports(SkiLift skiLift) {
+        Set<String> sports = sportNames.compact(skiLift.getAvailableSports());
+        return sports == skiLift.getAvailableSports() ? skiLift : skiLift.toBuilder().availableSports(sports).build();
+    }
+
+    // Rebuilt under the read lock so a snapshot never shows half of a batch.
+    private List<SkiLift> sortedRows() {
+        indexLock.readLock().lock();
+        try {
+            // Ids are handed out in increasing order, so sorting by id restores the insertion order.
+            return skiLifts.values().stream().sorted(Comparator.comparing(SkiLift::getId)).toList();
+        } finally {
+            indexLock.readLock().unlock();
+        }
+    }
+
+    private static int firstIndexAfter(List<SkiLift> sortedById, long after) {
+        int low = 0;
+        int high = sortedById.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedById.get(mid).getId() <= after) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private final class Target implements JournalTarget<SkiLift> {
+
+        @Override
+        public void restorePut(SkiLift restored) {
+            SkiLift row = withCompactSports(restored);
+            checkIndexable(row.getId());
+            indexLock.writeLock().lock();
+            try {
+                SkiLift previous = skiLifts.put(row.getId(), row);
+                rowVersions.touch(row.getId());
+                if (previous != null) {
+                    index.remove(previous);
+                }
+                index.add(row);
+            } finally {
+                indexLock.writeLock().unlock();
+            }
+        }
+
+        @Override
+        public void restoreDelete(Long id) {
+            indexLock.writeLock().lock();
+            try {
+                SkiLift removed = skiLifts.remove(id);
+                rowVersions.remove(id);
+                if (removed != null) {
+                    index.remove(removed);
+                }
+            } finally {
+                indexLock.writeLock().unlock();
+            }
+        }
+
+        @Override
+        public void restoreNextId(long nextId) {
+            idCounter.accumulateAndGet(nextId, Math::max);
+        }
+
+        @Override
+        public long nextId() {
+            return idCounter.get();
+        }
+
+        @Override
+        public Collection<SkiLift> rows() {
+            return sortedRows();
+        }
     }
-}
\ No newline at end of file
+}
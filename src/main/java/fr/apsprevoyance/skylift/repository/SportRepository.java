@@ -1,8 +1,10 @@
 // SportRepository.java
 package fr.apsprevoyance.skylift.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 import fr.apsprevoyance.skylift.model.Sport;
 
@@ -18,4 +20,18 @@ public interface SportRepository {
     void delete(Long id);
 
     boolean existsById(Long id);
-}
\ No newline at end of file
+
+    boolean existsAllByName(Collection<String> names);
+
+    List<Sport> findPage(Long after, int limit);
+
+    /** Version of the sport table; same contract as {@link SkiLiftRepository#version()}. */
+    default OptionalLong version() {
+        return OptionalLong.empty();
+    }
+
+    /** Version of one sport; same contract as {@link SkiLiftRepository#versionOf(Long)}. */
+    default OptionalLong versionOf(Long id) {
+        return OptionalLong.empty();
+    }
+}
@@ -1,27 +1,78 @@
 // SportRepositoryInMemory.java
 package fr.apsprevoyance.skylift.repository;
 
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
 import fr.apsprevoyance.skylift.constants.ErrorMessageConstants;
+import fr.apsprevoyance.skylift.constants.Profiles;
 import fr.apsprevoyance.skylift.enums.ValidationContextType;
 import fr.apsprevoyance.skylift.exception.EntityNotFoundException;
 import fr.apsprevoyance.skylift.exception.ValidationException;
 import fr.apsprevoyance.skylift.model.Sport;
+import fr.apsprevoyance.skylift.model.SportNames;
+import fr.apsprevoyance.skylift.repository.wal.Journal;
+import fr.apsprevoyance.skylift.repository.wal.JournalTarget;
 
 @Repository
+@Profile(Profiles.IN_MEMORY)
 public class SportRepositoryInMemory implements SportRepository {
     private static final String ENTITY_NAME = "Sport";
     private static final String REPOSITORY_CLASS_NAME = SportRepositoryInMemory.class.getSimpleName();
+    private static final int LOCK_STRIPES = 32;
 
-    private final List<Sport> sports = new ArrayList<>();
+    // Ids are handed out in increasing order, so the key order of the skip list is the insertion order.
+    private final ConcurrentNavigableMap<Long, Sport> sports = new ConcurrentSkipListMap<>();
+    private final Map<String, Set<Long>> idsByName = new ConcurrentHashMap<>();
+    private final VersionedSnapshot<Sport> snapshot = new VersionedSnapshot<>();
+    private final RowVersions rowVersions = new RowVersions();
     private final AtomicLong idCounter = new AtomicLong(1);
+    private final SportNames sportNames = new SportNames();
+
+    // Writes to the same id are serialised so the row and its name index entry always move together.
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    // Inverted on purpose: writes share the read side, so they only contend on their stripe, while a
+    // snapshot rebuild takes the write side and copies the map with no write half applied.
+    private final ReadWriteLock snapshotLock = new ReentrantReadWriteLock();
+
+    // Appended to under the id's lock, so writes to one id reach the log in the order they were applied.
+    private final Journal<Sport> journal;
+
+    public SportRepositoryInMemory() {
+        this(Journal.none());
+    }
+
+    @Autowired
+    public SportRepositoryInMemory(ObjectProvider<Journal<Sport>> journal) {
+        this(journal.getIfAvailable(Journal::none));
+    }
+
+    public SportRepositoryInMemory(Journal<Sport> journal) {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        this.journal = journal;
+        journal.recover(new Target());
+        snapshot.invalidate();
+    }
 
     @Override
     public Sport create(Sport sport) {
@@ -36,20 +87,27 @@ public class SportRepositoryInMemory implements SportRepository {
         Sport newSport = Sport.builder().id(newId).name(sport.getName()).description(sport.getDescription())
                 .active(sport.isActive()).season(sport.getSeason()).build();
 
-        sports.add(newSport);
+        write(newId, () -> {
+            journal.ensureWritable();
+            sports.put(newId, newSport);
+            rowVersions.touch(newId);
+            indexName(newSport.getName(), newId);
+            journal.logPut(newSport);
+        });
+        snapshot.invalidate();
         return newSport;
     }
 
     @Override
     public List<Sport> findAll() {
-        return new ArrayList<>(sports);
+        return snapshot.get(this::consistentRows);
     }
 
     @Override
     public Optional<Sport> findById(Long id) {
         Objects.requireNonNull(id, ErrorMessageConstants.Errors.ID_NULL);
 
-        return sports.stream().filter(sport -> id.equals(sport.getId())).findFirst();
+        return Optional.ofNullable(sports.get(id));
     }
 
     @Override
@@ -57,22 +115,24 @@ public class SportRepositoryInMemory implements SportRepository {
         Objects.requireNonNull(sport, ErrorMessageConstants.Errors.SPORT_NULL);
         Objects.requireNonNull(sport.getId(), ErrorMessageConstants.Errors.ID_NULL);
 
-        int index = -1;
-        for (int i = 0; i < sports.size(); i++) {
-            if (sports.get(i).getId().equals(sport.getId())) {
-                index = i;
-                break;
-            }
-        }
-
-        if (index == -1) {
-            throw new EntityNotFoundException(ENTITY_NAME, sport.getId().toString());
-        }
-
         Sport updatedSport = Sport.builder().id(sport.getId()).name(sport.getName()).description(sport.getDescription())
                 .active(sport.isActive()).season(sport.getSeason()).build();
 
-        sports.set(index, updatedSport);
+        write(updatedSport.getId(), () -> {
+            journal.ensureWritable();
+            Sport previous = sports.replace(updatedSport.getId(), updatedSport);
+            if (previous == null) {
+                throw new EntityNotFoundException(ENTITY_NAME, sport.getId().toString());
+            }
+            rowVersions.touch(updatedSport.getId());
+            if (!Objects.equals(previous.getName(), updatedSport.getName())) {
+                unindexName(previous.getName(), previous.getId());
+                indexName(updatedSport.getName(), updatedSport.getId());
+            }
+            journal.logPut(updatedSport);
+        });
+
+        snapshot.invalidate();
         return updatedSport;
     }
 
@@ -80,17 +140,148 @@ public class SportRepositoryInMemory implements SportRepository {
     public void delete(Long id) {
         Objects.requireNonNull(id, ErrorMessageConstants.Errors.ID_NULL);
 
-        boolean removed = sports.removeIf(sport -> sport.getId().equals(id));
+        write(id, () -> {
+            journal.ensureWritable();
+            Sport removed = sports.remove(id);
+            if (removed == null) {
+                throw new EntityNotFoundException(ENTITY_NAME, id.toString());
+            }
+            rowVersions.remove(id);
+            unindexName(removed.getName(), id);
+            journal.logDelete(id);
+        });
 
-        if (!removed) {
-            throw new EntityNotFoundException(ENTITY_NAME, id.toString());
-        }
+        snapshot.invalidate();
+    }
+
+    @Override
+    public OptionalLong version() {
+        return OptionalLong.of(snapshot.version());
+    }
+
+    @Override
+    public OptionalLong versionOf(Long id) {
+        Objects.requireNonNull(id, ErrorMessageConstants.Errors.ID_NULL);
+
+        return rowVersions.of(id);
     }
 
     @Override
     public boolean existsById(Long id) {
         Objects.requireNonNull(id, ErrorMessageConstants.Errors.ID_NULL);
 
-        return sports.stream().anyMatch(sport -> id.equals(sport.getId()));
+        return sports.containsKey(id);
+    }
+
+    @Override
+    public boolean existsAllByName(Collection<String> names) {
+        Objects.requireNonNull(names, ErrorMessageConstants.Errors.NAME_NULL);
+
+        for (String name : names) {
+            if (name == null || !idsByName.containsKey(name)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public List<Sport> findPage(Long after, int limit) {
+        Collection<Sport> candidates = after == null ? sports.values() : sports.tailMap(after, false).values();
+        return candidates.stream().limit(limit).toList();
+    }
+
+    private void write(Long id, Runnable change) {
+        snapshotLock.readLock().lock();
+        try {
+            synchronized (lockFor(id)) {
+                change.run();
+            }
+        } finally {
+            snapshotLock.readLock().unlock();
+        }
+    }
+
+    private List<Sport> consistentRows() {
+        snapshotLock.writeLock().lock();
+        try {
+            return List.copyOf(sports.values());
+        } finally {
+            snapshotLock.writeLock().unlock();
+        }
+    }
+
+    private Object lockFor(Long id) {
+        return locks[(int) Math.floorMod(id, (long) LOCK_STRIPES)];
+    }
+
+    /**
+     * The dictionary of the names this repository stored, which the ski lift
+     * repository compacts its sport sets with.
+     */
+    public SportNames sportNames() {
+        return sportNames;
+    }
+
+    private void indexName(String name, Long id) {
+        sportNames.register(name);
+        idsByName.merge(name, Set.of(id), (ids, added) -> {
+            Set<Long> merged = new HashSet<>(ids);
+            merged.addAll(added);
+            return Set.copyOf(merged);
+        });
+    }
+
+    private void unindexName(String name, Long id) {
+        idsByName.computeIfPresent(name, (key, ids) -> {
+            if (!ids.contains(id)) {
+                return ids;
+            }
+            Set<Long> remaining = new HashSet<>(ids);
+            remaining.remove(id);
+            return remaining.isEmpty() ? null : Set.copyOf(remaining);
+        });
+    }
+
+    private final class Target implements JournalTarget<Sport> {
+
+        @Override
+        public void restorePut(Sport row) {
+            write(row.getId(), () -> {
+                Sport previous = sports.put(row.getId(), row);
+                rowVersions.touch(row.getId());
+                if (previous != null) {
+                    unindexName(previous.getName(), previous.getId());
+                }
+                indexName(row.getName(), row.getId());
+            });
+        }
+
+        @Override
+        public void restoreDelete(Long id) {
+            write(id, () -> {
+                Sport removed = sports.remove(id);
+                rowVersions.remove(id);
+                if (removed != null) {
+                    unindexName(removed.getName(), id);
+                }
+            });
+        }
+
+        @Override
+        public void restoreNextId(long nextId) {
+            idCounter.accumulateAndGet(nextId, Math::max);
+        }
+
+        @Override
+        public long nextId() {
+            return idCounter.get();
+        }
+
+        @Override
+        public Collection<Sport> rows() {
+            // Read from the map, not the findAll snapshot, which may not be rebuilt yet.
+            return consistentRows();
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,46 @@
+package fr.apsprevoyance.skylift.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Immutable, shared view of a repository's rows for {@code findAll}.
+ * <p>
+ * Writers only bump the version after mutating the store; the first reader that
+ * sees a stale snapshot rebuilds it once and publishes it, every other reader
+ * gets the same unmodifiable list without copying.
+ */
+final class VersionedSnapshot<T> {
+
+    private record Snapshot<T>(long version, List<T> items) {
+    }
+
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicReference<Snapshot<T>> current = new AtomicReference<>(new Snapshot<>(0L, List.of()));
+
+    long version() {
+        return version.get();
+    }
+
+    void invalidate() {
+        version.incrementAndGet();
+    }
+
+    List<T> get(Supplier<? extends Collection<T>> source) {
+        long expected = version.get();
+        Snapshot<T> snapshot = current.get();
+        if (snapshot.version() == expected) {
+            return snapshot.items();
+        }
+
+        List<T> items = List.copyOf(source.get());
+        if (version.get() == expected) {
+            Snapshot<T> rebuilt = new Snapshot<>(expected, items);
+            current.accumulateAndGet(rebuilt, (previous, next) -> previous.version() >= next.version() ? previous : next);
+        }
+        return items;
+    }
+}
@@ -0,0 +1,10 @@
+package fr.apsprevoyance.skylift.repository.jpa;
+
+final class JpaSettings {
+
+    private JpaSettings() {
+    }
+
+    // Keep in line with spring.jpa.properties.hibernate.jdbc.batch_size in application-jpa.properties.
+    static final int ID_ALLOCATION_SIZE = 50;
+}
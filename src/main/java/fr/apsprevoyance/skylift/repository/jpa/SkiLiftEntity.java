@@ -0,0 +1,92 @@
+package fr.apsprevoyance.skylift.repository.jpa;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+import fr.apsprevoyance.skylift.constants.ValidationConstants;
+import fr.apsprevoyance.skylift.enums.SkiLiftStatus;
+import fr.apsprevoyance.skylift.enums.SkiLiftType;
+import fr.apsprevoyance.skylift.model.SkiLift;
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+/**
+ * Table mapping of {@link SkiLift}. Only the JPA repository sees this class; the
+ * rest of the application keeps working with the immutable model.
+ */
+@Entity
+@Table(name = "ski_lift", indexes = { @Index(name = "idx_ski_lift_status_type", columnList = "status, type"),
+        @Index(name = "idx_ski_lift_type", columnList = "type") })
+public class SkiLiftEntity {
+
+    // A pooled sequence lets Hibernate assign ids without a round trip per row, which JDBC batching needs.
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ski_lift_seq")
+    @SequenceGenerator(name = "ski_lift_seq", sequenceName = "ski_lift_seq", allocationSize = JpaSettings.ID_ALLOCATION_SIZE)
+    private Long id;
+
+    @Column(nullable = false, length = ValidationConstants.NAME_MAX_LENGTH)
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private SkiLiftType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private SkiLiftStatus status;
+
+    @Column(length = ValidationConstants.DESCRIPTION_MAX_LENGTH)
+    private String comment;
+
+    // Lazy on purpose: list queries fetch-join it, point reads load it with one extra select.
+    @ElementCollection
+    @CollectionTable(name = "ski_lift_sport", joinColumns = @JoinColumn(name = "ski_lift_id"), indexes = @Index(name = "idx_ski_lift_sport_name", columnList = "sport_name"))
+    @Column(name = "sport_name", nullable = false, length = ValidationConstants.NAME_MAX_LENGTH)
+    private Set<String> availableSports = new HashSet<>();
+
+    @Column(name = "commissioning_date", nullable = false)
+    private LocalDate commissioningDate;
+
+    protected SkiLiftEntity() {
+    }
+
+    static SkiLiftEntity fromModel(SkiLift skiLift) {
+        SkiLiftEntity entity = new SkiLiftEntity();
+        entity.apply(skiLift);
+        return entity;
+    }
+
+    void apply(SkiLift skiLift) {
+        this.name = skiLift.getName();
+        this.type = skiLift.getType();
+        this.status = skiLift.getStatus();
+        this.comment = skiLift.getComment();
+        this.commissioningDate = skiLift.getCommissioningDate();
+        if (!availableSports.equals(skiLift.getAvailableSports())) {
+            availableSports.clear();
+            availableSports.addAll(skiLift.getAvailableSports());
+        }
+    }
+
+    SkiLift toModel() {
+        return SkiLift.builder().id(id).name(name).type(type).status(status).comment(comment)
+                .availableSports(availableSports).commissioningDate(commissioningDate).build();
+    }
+
+    Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,43 @@
+package fr.apsprevoyance.skylift.repository.jpa;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import fr.apsprevoyance.skylift.enums.SkiLiftStatus;
+import fr.apsprevoyance.skylift.enums.SkiLiftType;
+import jakarta.persistence.LockModeType;
+
+interface SkiLiftJpaDao extends JpaRepository<SkiLiftEntity, Long> {
+
+    String MATCHES_CRITERIA = "(:status is null or l.status = :status) and (:type is null or l.type = :type)"
+            + " and (:sport is null or :sport member of l.availableSports)";
+
+    @Query("select l from SkiLiftEntity l left join fetch l.availableSports order by l.id")
+    List<SkiLiftEntity> findAllWithSports();
+
+    @Query("select l from SkiLiftEntity l left join fetch l.availableSports where l.id in :ids order by l.id")
+    List<SkiLiftEntity> findAllWithSportsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select l from SkiLiftEntity l left join fetch l.availableSports where " + MATCHES_CRITERIA
+            + " order by l.id")
+    List<SkiLiftEntity> findAllWithSportsMatching(@Param("status") SkiLiftStatus status,
+            @Param("type") SkiLiftType type, @Param("sport") String sport);
+
+    // Locks the row until the transaction ends, so a read-modify-write cannot lose another instance's change.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select l from SkiLiftEntity l where l.id = :id")
+    Optional<SkiLiftEntity> findByIdForUpdate(@Param("id") Long id);
+
+    // Paging over a fetch join would make Hibernate page in memory, so pages select ids first.
+    @Query("select l.id from SkiLiftEntity l where " + MATCHES_CRITERIA
+            + " and (:after is null or l.id > :after) order by l.id")
+    List<Long> findIdsMatching(@Param("status") SkiLiftStatus status, @Param("type") SkiLiftType type,
+            @Param("sport") String sport, @Param("after") Long after, Limit limit);
+}
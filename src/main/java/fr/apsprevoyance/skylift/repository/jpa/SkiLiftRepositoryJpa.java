@@ -0,0 +1,176 @@
+package fr.apsprevoyance.skylift.repository.jpa;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import fr.apsprevoyance.skylift.constants.ErrorMessageConstants;
+import fr.apsprevoyance.skylift.constants.Profiles;
+import fr.apsprevoyance.skylift.enums.SkiLiftStatus;
+import fr.apsprevoyance.skylift.enums.SkiLiftType;
+import fr.apsprevoyance.skylift.enums.ValidationContextType;
+import fr.apsprevoyance.skylift.exception.EntityNotFoundException;
+import fr.apsprevoyance.skylift.exception.ValidationException;
+import fr.apsprevoyance.skylift.model.SkiLift;
+import fr.apsprevoyance.skylift.repository.SkiLiftRepository;
+
+/**
+ * {@link SkiLiftRepository} backed by a relational database, active with the
+ * {@code jpa} profile.
+ * <p>
+ * Every list query fetch-joins {@code availableSports}, so reading N lifts costs
+ * one statement instead of N + 1. Versions are not tracked: other instances may
+ * write to the same tables, so a local counter could vouch for stale rows.
+ */
+@Repository
+@Profile(Profiles.JPA)
+@Transactional(readOnly = true)
+public class SkiLiftRepositoryJpa implements SkiLiftRepository {
+    private static final String ENTITY_NAME = "SkiLift";
+    private static final String REPOSITORY_CLASS_NAME = SkiLiftRepositoryJpa.class.getSimpleName();
+
+    private final SkiLiftJpaDao dao;
+
+    SkiLiftRepositoryJpa(SkiLiftJpaDao dao) {
+        this.dao = dao;
+    }
+
+    @Override
+    @Transactional
+    public SkiLift create(SkiLift skiLift) {
+        return createAll(List.of(Objects.requireNonNull(skiLift, ErrorMessageConstants.Errors.SPORT_NULL))).get(0);
+    }
+
+    @Override
+    @Transactional
+    public List<SkiLift> createAll(List<SkiLift> batch) {
+        Objects.requireNonNull(batch, ErrorMessageConstants.Errors.SPORT_NULL);
+
+        List<SkiLiftEntity> entities = new ArrayList<>(batch.size());
+        for (SkiLift skiLift : batch) {
+            Objects.requireNonNull(skiLift, ErrorMessageConstants.Errors.SPORT_NULL);
+            if (skiLift.getId() != null) {
+                throw new ValidationException(REPOSITORY_CLASS_NAME, ValidationContextType.PERSISTENCE,
+                        ErrorMessageConstants.Errors.SPORT_ID_PREDEFINED);
+            }
+            entities.add(SkiLiftEntity.fromModel(skiLift));
+        }
+
+        return dao.saveAll(entities).stream().map(SkiLiftEntity::toModel).toList();
+    }
+
+    @Override
+    public List<SkiLift> findAll() {
+        return toModels(dao.findAllWithSports());
+    }
+
+    @Override
+    public Optional<SkiLift> findById(Long id) {
+        Objects.requireNonNull(id, ErrorMessageConstants.Errors.ID_NULL);
+
+        return dao.findById(id).map(SkiLiftEntity::toModel);
+    }
+
+    @Override
+    @Transactional
+    public SkiLift update(SkiLift skiLift) {
+        return updateAll(List.of(Objects.requireNonNull(skiLift, ErrorMessageConstants.Errors.SPORT_NULL))).get(0);
+    }
+
+    @Override
+    @Transactional
+    public List<SkiLift> updateAll(List<SkiLift> batch) {
+        Objects.requireNonNull(batch, ErrorMessageConstants.Errors.SPORT_NULL);
+
+        List<Long> ids = new ArrayList<>(batch.size());
+        for (SkiLift skiLift : batch) {
+            Objects.requireNonNull(skiLift, ErrorMessageConstants.Errors.SPORT_NULL);
+            ids.add(Objects.requireNonNull(skiLift.getId(), ErrorMessageConstants.Errors.ID_NULL));
+        }
+
+        Map<Long, SkiLiftEntity> existing = dao.findAllWithSportsByIdIn(ids).stream()
+                .collect(Collectors.toMap(SkiLiftEntity::getId, Function.identity()));
+
+        List<SkiLiftEntity> updated = new ArrayList<>(batch.size());
+        for (SkiLift skiLift : batch) {
+            SkiLiftEntity entity = existing.get(skiLift.getId());
+            if (entity == null) {
+                throw new EntityNotFoundException(ENTITY_NAME, skiLift.getId().toString());
+            }
+            updated.add(entity);
+        }
+        // Entities are managed, so dirty checking flushes the changes as batched updates at commit.
+        for (int i = 0; i < batch.size(); i++) {
+            updated.get(i).apply(batch.get(i));
+        }
+        return toModels(updated);
+    }
+
+    @Override
+    @Transactional
+    public SkiLift modify(Long id, UnaryOperator<SkiLift> change) {
+        Objects.requireNonNull(id, ErrorMessageConstants.Errors.ID_NULL);
+
+        SkiLiftEntity entity = dao.findByIdForUpdate(id)
+                .orElseThrow(() -> new EntityNotFoundException(ENTITY_NAME, id.toString()));
+        SkiLift current = entity.toModel();
+        SkiLift changed = change.apply(current);
+        if (changed == current) {
+            return current;
+        }
+        if (!id.equals(changed.getId())) {
+            throw new ValidationException(REPOSITORY_CLASS_NAME, ValidationContextType.PERSISTENCE,
+                    ErrorMessageConstants.Errors.ID_INVALID);
+        }
+        entity.apply(changed);
+        return entity.toModel();
+    }
+
+    @Override
+    @Transactional
+    public void delete(Long id) {
+        Objects.requireNonNull(id, ErrorMessageConstants.Errors.ID_NULL);
+
+        SkiLiftEntity entity = dao.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException(ENTITY_NAME, id.toString()));
+        dao.delete(entity);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        Objects.requireNonNull(id, ErrorMessageConstants.Errors.ID_NULL);
+
+        return dao.existsById(id);
+    }
+
+    @Override
+    public List<SkiLift> findByCriteria(SkiLiftStatus status, SkiLiftType type, String sport) {
+        if (status == null && type == null && sport == null) {
+            return findAll();
+        }
+        return toModels(dao.findAllWithSportsMatching(status, type, sport));
+    }
+
+    @Override
+    public List<SkiLift> findPage(SkiLiftStatus status, SkiLiftType type, String sport, Long after, int limit) {
+        List<Long> ids = dao.findIdsMatching(status, type, sport, after, Limit.of(limit));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return toModels(dao.findAllWithSportsByIdIn(ids));
+    }
+
+    private static List<SkiLift> toModels(List<SkiLiftEntity> entities) {
+        return entities.stream().map(SkiLiftEntity::toModel).toList();
+    }
+}
@@ -0,0 +1,61 @@
+package fr.apsprevoyance.skylift.repository.jpa;
+
+import fr.apsprevoyance.skylift.constants.ValidationConstants;
+import fr.apsprevoyance.skylift.enums.Season;
+import fr.apsprevoyance.skylift.model.Sport;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+/**
+ * Table mapping of {@link Sport}, kept private to the JPA repository.
+ */
+@Entity
+@Table(name = "sport", indexes = @Index(name = "idx_sport_name", columnList = "name"))
+public class SportEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sport_seq")
+    @SequenceGenerator(name = "sport_seq", sequenceName = "sport_seq", allocationSize = JpaSettings.ID_ALLOCATION_SIZE)
+    private Long id;
+
+    @Column(nullable = false, length = ValidationConstants.NAME_MAX_LENGTH)
+    private String name;
+
+    @Column(length = ValidationConstants.DESCRIPTION_MAX_LENGTH)
+    private String description;
+
+    @Column(nullable = false)
+    private boolean active;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private Season season;
+
+    protected SportEntity() {
+    }
+
+    static SportEntity fromModel(Sport sport) {
+        SportEntity entity = new SportEntity();
+        entity.apply(sport);
+        return entity;
+    }
+
+    void apply(Sport sport) {
+        this.name = sport.getName();
+        this.description = sport.getDescription();
+        this.active = sport.isActive();
+        this.season = sport.getSeason();
+    }
+
+    Sport toModel() {
+        return Sport.builder().id(id).name(name).description(description).active(active).season(season).build();
+    }
+}
@@ -0,0 +1,21 @@
+package fr.apsprevoyance.skylift.repository.jpa;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+interface SportJpaDao extends JpaRepository<SportEntity, Long> {
+
+    List<SportEntity> findAllByOrderByIdAsc();
+
+    List<SportEntity> findAllByOrderByIdAsc(Limit limit);
+
+    List<SportEntity> findByIdGreaterThanOrderByIdAsc(Long after, Limit limit);
+
+    @Query("select count(distinct s.name) from SportEntity s where s.name in :names")
+    long countDistinctNames(@Param("names") Collection<String> names);
+}
@@ -0,0 +1,118 @@
+package fr.apsprevoyance.skylift.repository.jpa;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import fr.apsprevoyance.skylift.constants.ErrorMessageConstants;
+import fr.apsprevoyance.skylift.constants.Profiles;
+import fr.apsprevoyance.skylift.enums.ValidationContextType;
+import fr.apsprevoyance.skylift.exception.EntityNotFoundException;
+import fr.apsprevoyance.skylift.exception.ValidationException;
+import fr.apsprevoyance.skylift.model.Sport;
+import fr.apsprevoyance.skylift.repository.SportRepository;
+
+/**
+ * {@link SportRepository} backed by a relational database, active with the
+ * {@code jpa} profile. Like the ski lift repository, it does not track versions.
+ */
+@Repository
+@Profile(Profiles.JPA)
+@Transactional(readOnly = true)
+public class SportRepositoryJpa implements SportRepository {
+    private static final String ENTITY_NAME = "Sport";
+    private static final String REPOSITORY_CLASS_NAME = SportRepositoryJpa.class.getSimpleName();
+
+    private final SportJpaDao dao;
+
+    SportRepositoryJpa(SportJpaDao dao) {
+        this.dao = dao;
+    }
+
+    @Override
+    @Transactional
+    public Sport create(Sport sport) {
+        Objects.requireNonNull(sport, ErrorMessageConstants.Errors.SPORT_NULL);
+
+        if (sport.getId() != null) {
+            throw new ValidationException(REPOSITORY_CLASS_NAME, ValidationContextType.PERSISTENCE,
+                    ErrorMessageConstants.Errors.SPORT_ID_PREDEFINED);
+        }
+
+        return dao.save(SportEntity.fromModel(sport)).toModel();
+    }
+
+    @Override
+    public List<Sport> findAll() {
+        return toModels(dao.findAllByOrderByIdAsc());
+    }
+
+    @Override
+    public Optional<Sport> findById(Long id) {
+        Objects.requireNonNull(id, ErrorMessageConstants.Errors.ID_NULL);
+
+        return dao.findById(id).map(SportEntity::toModel);
+    }
+
+    @Override
+    @Transactional
+    public Sport update(Sport sport) {
+        Objects.requireNonNull(sport, ErrorMessageConstants.Errors.SPORT_NULL);
+        Objects.requireNonNull(sport.getId(), ErrorMessageConstants.Errors.ID_NULL);
+
+        SportEntity entity = dao.findById(sport.getId())
+                .orElseThrow(() -> new EntityNotFoundException(ENTITY_NAME, sport.getId().toString()));
+        entity.apply(sport);
+        return entity.toModel();
+    }
+
+    @Override
+    @Transactional
+    public void delete(Long id) {
+        Objects.requireNonNull(id, ErrorMessageConstants.Errors.ID_NULL);
+
+        SportEntity entity = dao.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException(ENTITY_NAME, id.toString()));
+        dao.delete(entity);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        Objects.requireNonNull(id, ErrorMessageConstants.Errors.ID_NULL);
+
+        return dao.existsById(id);
+    }
+
+    @Override
+    public boolean existsAllByName(Collection<String> names) {
+        Objects.requireNonNull(names, ErrorMessageConstants.Errors.NAME_NULL);
+
+        Set<String> distinctNames = new HashSet<>();
+        for (String name : names) {
+            if (name == null) {
+                return false;
+            }
+            distinctNames.add(name);
+        }
+        return distinctNames.isEmpty() || dao.countDistinctNames(distinctNames) == distinctNames.size();
+    }
+
+    @Override
+    public List<Sport> findPage(Long after, int limit) {
+        List<SportEntity> page = after == null ? dao.findAllByOrderByIdAsc(Limit.of(limit))
+                : dao.findByIdGreaterThanOrderByIdAsc(after, Limit.of(limit));
+        return toModels(page);
+    }
+
+    private static List<Sport> toModels(List<SportEntity> entities) {
+        return entities.stream().map(SportEntity::toModel).toList();
+    }
+}
@@ -0,0 +1,115 @@
+package fr.apsprevoyance.skylift.repository.snapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Versioned binary image of a repository, loaded through a
+ * {@link MappedByteBuffer} so a cold start reads fixed-width records in place
+ * instead of parsing a seed.
+ * <p>
+ * Layout: a {@value #HEADER_SIZE}-byte header, {@code recordCount} records of
+ * the codec's width, then the {@link StringPool}. The header carries the
+ * codec kind and width, the next id to hand out and a caller-defined sequence
+ * (the write-ahead log stores the last segment the image covers).
+ */
+public final class BinarySnapshot<T> {
+
+    public record Header(long sequence, long nextId, int recordCount) {
+    }
+
+    static final int MAGIC = 0x534B534E;
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_SIZE = 48;
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final SnapshotCodec<T> codec;
+
+    public BinarySnapshot(SnapshotCodec<T> codec) {
+        this.codec = codec;
+    }
+
+    /**
+     * Writes the rows to a temporary file, fsyncs it and moves it over
+     * {@code path}, so readers only ever see a complete image.
+     */
+    public void write(Path path, long sequence, long nextId, Collection<T> rows) throws IOException {
+        int width = codec.recordWidth();
+        ByteBuffer records = ByteBuffer.allocate(Math.multiplyExact(width, rows.size()));
+        StringPool.Writer strings = new StringPool.Writer();
+        for (T row : rows) {
+            int start = records.position();
+            codec.write(row, records, strings);
+            if (records.position() - start != width) {
+                throw new IllegalStateException(codec.getClass().getSimpleName() + " wrote "
+                        + (records.position() - start) + " bytes instead of " + width);
+            }
+        }
+
+        ByteBuffer content = ByteBuffer.allocate(HEADER_SIZE + records.capacity() + strings.sectionSize());
+        content.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(codec.kind()).putInt(width).putLong(sequence)
+                .putLong(nextId).putInt(rows.size()).putInt(strings.refCount()).putInt(strings.stringCount())
+                .putInt(strings.byteCount());
+        content.position(HEADER_SIZE);
+        content.put(records.flip());
+        strings.writeTo(content);
+        content.flip();
+
+        Path temp = path.resolveSibling(path.getFileName() + TEMP_SUFFIX);
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (content.hasRemaining()) {
+                channel.write(content);
+            }
+            channel.force(false);
+        }
+        Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Maps {@code path} and hands every row to {@code rows} in file order.
+     */
+    public Header read(Path path, Consumer<T> rows) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("Invalid snapshot size " + size + ": " + path);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION) {
+                throw new IOException("Unsupported snapshot format: " + path);
+            }
+            if (buffer.getInt(8) != codec.kind() || buffer.getInt(12) != codec.recordWidth()) {
+                throw new IOException("Snapshot " + path + " does not hold " + codec.getClass().getSimpleName()
+                        + " records");
+            }
+            long sequence = buffer.getLong(16);
+            long nextId = buffer.getLong(24);
+            int recordCount = buffer.getInt(32);
+            int refCount = buffer.getInt(36);
+            int stringCount = buffer.getInt(40);
+            int byteCount = buffer.getInt(44);
+
+            long poolOffset = HEADER_SIZE + (long) recordCount * codec.recordWidth();
+            long expectedSize = poolOffset + (long) Integer.BYTES * (refCount + stringCount + 1) + byteCount;
+            if (recordCount < 0 || refCount < 0 || stringCount < 0 || byteCount < 0 || expectedSize != size) {
+                throw new IOException("Truncated or corrupt snapshot: " + path);
+            }
+
+            StringPool.Reader strings = new StringPool.Reader(buffer, (int) poolOffset, refCount, stringCount);
+            for (int i = 0; i < recordCount; i++) {
+                rows.accept(codec.read(buffer, HEADER_SIZE + i * codec.recordWidth(), strings));
+            }
+            return new Header(sequence, nextId, recordCount);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package fr.apsprevoyance.skylift.repository.snapshot;
+
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+
+import fr.apsprevoyance.skylift.enums.SkiLiftStatus;
+import fr.apsprevoyance.skylift.enums.SkiLiftType;
+import fr.apsprevoyance.skylift.model.SkiLift;
+
+/**
+ * {@code [id:8][name:4][type:4][status:4][comment:4][commissioningDate:8][sportsStart:4][sportsCount:4]}
+ */
+public class SkiLiftSnapshotCodec implements SnapshotCodec<SkiLift> {
+
+    private static final int KIND = 1;
+    private static final int RECORD_WIDTH = 40;
+
+    @Override
+    public int kind() {
+        return KIND;
+    }
+
+    @Override
+    public int recordWidth() {
+        return RECORD_WIDTH;
+    }
+
+    @Override
+    public Long idOf(SkiLift row) {
+        return row.getId();
+    }
+
+    @Override
+    public void write(SkiLift row, ByteBuffer record, StringPool.Writer strings) {
+        record.putLong(row.getId());
+        record.putInt(strings.ref(row.getName()));
+        record.putInt(strings.ref(row.getType()));
+        record.putInt(strings.ref(row.getStatus()));
+        record.putInt(strings.ref(row.getComment()));
+        SnapshotCodec.putDate(record, row.getCommissioningDate());
+        record.putInt(strings.refs(row.getAvailableSports()));
+        record.putInt(row.getAvailableSports().size());
+    }
+
+    @Override
+    public SkiLift read(ByteBuffer buffer, int offset, StringPool.Reader strings) {
+        return SkiLift.builder().id(buffer.getLong(offset)).name(strings.get(buffer.getInt(offset + 8)))
+                .type(strings.get(buffer.getInt(offset + 12), SkiLiftType.class))
+                .status(strings.get(buffer.getInt(offset + 16), SkiLiftStatus.class))
+                .comment(strings.get(buffer.getInt(offset + 20)))
+                .commissioningDate(SnapshotCodec.getDate(buffer, offset + 24))
+                .availableSports(new HashSet<>(strings.list(buffer.getInt(offset + 32), buffer.getInt(offset + 36))))
+                .build();
+    }
+}
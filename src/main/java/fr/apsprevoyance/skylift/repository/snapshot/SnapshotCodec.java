@@ -0,0 +1,32 @@
+package fr.apsprevoyance.skylift.repository.snapshot;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+
+/**
+ * Fixed-width encoding of one row in a {@link BinarySnapshot}. Strings and
+ * string lists are stored as int references into the snapshot's string pool.
+ */
+public interface SnapshotCodec<T> {
+
+    /** Identifies the row type in the file header, so a lift snapshot is never loaded as sports. */
+    int kind();
+
+    int recordWidth();
+
+    Long idOf(T row);
+
+    /** Writes exactly {@link #recordWidth()} bytes at the buffer's position. */
+    void write(T row, ByteBuffer record, StringPool.Writer strings);
+
+    T read(ByteBuffer buffer, int offset, StringPool.Reader strings);
+
+    static void putDate(ByteBuffer record, LocalDate date) {
+        record.putLong(date != null ? date.toEpochDay() : Long.MIN_VALUE);
+    }
+
+    static LocalDate getDate(ByteBuffer buffer, int offset) {
+        long epochDay = buffer.getLong(offset);
+        return epochDay != Long.MIN_VALUE ? LocalDate.ofEpochDay(epochDay) : null;
+    }
+}
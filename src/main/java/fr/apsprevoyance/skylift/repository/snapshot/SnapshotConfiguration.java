@@ -0,0 +1,37 @@
+package fr.apsprevoyance.skylift.repository.snapshot;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import fr.apsprevoyance.skylift.constants.Profiles;
+import fr.apsprevoyance.skylift.model.SkiLift;
+import fr.apsprevoyance.skylift.model.Sport;
+import fr.apsprevoyance.skylift.repository.wal.WalConfiguration;
+
+/**
+ * Loads the in-memory repositories from binary snapshots and writes them back
+ * periodically and on shutdown when {@code skylift.snapshot.enabled=true}. With the write-ahead
+ * log on, the log takes the same snapshots itself and this configuration stays
+ * out of the way.
+ */
+@Configuration
+@Profile(Profiles.IN_MEMORY)
+@ConditionalOnExpression("${skylift.snapshot.enabled:false} and !${skylift.wal.enabled:false}")
+@EnableConfigurationProperties(SnapshotProperties.class)
+public class SnapshotConfiguration {
+
+    @Bean
+    public SnapshotJournal<SkiLift> skiLiftJournal(SnapshotProperties properties) {
+        return new SnapshotJournal<>(properties.directory(), WalConfiguration.SKI_LIFT_STORE,
+                new SkiLiftSnapshotCodec(), properties.interval());
+    }
+
+    @Bean
+    public SnapshotJournal<Sport> sportJournal(SnapshotProperties properties) {
+        return new SnapshotJournal<>(properties.directory(), WalConfiguration.SPORT_STORE, new SportSnapshotCodec(),
+                properties.interval());
+    }
+}
@@ -0,0 +1,126 @@
+package fr.apsprevoyance.skylift.repository.snapshot;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import fr.apsprevoyance.skylift.repository.wal.Journal;
+import fr.apsprevoyance.skylift.repository.wal.JournalTarget;
+
+/**
+ * Loads an in-memory repository from its {@link BinarySnapshot} at startup and
+ * writes a new image every {@code interval} when rows changed, on shutdown, and
+ * when {@link #write()} is called.
+ * <p>
+ * Individual writes are not logged: without the write-ahead log, a crash loses
+ * everything since the last image.
+ */
+public class SnapshotJournal<T> implements Journal<T>, Closeable {
+    private static final Logger log = LoggerFactory.getLogger(SnapshotJournal.class);
+
+    private static final String SNAPSHOT_SUFFIX = ".snapshot";
+
+    private final Path path;
+    private final String store;
+    private final BinarySnapshot<T> snapshot;
+    private final Duration interval;
+    private JournalTarget<T> target;
+    private ScheduledExecutorService scheduler;
+    private volatile boolean changed;
+
+    public SnapshotJournal(Path directory, String store, SnapshotCodec<T> codec) {
+        this(directory, store, codec, Duration.ZERO);
+    }
+
+    /**
+     * A zero or negative {@code interval} only writes on shutdown and on
+     * demand.
+     */
+    public SnapshotJournal(Path directory, String store, SnapshotCodec<T> codec, Duration interval) {
+        this.path = directory.resolve(store + SNAPSHOT_SUFFIX);
+        this.store = store;
+        this.snapshot = new BinarySnapshot<>(codec);
+        this.interval = interval;
+    }
+
+    @Override
+    public void logPut(T row) {
+        changed = true;
+    }
+
+    @Override
+    public void logDelete(Long id) {
+        changed = true;
+    }
+
+    @Override
+    public void recover(JournalTarget<T> target) {
+        this.target = target;
+        if (Files.exists(path)) {
+            long start = System.nanoTime();
+            try {
+                BinarySnapshot.Header header = snapshot.read(path, target::restorePut);
+                target.restoreNextId(header.nextId());
+                log.info("Loaded {} {} from {} in {} ms", header.recordCount(), store, path,
+                        (System.nanoTime() - start) / 1_000_000);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        if (!interval.isZero() && !interval.isNegative()) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "snapshot-" + store);
+                thread.setDaemon(true);
+                return thread;
+            });
+            long intervalMillis = interval.toMillis();
+            scheduler.scheduleWithFixedDelay(this::writeIfChanged, intervalMillis, intervalMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // The flag is cleared before the rows are read, so a write racing with the image is caught next time.
+    public synchronized void write() throws IOException {
+        if (target == null) {
+            return;
+        }
+        changed = false;
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        snapshot.write(path, 0L, target.nextId(), target.rows());
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            try {
+                scheduler.awaitTermination(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        write();
+    }
+
+    private void writeIfChanged() {
+        if (!changed) {
+            return;
+        }
+        try {
+            write();
+        } catch (IOException | RuntimeException e) {
+            changed = true;
+            log.error("Failed to write the {} snapshot", store, e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package fr.apsprevoyance.skylift.repository.snapshot;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * {@code skylift.snapshot.*} settings, used when the write-ahead log is off.
+ * {@code interval} is how often a changed repository is written out; zero only
+ * writes on shutdown.
+ */
+@ConfigurationProperties(prefix = "skylift.snapshot")
+public record SnapshotProperties(@DefaultValue("false") boolean enabled,
+        @DefaultValue("./data/snapshot") Path directory, @DefaultValue("10m") Duration interval) {
+}
@@ -0,0 +1,47 @@
+package fr.apsprevoyance.skylift.repository.snapshot;
+
+import java.nio.ByteBuffer;
+
+import fr.apsprevoyance.skylift.enums.Season;
+import fr.apsprevoyance.skylift.model.Sport;
+
+/**
+ * {@code [id:8][name:4][description:4][season:4][active:4]}
+ */
+public class SportSnapshotCodec implements SnapshotCodec<Sport> {
+
+    private static final int KIND = 2;
+    private static final int RECORD_WIDTH = 24;
+
+    @Override
+    public int kind() {
+        return KIND;
+    }
+
+    @Override
+    public int recordWidth() {
+        return RECORD_WIDTH;
+    }
+
+    @Override
+    public Long idOf(Sport row) {
+        return row.getId();
+    }
+
+    @Override
+    public void write(Sport row, ByteBuffer record, StringPool.Writer strings) {
+        record.putLong(row.getId());
+        record.putInt(strings.ref(row.getName()));
+        record.putInt(strings.ref(row.getDescription()));
+        record.putInt(strings.ref(row.getSeason()));
+        record.putInt(row.isActive() ? 1 : 0);
+    }
+
+    @Override
+    public Sport read(ByteBuffer buffer, int offset, StringPool.Reader strings) {
+        return Sport.builder().id(buffer.getLong(offset)).name(strings.get(buffer.getInt(offset + 8)))
+                .description(strings.get(buffer.getInt(offset + 12)))
+                .season(strings.get(buffer.getInt(offset + 16), Season.class)).active(buffer.getInt(offset + 20) != 0)
+                .build();
+    }
+}
@@ -0,0 +1,142 @@
+package fr.apsprevoyance.skylift.repository.snapshot;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Deduplicated UTF-8 strings of a {@link BinarySnapshot}, plus a table of
+ * string references for list-valued fields.
+ * <p>
+ * Layout: {@code int[refCount]} list references, {@code int[stringCount + 1]}
+ * byte offsets, then the string bytes. A reference of {@code -1} is
+ * {@code null}.
+ */
+public final class StringPool {
+
+    static final int NULL_REF = -1;
+
+    private StringPool() {
+    }
+
+    public static final class Writer {
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final List<byte[]> strings = new ArrayList<>();
+        private int[] refs = new int[64];
+        private int refCount;
+        private int byteCount;
+
+        public int ref(String value) {
+            if (value == null) {
+                return NULL_REF;
+            }
+            return indexes.computeIfAbsent(value, key -> {
+                byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+                strings.add(bytes);
+                byteCount += bytes.length;
+                return strings.size() - 1;
+            });
+        }
+
+        public int ref(Enum<?> value) {
+            return ref(value != null ? value.name() : null);
+        }
+
+        /** Appends the values to the list table and returns the index of the first one. */
+        public int refs(Collection<String> values) {
+            int start = refCount;
+            if (refCount + values.size() > refs.length) {
+                refs = Arrays.copyOf(refs, Math.max(refs.length * 2, refCount + values.size()));
+            }
+            for (String value : values) {
+                refs[refCount++] = ref(value);
+            }
+            return start;
+        }
+
+        int refCount() {
+            return refCount;
+        }
+
+        int stringCount() {
+            return strings.size();
+        }
+
+        int byteCount() {
+            return byteCount;
+        }
+
+        int sectionSize() {
+            return Integer.BYTES * (refCount + strings.size() + 1) + byteCount;
+        }
+
+        void writeTo(ByteBuffer out) {
+            for (int i = 0; i < refCount; i++) {
+                out.putInt(refs[i]);
+            }
+            int offset = 0;
+            for (byte[] bytes : strings) {
+                out.putInt(offset);
+                offset += bytes.length;
+            }
+            out.putInt(offset);
+            for (byte[] bytes : strings) {
+                out.put(bytes);
+            }
+        }
+    }
+
+    /**
+     * Decodes strings straight from the mapped file on first use and then
+     * shares the instance, so a sport named on a thousand lifts is one String.
+     */
+    public static final class Reader {
+        private final ByteBuffer buffer;
+        private final int refsOffset;
+        private final int offsetsOffset;
+        private final int bytesOffset;
+        private final String[] decoded;
+
+        Reader(ByteBuffer buffer, int sectionOffset, int refCount, int stringCount) {
+            this.buffer = buffer;
+            this.refsOffset = sectionOffset;
+            this.offsetsOffset = refsOffset + Integer.BYTES * refCount;
+            this.bytesOffset = offsetsOffset + Integer.BYTES * (stringCount + 1);
+            this.decoded = new String[stringCount];
+        }
+
+        public String get(int ref) {
+            if (ref == NULL_REF) {
+                return null;
+            }
+            String value = decoded[ref];
+            if (value == null) {
+                int start = buffer.getInt(offsetsOffset + Integer.BYTES * ref);
+                int end = buffer.getInt(offsetsOffset + Integer.BYTES * (ref + 1));
+                byte[] bytes = new byte[end - start];
+                buffer.get(bytesOffset + start, bytes);
+                value = new String(bytes, StandardCharsets.UTF_8);
+                decoded[ref] = value;
+            }
+            return value;
+        }
+
+        public <E extends Enum<E>> E get(int ref, Class<E> type) {
+            String name = get(ref);
+            return name != null ? Enum.valueOf(type, name) : null;
+        }
+
+        public List<String> list(int start, int count) {
+            String[] values = new String[count];
+            for (int i = 0; i < count; i++) {
+                values[i] = get(buffer.getInt(refsOffset + Integer.BYTES * (start + i)));
+            }
+            return Arrays.asList(values);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package fr.apsprevoyance.skylift.repository.wal;
+
+/**
+ * Durable record of the writes applied to an in-memory repository.
+ * <p>
+ * Repositories call {@link #logPut} and {@link #logDelete} after applying a
+ * write, while still holding the lock that orders writes to the same id, and
+ * call {@link #recover} once at construction. They call {@link #ensureWritable}
+ * under the same lock before applying the write, so a journal that can no
+ * longer record writes refuses them before memory moves ahead of it.
+ */
+public interface Journal<T> {
+
+    default void ensureWritable() {
+    }
+
+    void logPut(T row);
+
+    void logDelete(Long id);
+
+    void recover(JournalTarget<T> target);
+
+    @SuppressWarnings("unchecked")
+    static <T> Journal<T> none() {
+        return (Journal<T>) NoJournal.INSTANCE;
+    }
+
+    final class NoJournal implements Journal<Object> {
+        private static final NoJournal INSTANCE = new NoJournal();
+
+        private NoJournal() {
+        }
+
+        @Override
+        public void logPut(Object row) {
+        }
+
+        @Override
+        public void logDelete(Long id) {
+        }
+
+        @Override
+        public void recover(JournalTarget<Object> target) {
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package fr.apsprevoyance.skylift.repository.wal;
+
+import java.util.Collection;
+
+/**
+ * The view of a repository a {@link Journal} needs to restore it at startup and
+ * to capture it for compaction. Restores bypass validation and the journal
+ * itself.
+ */
+public interface JournalTarget<T> {
+
+    void restorePut(T row);
+
+    void restoreDelete(Long id);
+
+    /** Makes sure the next generated id is at least {@code nextId}. */
+    void restoreNextId(long nextId);
+
+    long nextId();
+
+    Collection<T> rows();
+}
@@ -0,0 +1,38 @@
+package fr.apsprevoyance.skylift.repository.wal;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Binary encoding of one repository row. The id travels in the record header,
+ * so codecs only write the remaining fields.
+ */
+public interface RecordCodec<T> {
+
+    Long idOf(T row);
+
+    void write(T row, DataOutput out) throws IOException;
+
+    T read(Long id, DataInput in) throws IOException;
+
+    static void writeNullableString(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    static String readNullableString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    static <E extends Enum<E>> void writeNullableEnum(DataOutput out, E value) throws IOException {
+        writeNullableString(out, value != null ? value.name() : null);
+    }
+
+    static <E extends Enum<E>> E readNullableEnum(DataInput in, Class<E> type) throws IOException {
+        String name = readNullableString(in);
+        return name != null ? Enum.valueOf(type, name) : null;
+    }
+}
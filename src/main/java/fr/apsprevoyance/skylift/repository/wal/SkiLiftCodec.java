@@ -0,0 +1,53 @@
+package fr.apsprevoyance.skylift.repository.wal;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+import fr.apsprevoyance.skylift.enums.SkiLiftStatus;
+import fr.apsprevoyance.skylift.enums.SkiLiftType;
+import fr.apsprevoyance.skylift.model.SkiLift;
+
+public class SkiLiftCodec implements RecordCodec<SkiLift> {
+
+    @Override
+    public Long idOf(SkiLift row) {
+        return row.getId();
+    }
+
+    @Override
+    public void write(SkiLift row, DataOutput out) throws IOException {
+        RecordCodec.writeNullableString(out, row.getName());
+        RecordCodec.writeNullableEnum(out, row.getType());
+        RecordCodec.writeNullableEnum(out, row.getStatus());
+        RecordCodec.writeNullableString(out, row.getComment());
+        out.writeInt(row.getAvailableSports().size());
+        for (String sport : row.getAvailableSports()) {
+            out.writeUTF(sport);
+        }
+        out.writeBoolean(row.getCommissioningDate() != null);
+        if (row.getCommissioningDate() != null) {
+            out.writeLong(row.getCommissioningDate().toEpochDay());
+        }
+    }
+
+    @Override
+    public SkiLift read(Long id, DataInput in) throws IOException {
+        String name = RecordCodec.readNullableString(in);
+        SkiLiftType type = RecordCodec.readNullableEnum(in, SkiLiftType.class);
+        SkiLiftStatus status = RecordCodec.readNullableEnum(in, SkiLiftStatus.class);
+        String comment = RecordCodec.readNullableString(in);
+        int sportCount = in.readInt();
+        Set<String> sports = new HashSet<>();
+        for (int i = 0; i < sportCount; i++) {
+            sports.add(in.readUTF());
+        }
+        LocalDate commissioningDate = in.readBoolean() ? LocalDate.ofEpochDay(in.readLong()) : null;
+
+        return SkiLift.builder().id(id).name(name).type(type).status(status).comment(comment)
+                .availableSports(sports).commissioningDate(commissioningDate).build();
+    }
+}
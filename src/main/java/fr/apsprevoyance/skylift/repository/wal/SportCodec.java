@@ -0,0 +1,31 @@
+package fr.apsprevoyance.skylift.repository.wal;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import fr.apsprevoyance.skylift.enums.Season;
+import fr.apsprevoyance.skylift.model.Sport;
+
+public class SportCodec implements RecordCodec<Sport> {
+
+    @Override
+    public Long idOf(Sport row) {
+        return row.getId();
+    }
+
+    @Override
+    public void write(Sport row, DataOutput out) throws IOException {
+        RecordCodec.writeNullableString(out, row.getName());
+        RecordCodec.writeNullableString(out, row.getDescription());
+        out.writeBoolean(row.isActive());
+        RecordCodec.writeNullableEnum(out, row.getSeason());
+    }
+
+    @Override
+    public Sport read(Long id, DataInput in) throws IOException {
+        return Sport.builder().id(id).name(RecordCodec.readNullableString(in))
+                .description(RecordCodec.readNullableString(in)).active(in.readBoolean())
+                .season(RecordCodec.readNullableEnum(in, Season.class)).build();
+    }
+}
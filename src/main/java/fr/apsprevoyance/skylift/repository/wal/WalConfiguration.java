@@ -0,0 +1,39 @@
+package fr.apsprevoyance.skylift.repository.wal;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import fr.apsprevoyance.skylift.constants.Profiles;
+import fr.apsprevoyance.skylift.model.SkiLift;
+import fr.apsprevoyance.skylift.model.Sport;
+import fr.apsprevoyance.skylift.repository.snapshot.SkiLiftSnapshotCodec;
+import fr.apsprevoyance.skylift.repository.snapshot.SportSnapshotCodec;
+
+/**
+ * Gives the in-memory repositories a write-ahead log when
+ * {@code skylift.wal.enabled=true}; without it they stay purely volatile.
+ */
+@Configuration
+@Profile(Profiles.IN_MEMORY)
+@ConditionalOnProperty(prefix = "skylift.wal", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(WalProperties.class)
+public class WalConfiguration {
+
+    public static final String SKI_LIFT_STORE = "ski-lifts";
+    public static final String SPORT_STORE = "sports";
+
+    @Bean
+    public WriteAheadLog<SkiLift> skiLiftJournal(WalProperties properties) {
+        return new WriteAheadLog<>(properties.directory(), SKI_LIFT_STORE, new SkiLiftCodec(),
+                new SkiLiftSnapshotCodec(), properties.flushInterval(), properties.snapshotInterval());
+    }
+
+    @Bean
+    public WriteAheadLog<Sport> sportJournal(WalProperties properties) {
+        return new WriteAheadLog<>(properties.directory(), SPORT_STORE, new SportCodec(),
+                new SportSnapshotCodec(), properties.flushInterval(), properties.snapshotInterval());
+    }
+}
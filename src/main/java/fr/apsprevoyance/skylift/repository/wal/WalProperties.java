@@ -0,0 +1,17 @@
+package fr.apsprevoyance.skylift.repository.wal;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * {@code skylift.wal.*} settings. {@code flushInterval} bounds how many
+ * acknowledged writes a crash can lose; a zero {@code snapshotInterval}
+ * disables periodic compaction.
+ */
+@ConfigurationProperties(prefix = "skylift.wal")
+public record WalProperties(@DefaultValue("false") boolean enabled, @DefaultValue("./data/wal") Path directory,
+        @DefaultValue("50ms") Duration flushInterval, @DefaultValue("10m") Duration snapshotInterval) {
+}
@@ -0,0 +1,443 @@
+package fr.apsprevoyance.skylift.repository.wal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import fr.apsprevoyance.skylift.repository.snapshot.BinarySnapshot;
+import fr.apsprevoyance.skylift.repository.snapshot.SnapshotCodec;
+
+/**
+ * Append-only, group-committed log of the writes to one in-memory repository.
+ * <p>
+ * Appends only copy the encoded record into a memory buffer; a background
+ * thread writes the buffer and fsyncs it every {@code flushInterval}, so a
+ * crash loses at most that window and the request path never touches the disk.
+ * Every {@code snapshotInterval} and on shutdown the log is rotated and the
+ * repository content is written to a {@link BinarySnapshot}, after which the
+ * rotated segments are deleted.
+ * <p>
+ * Records leave the buffer only once they are fsynced. A failed write poisons
+ * the log: {@link #ensureWritable} and every later flush fail, so repositories
+ * refuse new writes before changing memory. Appends themselves never fail, so
+ * a write already applied in memory is always buffered with the rest of its
+ * batch.
+ * <p>
+ * Files in {@code directory}: {@code <store>.snapshot} and
+ * {@code <store>-<n>.wal} segments. Each record is framed as
+ * {@code [length][crc32][op][id][row]}. Only the tail of the last segment may
+ * be torn, by a crash or a failed write: recovery cuts it off. A bad frame
+ * anywhere else means records after it would be lost, so recovery fails.
+ */
+public class WriteAheadLog<T> implements Journal<T>, Closeable {
+    private static final Logger log = LoggerFactory.getLogger(WriteAheadLog.class);
+
+    private static final byte OP_PUT = 1;
+    private static final byte OP_DELETE = 2;
+    private static final String SEGMENT_SUFFIX = ".wal";
+    private static final String SNAPSHOT_SUFFIX = ".snapshot";
+    private static final long NO_SEGMENT = -1L;
+    private static final String TORN_RECORD = "torn record";
+    private static final String CORRUPT_RECORD = "corrupt record";
+
+    private final Path directory;
+    private final String store;
+    private final RecordCodec<T> codec;
+    private final BinarySnapshot<T> snapshot;
+    private final Duration flushInterval;
+    private final Duration snapshotInterval;
+
+    // Appenders only contend on this lock for a buffer copy.
+    private final Object appendLock = new Object();
+    private ByteArrayOutputStream pending = new ByteArrayOutputStream();
+    private long appendedSinceSnapshot;
+
+    // Serialises disk writes, segment rotation and compaction.
+    private final Object ioLock = new Object();
+    private final Object compactLock = new Object();
+    private FileChannel segment;
+    private long segmentNumber;
+
+    private JournalTarget<T> target;
+    private ScheduledExecutorService scheduler;
+    private boolean closed;
+    private volatile IOException failure;
+
+    public WriteAheadLog(Path directory, String store, RecordCodec<T> codec, SnapshotCodec<T> snapshotCodec,
+            Duration flushInterval, Duration snapshotInterval) {
+        this.directory = directory;
+        this.store = store;
+        this.codec = codec;
+        this.snapshot = new BinarySnapshot<>(snapshotCodec);
+        this.flushInterval = flushInterval;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    @Override
+    public void logPut(T row) {
+        append(OP_PUT, codec.idOf(row), row);
+    }
+
+    @Override
+    public void logDelete(Long id) {
+        append(OP_DELETE, id, null);
+    }
+
+    @Override
+    public void recover(JournalTarget<T> target) {
+        this.target = target;
+        try {
+            Files.createDirectories(directory);
+            long covered = readSnapshot(target);
+            long last = covered;
+            List<Long> numbers = segmentNumbers();
+            for (long number : numbers) {
+                if (number <= covered) {
+                    // Left behind by a compaction that stopped before its clean-up.
+                    Files.deleteIfExists(segmentPath(number));
+                    continue;
+                }
+                replaySegment(number, number == numbers.get(numbers.size() - 1), target);
+                last = number;
+            }
+            synchronized (ioLock) {
+                segmentNumber = last + 1;
+                segment = openSegment(segmentNumber);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "wal-" + store);
+            thread.setDaemon(true);
+            return thread;
+        });
+        long flushMillis = Math.max(1, flushInterval.toMillis());
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+        if (!snapshotInterval.isZero() && !snapshotInterval.isNegative()) {
+            long snapshotMillis = snapshotInterval.toMillis();
+            scheduler.scheduleWithFixedDelay(this::compactQuietly, snapshotMillis, snapshotMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes and fsyncs every record appended so far.
+     */
+    public void flush() throws IOException {
+        synchronized (ioLock) {
+            if (segment == null) {
+                return;
+            }
+            writePending(segment);
+        }
+    }
+
+    /**
+     * Rotates the log, writes the repository content to a new snapshot and
+     * deletes the segments the snapshot now covers.
+     * <p>
+     * Rows are captured after the rotation, so every write in the covered
+     * segments is in the snapshot. Writes racing with the capture may be in both
+     * the snapshot and the new segment; replaying them again is harmless because
+     * records carry whole rows and per-id order is preserved.
+     */
+    public void compact() throws IOException {
+        synchronized (compactLock) {
+            if (target == null) {
+                return;
+            }
+            long appended;
+            synchronized (appendLock) {
+                appended = appendedSinceSnapshot;
+            }
+            if (appended == 0) {
+                return;
+            }
+            long covered = rotate();
+            writeSnapshot(covered, target.nextId(), target.rows());
+            for (long number : segmentNumbers()) {
+                if (number <= covered) {
+                    Files.deleteIfExists(segmentPath(number));
+                }
+            }
+            // Only once the image is down, so a failed compaction is retried; later appends still count.
+            synchronized (appendLock) {
+                appendedSinceSnapshot -= appended;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (ioLock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        if (scheduler != null) {
+            scheduler.shutdown();
+            try {
+                scheduler.awaitTermination(flushInterval.toMillis() + 1_000, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // A fresh image on shutdown keeps the next start to one mapped file and a short replay.
+        if (failure == null) {
+            compactQuietly();
+        }
+        synchronized (ioLock) {
+            if (segment != null) {
+                try {
+                    writePending(segment);
+                } finally {
+                    segment.close();
+                    segment = null;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void ensureWritable() {
+        if (failure != null) {
+            throw new UncheckedIOException(failedMessage(), failure);
+        }
+    }
+
+    // Never refuses: the repository already changed memory, so a write that passed ensureWritable is always buffered
+    // and a failed flush is reported by the next one.
+    private void append(byte op, Long id, T row) {
+        byte[] frame = encode(op, id, row);
+        synchronized (appendLock) {
+            pending.writeBytes(frame);
+            appendedSinceSnapshot++;
+        }
+    }
+
+    private byte[] encode(byte op, Long id, T row) {
+        try {
+            ByteArrayOutputStream payload = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(payload);
+            out.writeByte(op);
+            out.writeLong(id);
+            if (row != null) {
+                codec.write(row, out);
+            }
+            return frame(payload.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] frame(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        ByteBuffer frame = ByteBuffer.allocate(Integer.BYTES * 2 + payload.length);
+        frame.putInt(payload.length).putInt((int) crc.getValue()).put(payload);
+        return frame.array();
+    }
+
+    // Called under ioLock. The batch stays buffered until it is on disk, and a failure poisons the log,
+    // since a partly written batch leaves a torn frame that later records must not follow.
+    private void writePending(FileChannel channel) throws IOException {
+        if (failure != null) {
+            throw new IOException(failedMessage(), failure);
+        }
+        byte[] batch;
+        synchronized (appendLock) {
+            batch = pending.toByteArray();
+        }
+        if (batch.length == 0) {
+            return;
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(batch);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            failure = e;
+            throw e;
+        }
+        synchronized (appendLock) {
+            byte[] appended = pending.toByteArray();
+            pending = new ByteArrayOutputStream(Math.max(32, appended.length - batch.length));
+            pending.write(appended, batch.length, appended.length - batch.length);
+        }
+    }
+
+    private long rotate() throws IOException {
+        synchronized (ioLock) {
+            if (segment == null) {
+                throw new IOException("The " + store + " write-ahead log is closed");
+            }
+            // Written before switching, so a failure leaves the torn frame at the tail of the last segment.
+            writePending(segment);
+            segment.close();
+            long previousNumber = segmentNumber;
+            segmentNumber++;
+            segment = openSegment(segmentNumber);
+            return previousNumber;
+        }
+    }
+
+    // Package-private so tests can hand out channels that fail.
+    FileChannel openSegment(long number) throws IOException {
+        return FileChannel.open(segmentPath(number), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    // Package-private so tests can make it fail.
+    void writeSnapshot(long covered, long nextId, Collection<T> rows) throws IOException {
+        snapshot.write(snapshotPath(), covered, nextId, rows);
+    }
+
+    private long readSnapshot(JournalTarget<T> target) throws IOException {
+        Path snapshotPath = snapshotPath();
+        if (!Files.exists(snapshotPath)) {
+            return NO_SEGMENT;
+        }
+        BinarySnapshot.Header header = snapshot.read(snapshotPath, target::restorePut);
+        target.restoreNextId(header.nextId());
+        return header.sequence();
+    }
+
+    private void replaySegment(long number, boolean lastSegment, JournalTarget<T> target) throws IOException {
+        Path path = segmentPath(number);
+        ByteBuffer frames = ByteBuffer.wrap(Files.readAllBytes(path));
+        while (frames.hasRemaining()) {
+            int start = frames.position();
+            String problem = replayFrame(frames, target);
+            if (problem == null) {
+                continue;
+            }
+            if (!lastSegment || !(TORN_RECORD.equals(problem) || isTail(frames, start))) {
+                throw new IOException("The " + store + " write-ahead log has a " + problem + " at offset " + start
+                        + " of " + path + ", followed by records that cannot be replayed");
+            }
+            log.warn("Cutting a {} off the end of the {} write-ahead log", problem, store);
+            // Cut now, or the next segment would follow it and the next start would refuse the log.
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.truncate(start);
+                channel.force(false);
+            }
+            return;
+        }
+    }
+
+    // Returns what is wrong with the frame at the buffer's position, or null once it is replayed.
+    private String replayFrame(ByteBuffer frames, JournalTarget<T> target) throws IOException {
+        if (frames.remaining() < Integer.BYTES * 2) {
+            return TORN_RECORD;
+        }
+        int length = frames.getInt();
+        int expectedCrc = frames.getInt();
+        if (length <= 0) {
+            return CORRUPT_RECORD;
+        }
+        if (frames.remaining() < length) {
+            return TORN_RECORD;
+        }
+        byte[] payload = new byte[length];
+        frames.get(payload);
+
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        if ((int) crc.getValue() != expectedCrc) {
+            return CORRUPT_RECORD;
+        }
+
+        DataInputStream record = new DataInputStream(new ByteArrayInputStream(payload));
+        byte op = record.readByte();
+        Long id = record.readLong();
+        if (op == OP_PUT) {
+            target.restorePut(codec.read(id, record));
+        } else {
+            target.restoreDelete(id);
+        }
+        target.restoreNextId(id + 1);
+        return null;
+    }
+
+    // Past a torn frame there is nothing left to read. A frame that fails its check is a tail only if it is the last
+    // one, or if it starts the zeros a file system may leave after a crash; with real data after it, it is corruption.
+    private static boolean isTail(ByteBuffer frames, int start) {
+        if (frames.remaining() == 0) {
+            return true;
+        }
+        for (int i = start; i < frames.limit(); i++) {
+            if (frames.get(i) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<Long> segmentNumbers() throws IOException {
+        String prefix = store + "-";
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(prefix) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> name.substring(prefix.length(), name.length() - SEGMENT_SUFFIX.length()))
+                    .filter(number -> !number.isEmpty() && number.chars().allMatch(Character::isDigit))
+                    .map(Long::valueOf).sorted().toList();
+        }
+    }
+
+    private Path segmentPath(long number) {
+        return directory.resolve(store + "-" + number + SEGMENT_SUFFIX);
+    }
+
+    private String failedMessage() {
+        return "The " + store + " write-ahead log failed to write and no longer accepts records";
+    }
+
+    private Path snapshotPath() {
+        return directory.resolve(store + SNAPSHOT_SUFFIX);
+    }
+
+    private void flushQuietly() {
+        if (failure != null) {
+            // Already reported, and every append since has failed.
+            return;
+        }
+        try {
+            flush();
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to flush the {} write-ahead log", store, e);
+        }
+    }
+
+    private void compactQuietly() {
+        try {
+            compact();
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to compact the {} write-ahead log", store, e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package fr.apsprevoyance.skylift.service;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of the DTO rendered for each model.
+ * <p>
+ * Models are immutable and a write replaces the stored instance, so the model
+ * itself is the version: an entry is only served while the repository still
+ * returns the model it was rendered from (the same instance, or an equal one
+ * for repositories that rebuild models on every read). Invalidation on writes
+ * only frees the slot early.
+ * <p>
+ * Cached DTOs are shared between callers, so the services render them frozen
+ * and a setter call fails instead of changing what later callers get. Past the
+ * capacity, arbitrary entries are evicted.
+ */
+final class DtoCache<M, D> {
+
+    static final int DEFAULT_CAPACITY = 10_000;
+
+    record Stats(long hits, long misses, long evictions, int size) {
+    }
+
+    private record Entry<M, D>(M model, D dto) {
+    }
+
+    private final Map<Long, Entry<M, D>> entries = new ConcurrentHashMap<>();
+    private final int capacity;
+    private final Function<M, Long> idOf;
+    private final Function<M, D> render;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    DtoCache(int capacity, Function<M, Long> idOf, Function<M, D> render) {
+        this.capacity = capacity;
+        this.idOf = idOf;
+        this.render = render;
+    }
+
+    D get(M model) {
+        Long id = idOf.apply(model);
+        if (id == null) {
+            return render.apply(model);
+        }
+
+        Entry<M, D> entry = entries.get(id);
+        if (entry != null && (entry.model() == model || entry.model().equals(model))) {
+            hits.increment();
+            return entry.dto();
+        }
+
+        misses.increment();
+        D dto = render.apply(model);
+        entries.put(id, new Entry<>(model, dto));
+        if (entries.size() > capacity) {
+            evictOverflow();
+        }
+        return dto;
+    }
+
+    void invalidate(Long id) {
+        entries.remove(id);
+    }
+
+    Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+    }
+
+    private void evictOverflow() {
+        Iterator<Long> ids = entries.keySet().iterator();
+        while (entries.size() > capacity && ids.hasNext()) {
+            ids.next();
+            ids.remove();
+            evictions.increment();
+        }
+    }
+}
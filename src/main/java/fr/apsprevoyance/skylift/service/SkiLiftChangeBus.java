@@ -0,0 +1,162 @@
+package fr.apsprevoyance.skylift.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Numbered feed of the ski lifts written through the service, for clients that
+ * follow changes instead of polling.
+ * <p>
+ * Changes carry the lift id only: subscribers read the lift when they send
+ * it, so whatever order concurrent writers publish in, the last change of a
+ * lift always delivers its current state. Each subscription buffers at most
+ * one change per lift, the latest, and a bounded number of lifts; a
+ * subscriber that falls further behind gets a single reset instead. The most
+ * recent changes are kept so a subscriber can resume after its last event.
+ */
+@Component
+public class SkiLiftChangeBus {
+
+    public static final int DEFAULT_BUFFER = 1024;
+    static final int DEFAULT_HISTORY = 4096;
+
+    /**
+     * A lift changed at {@code sequence}, or, when {@code id} is {@code null},
+     * everything up to {@code sequence} must be reloaded.
+     */
+    public record Change(long sequence, Long id) {
+
+        public boolean isReset() {
+            return id == null;
+        }
+    }
+
+    // Sequences restart with the process, so event ids carry the start time to never resume across restarts.
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final long[] history;
+    private final List<Subscription> subscriptions = new ArrayList<>();
+    private long sequence;
+
+    public SkiLiftChangeBus() {
+        this(DEFAULT_HISTORY);
+    }
+
+    SkiLiftChangeBus(int history) {
+        this.history = new long[history];
+    }
+
+    /**
+     * Records a write to a lift. Call it after the write is stored, so a
+     * subscriber reading the lift sees at least that write.
+     */
+    public synchronized void publish(Long id) {
+        long next = ++sequence;
+        history[(int) (next % history.length)] = id;
+        for (Subscription subscription : subscriptions) {
+            subscription.offer(next, id);
+        }
+    }
+
+    /**
+     * Starts a subscription after {@code lastEventId}, replaying the changes
+     * since. Without one, or when those changes are no longer all kept, the
+     * subscription starts with a reset.
+     */
+    public synchronized Subscription subscribe(String lastEventId, int capacity) {
+        Subscription subscription = new Subscription(capacity);
+        long last = sequenceOf(lastEventId);
+        if (last < 0 || last > sequence || sequence - last > history.length) {
+            subscription.reset(sequence);
+        } else {
+            for (long next = last + 1; next <= sequence; next++) {
+                subscription.offer(next, history[(int) (next % history.length)]);
+            }
+        }
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    public String eventId(long sequence) {
+        return epoch + '-' + sequence;
+    }
+
+    synchronized int subscriptions() {
+        return subscriptions.size();
+    }
+
+    private synchronized void unsubscribe(Subscription subscription) {
+        subscriptions.remove(subscription);
+    }
+
+    private long sequenceOf(String eventId) {
+        if (eventId == null || !eventId.startsWith(epoch + '-')) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(epoch.length() + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    public final class Subscription implements AutoCloseable {
+
+        private final int capacity;
+        // Re-inserted on every change, so iteration follows sequence order.
+        private final Map<Long, Long> pending = new LinkedHashMap<>();
+        private long resetSequence = -1;
+
+        private Subscription(int capacity) {
+            this.capacity = capacity;
+        }
+
+        public synchronized boolean hasChanges() {
+            return resetSequence >= 0 || !pending.isEmpty();
+        }
+
+        /**
+         * Takes the buffered changes in sequence order: either the latest
+         * change of each lift, or a single reset.
+         */
+        public synchronized List<Change> drain() {
+            List<Change> changes;
+            if (resetSequence >= 0) {
+                changes = List.of(new Change(resetSequence, null));
+            } else {
+                changes = new ArrayList<>(pending.size());
+                for (Map.Entry<Long, Long> entry : pending.entrySet()) {
+                    changes.add(new Change(entry.getValue(), entry.getKey()));
+                }
+            }
+            pending.clear();
+            resetSequence = -1;
+            return changes;
+        }
+
+        @Override
+        public void close() {
+            unsubscribe(this);
+        }
+
+        private synchronized void offer(long sequence, Long id) {
+            if (resetSequence >= 0) {
+                resetSequence = sequence;
+                return;
+            }
+            pending.remove(id);
+            pending.put(id, sequence);
+            if (pending.size() > capacity) {
+                reset(sequence);
+            }
+        }
+
+        private synchronized void reset(long sequence) {
+            pending.clear();
+            resetSequence = sequence;
+        }
+    }
+}
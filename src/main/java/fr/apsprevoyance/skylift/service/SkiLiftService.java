@@ -1,19 +1,49 @@
 package fr.apsprevoyance.skylift.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
 
 import fr.apsprevoyance.skylift.dto.SkiLiftDTO;
+import fr.apsprevoyance.skylift.enums.SkiLiftField;
+import fr.apsprevoyance.skylift.enums.SkiLiftStatus;
+import fr.apsprevoyance.skylift.enums.SkiLiftType;
 
 public interface SkiLiftService {
 
     SkiLiftDTO createSkiLift(SkiLiftDTO skiLiftDTO);
 
+    List<SkiLiftDTO> createSkiLifts(List<SkiLiftDTO> skiLiftDTOs);
+
     List<SkiLiftDTO> findAllSkiLifts();
 
+    List<SkiLiftDTO> findSkiLifts(SkiLiftStatus status, SkiLiftType type, String sport);
+
+    List<SkiLiftDTO> findSkiLiftPage(SkiLiftStatus status, SkiLiftType type, String sport, Long after, int limit);
+
     SkiLiftDTO findSkiLiftById(Long id);
 
+    List<Map<String, Object>> findSkiLiftProjections(SkiLiftStatus status, SkiLiftType type, String sport,
+            Set<SkiLiftField> fields);
+
+    List<Map<String, Object>> findSkiLiftProjectionPage(SkiLiftStatus status, SkiLiftType type, String sport,
+            Long after, int limit, Set<SkiLiftField> fields);
+
+    Map<String, Object> findSkiLiftProjectionById(Long id, Set<SkiLiftField> fields);
+
+    OptionalLong skiLiftsVersion();
+
+    OptionalLong skiLiftVersion(Long id);
+
     SkiLiftDTO updateSkiLift(SkiLiftDTO skiLiftDTO);
 
+    List<SkiLiftDTO> updateSkiLifts(List<SkiLiftDTO> skiLiftDTOs);
+
+    SkiLiftDTO patchSkiLift(Long id, SkiLiftDTO changes, Set<SkiLiftField> fields);
+
+    SkiLiftDTO updateSkiLiftStatus(Long id, SkiLiftStatus status);
+
     void deleteSkiLift(Long id);
 
     boolean skiLiftExists(Long id);
@@ -1,13 +1,27 @@
 package fr.apsprevoyance.skylift.service;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 
+import fr.apsprevoyance.skylift.constants.ErrorMessageConstants;
 import fr.apsprevoyance.skylift.dto.SkiLiftDTO;
+import fr.apsprevoyance.skylift.enums.SkiLiftField;
+import fr.apsprevoyance.skylift.enums.SkiLiftStatus;
+import fr.apsprevoyance.skylift.enums.SkiLiftType;
+import fr.apsprevoyance.skylift.enums.ValidationContextType;
 import fr.apsprevoyance.skylift.exception.EntityNotFoundException;
+import fr.apsprevoyance.skylift.exception.ValidationException;
 import fr.apsprevoyance.skylift.mapper.SkiLiftMapper;
 import fr.apsprevoyance.skylift.model.SkiLift;
 import fr.apsprevoyance.skylift.repository.SkiLiftRepository;
@@ -19,19 +33,27 @@ import fr.apsprevoyance.skylift.validation.OnUpdate;
 public class SkiLiftServiceImpl implements SkiLiftService {
 
     private static final String ENTITY_NAME = "SkiLift";
+    private static final String CLIENT_ENTITY_NAME = "ski lift";
     private static final String NULL_SKILIFT_DTO_MESSAGE = "skiLiftDTO cannot be null";
+    private static final String NULL_SKILIFT_DTO_LIST_MESSAGE = "skiLiftDTOs cannot be null";
     private static final String NULL_SKILIFT_ID_MESSAGE = "SkiLift ID cannot be null";
     private static final String NULL_SKILIFT_ID_FOR_UPDATE_MESSAGE = "SkiLift ID cannot be null for update";
+    private static final String NULL_FIELDS_MESSAGE = "fields cannot be null";
+    private static final String NULL_STATUS_MESSAGE = "SkiLift status cannot be null";
 
     private final SkiLiftRepository skiLiftRepository;
     private final SkiLiftMapper skiLiftMapper;
     private final ModelValidationService modelValidationService;
+    private final SkiLiftChangeBus changeBus;
+    private final DtoCache<SkiLift, SkiLiftDTO> dtoCache;
 
     public SkiLiftServiceImpl(SkiLiftRepository skiLiftRepository, SkiLiftMapper skiLiftMapper,
-            ModelValidationService modelValidationService) {
+            ModelValidationService modelValidationService, SkiLiftChangeBus changeBus) {
         this.skiLiftRepository = skiLiftRepository;
         this.skiLiftMapper = skiLiftMapper;
         this.modelValidationService = modelValidationService;
+        this.changeBus = changeBus;
+        this.dtoCache = new DtoCache<>(DtoCache.DEFAULT_CAPACITY, SkiLift::getId, this::render);
     }
 
     @Override
@@ -39,17 +61,42 @@ public class SkiLiftServiceImpl implements SkiLiftService {
         Objects.requireNonNull(skiLiftDTO, NULL_SKILIFT_DTO_MESSAGE);
 
         SkiLift skiLift = skiLiftMapper.toEntityForCreate(skiLiftDTO);
-        modelValidationService.checkAndThrowIfInvalid(skiLift, ENTITY_NAME, OnCreate.class);
+        modelValidationService.checkRemainingAndThrowIfInvalid(skiLift, SkiLiftDTO.class, ENTITY_NAME, OnCreate.class);
 
         SkiLift createdSkiLift = skiLiftRepository.create(skiLift);
+        changeBus.publish(createdSkiLift.getId());
 
-        return skiLiftMapper.toDto(createdSkiLift);
+        return dtoCache.get(createdSkiLift);
+    }
+
+    @Override
+    public List<SkiLiftDTO> createSkiLifts(List<SkiLiftDTO> skiLiftDTOs) {
+        Objects.requireNonNull(skiLiftDTOs, NULL_SKILIFT_DTO_LIST_MESSAGE);
+
+        List<SkiLift> skiLifts = toValidatedEntities(skiLiftDTOs, OnCreate.class);
+        List<SkiLift> createdSkiLifts = skiLiftRepository.createAll(skiLifts);
+        createdSkiLifts.forEach(createdSkiLift -> changeBus.publish(createdSkiLift.getId()));
+
+        return createdSkiLifts.stream().map(dtoCache::get).collect(Collectors.toList());
     }
 
     @Override
     public List<SkiLiftDTO> findAllSkiLifts() {
         List<SkiLift> skiLifts = skiLiftRepository.findAll();
-        return skiLifts.stream().map(skiLiftMapper::toDto).collect(Collectors.toList());
+        return skiLifts.stream().map(dtoCache::get).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<SkiLiftDTO> findSkiLifts(SkiLiftStatus status, SkiLiftType type, String sport) {
+        List<SkiLift> skiLifts = skiLiftRepository.findByCriteria(status, type, sport);
+        return skiLifts.stream().map(dtoCache::get).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<SkiLiftDTO> findSkiLiftPage(SkiLiftStatus status, SkiLiftType type, String sport, Long after,
+            int limit) {
+        List<SkiLift> skiLifts = skiLiftRepository.findPage(status, type, sport, after, limit);
+        return skiLifts.stream().map(dtoCache::get).collect(Collectors.toList());
     }
 
     @Override
@@ -59,7 +106,50 @@ public class SkiLiftServiceImpl implements SkiLiftService {
         SkiLift skiLift = skiLiftRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException(ENTITY_NAME, id.toString()));
 
-        return skiLiftMapper.toDto(skiLift);
+        return dtoCache.get(skiLift);
+    }
+
+    // Projections read the models directly; neither the DTO cache nor the full mapping is involved.
+    @Override
+    public List<Map<String, Object>> findSkiLiftProjections(SkiLiftStatus status, SkiLiftType type, String sport,
+            Set<SkiLiftField> fields) {
+        Objects.requireNonNull(fields, NULL_FIELDS_MESSAGE);
+
+        boolean filtered = status != null || type != null || sport != null;
+        List<SkiLift> skiLifts = filtered ? skiLiftRepository.findByCriteria(status, type, sport)
+                : skiLiftRepository.findAll();
+        return toProjections(skiLifts, fields);
+    }
+
+    @Override
+    public List<Map<String, Object>> findSkiLiftProjectionPage(SkiLiftStatus status, SkiLiftType type, String sport,
+            Long after, int limit, Set<SkiLiftField> fields) {
+        Objects.requireNonNull(fields, NULL_FIELDS_MESSAGE);
+
+        List<SkiLift> skiLifts = skiLiftRepository.findPage(status, type, sport, after, limit);
+        return toProjections(skiLifts, fields);
+    }
+
+    @Override
+    public Map<String, Object> findSkiLiftProjectionById(Long id, Set<SkiLiftField> fields) {
+        Objects.requireNonNull(id, NULL_SKILIFT_ID_MESSAGE);
+        Objects.requireNonNull(fields, NULL_FIELDS_MESSAGE);
+
+        SkiLift skiLift = skiLiftRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException(ENTITY_NAME, id.toString()));
+
+        return skiLiftMapper.toProjection(skiLift, fields);
+    }
+
+    @Override
+    public OptionalLong skiLiftsVersion() {
+        return skiLiftRepository.version();
+    }
+
+    @Override
+    public OptionalLong skiLiftVersion(Long id) {
+        Objects.requireNonNull(id, NULL_SKILIFT_ID_MESSAGE);
+        return skiLiftRepository.versionOf(id);
     }
 
     @Override
@@ -72,17 +162,78 @@ public class SkiLiftServiceImpl implements SkiLiftService {
         }
 
         SkiLift skiLift = skiLiftMapper.toEntityForUpdate(skiLiftDTO);
-        modelValidationService.checkAndThrowIfInvalid(skiLift, ENTITY_NAME, OnUpdate.class);
+        modelValidationService.checkRemainingAndThrowIfInvalid(skiLift, SkiLiftDTO.class, ENTITY_NAME, OnUpdate.class);
 
         SkiLift updatedSkiLift = skiLiftRepository.update(skiLift);
+        changeBus.publish(updatedSkiLift.getId());
 
-        return skiLiftMapper.toDto(updatedSkiLift);
+        return dtoCache.get(updatedSkiLift);
+    }
+
+    @Override
+    public List<SkiLiftDTO> updateSkiLifts(List<SkiLiftDTO> skiLiftDTOs) {
+        Objects.requireNonNull(skiLiftDTOs, NULL_SKILIFT_DTO_LIST_MESSAGE);
+
+        List<SkiLift> skiLifts = toValidatedEntities(skiLiftDTOs, OnUpdate.class);
+        List<SkiLift> updatedSkiLifts = skiLiftRepository.updateAll(skiLifts);
+        updatedSkiLifts.forEach(updatedSkiLift -> changeBus.publish(updatedSkiLift.getId()));
+
+        return updatedSkiLifts.stream().map(dtoCache::get).collect(Collectors.toList());
+    }
+
+    /**
+     * Applies the listed properties of {@code changes} to the stored ski lift.
+     * Only those properties are validated, on the DTO and then on the model,
+     * and only they are copied; the rest of the row is reused as it is. A
+     * patch that changes nothing writes nothing.
+     */
+    @Override
+    public SkiLiftDTO patchSkiLift(Long id, SkiLiftDTO changes, Set<SkiLiftField> fields) {
+        Objects.requireNonNull(id, NULL_SKILIFT_ID_MESSAGE);
+        Objects.requireNonNull(changes, NULL_SKILIFT_DTO_MESSAGE);
+        Objects.requireNonNull(fields, NULL_FIELDS_MESSAGE);
+
+        List<String> properties = fields.stream().map(SkiLiftField::getProperty).toList();
+        List<String> errors = modelValidationService.checkProperties(changes, properties, OnUpdate.class);
+        if (!errors.isEmpty()) {
+            throw new ValidationException(ENTITY_NAME, ValidationContextType.REQUEST, errors);
+        }
+
+        SkiLift patchedSkiLift = modify(id, current -> {
+            SkiLift.Builder builder = current.toBuilder();
+            skiLiftMapper.updateEntityFromDto(changes, fields, builder);
+            SkiLift patched = builder.id(id).build();
+            if (patched.equals(current)) {
+                return current;
+            }
+            List<String> modelErrors = modelValidationService.checkProperties(patched, properties, OnUpdate.class);
+            if (!modelErrors.isEmpty()) {
+                throw new ValidationException(ENTITY_NAME, ValidationContextType.MODEL, modelErrors);
+            }
+            return patched;
+        });
+
+        return dtoCache.get(patchedSkiLift);
+    }
+
+    // A status is an enum, so there is nothing to validate beyond its presence.
+    @Override
+    public SkiLiftDTO updateSkiLiftStatus(Long id, SkiLiftStatus status) {
+        Objects.requireNonNull(id, NULL_SKILIFT_ID_MESSAGE);
+        Objects.requireNonNull(status, NULL_STATUS_MESSAGE);
+
+        SkiLift updatedSkiLift = modify(id,
+                current -> current.getStatus() == status ? current : current.toBuilder().status(status).build());
+
+        return dtoCache.get(updatedSkiLift);
     }
 
     @Override
     public void deleteSkiLift(Long id) {
         Objects.requireNonNull(id, NULL_SKILIFT_ID_MESSAGE);
         skiLiftRepository.delete(id);
+        changeBus.publish(id);
+        dtoCache.invalidate(id);
     }
 
     @Override
@@ -90,4 +241,92 @@ public class SkiLiftServiceImpl implements SkiLiftService {
         Objects.requireNonNull(id, NULL_SKILIFT_ID_MESSAGE);
         return skiLiftRepository.existsById(id);
     }
+
+    // Publishes only when the change wrote something, which it did if it returned another row.
+    private SkiLift modify(Long id, UnaryOperator<SkiLift> change) {
+        AtomicReference<SkiLift> current = new AtomicReference<>();
+        SkiLift modified = skiLiftRepository.modify(id, skiLift -> {
+            current.set(skiLift);
+            return change.apply(skiLift);
+        });
+        if (modified != current.get()) {
+            changeBus.publish(id);
+        }
+        return modified;
+    }
+
+    private List<Map<String, Object>> toProjections(List<SkiLift> skiLifts, Set<SkiLiftField> fields) {
+        return skiLifts.stream().map(skiLift -> skiLiftMapper.toProjection(skiLift, fields))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Validates a whole batch in a single pass and maps it to entities. Batch
+     * items are not covered by the controller's {@code @Validated}, so the
+     * request constraints are checked here, in parallel for large batches, then
+     * only the model constraints the DTO did not already prove; every failure is
+     * reported with the index of its item and nothing is persisted unless the
+     * whole batch is valid.
+     */
+    private List<SkiLift> toValidatedEntities(List<SkiLiftDTO> skiLiftDTOs, Class<?> group) {
+        boolean forUpdate = group == OnUpdate.class;
+        List<SkiLift> skiLifts = new ArrayList<>(skiLiftDTOs.size());
+        List<String> errors = new ArrayList<>();
+        Set<Long> batchIds = new HashSet<>();
+        Map<Integer, List<String>> requestErrors = modelValidationService.checkAll(skiLiftDTOs, group);
+
+        for (int i = 0; i < skiLiftDTOs.size(); i++) {
+            SkiLiftDTO skiLiftDTO = skiLiftDTOs.get(i);
+            if (skiLiftDTO == null) {
+                errors.add(batchError(i, NULL_SKILIFT_DTO_MESSAGE));
+                continue;
+            }
+
+            SkiLift skiLift = forUpdate ? skiLiftMapper.toEntityForUpdate(skiLiftDTO)
+                    : skiLiftMapper.toEntityForCreate(skiLiftDTO);
+
+            Set<String> itemErrors = new LinkedHashSet<>(requestErrors.getOrDefault(i, List.of()));
+            if (itemErrors.isEmpty()) {
+                itemErrors.addAll(modelValidationService.checkRemaining(skiLift, SkiLiftDTO.class, group));
+            }
+
+            Long id = skiLiftDTO.getId();
+            if (forUpdate && id != null) {
+                if (!batchIds.add(id)) {
+                    itemErrors.add(String.format(ErrorMessageConstants.Validation.BATCH_DUPLICATE_ID, id));
+                } else if (!skiLiftRepository.existsById(id)) {
+                    itemErrors.add(String.format(ErrorMessageConstants.Validation.ENTITY_NOT_FOUND_SAFE,
+                            CLIENT_ENTITY_NAME, id));
+                }
+            }
+
+            for (String itemError : itemErrors) {
+                errors.add(batchError(i, itemError));
+            }
+            skiLifts.add(skiLift);
+        }
+
+        if (!errors.isEmpty()) {
+            throw new ValidationException(ENTITY_NAME, ValidationContextType.REQUEST, errors);
+        }
+        return skiLifts;
+    }
+
+    DtoCache.Stats dtoCacheStats() {
+        return dtoCache.stats();
+    }
+
+    // Cached DTOs go to every caller and the JSON converter keys its cache on them, so they are frozen before
+    // anyone sees them.
+    private SkiLiftDTO render(SkiLift skiLift) {
+        SkiLiftDTO dto = skiLiftMapper.toDto(skiLift);
+        if (dto != null) {
+            dto.freeze();
+        }
+        return dto;
+    }
+
+    private static String batchError(int index, String error) {
+        return String.format(ErrorMessageConstants.Formats.BATCH_ITEM_ERROR, index, error);
+    }
 }
@@ -2,16 +2,32 @@
 package fr.apsprevoyance.skylift.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
 
 import fr.apsprevoyance.skylift.dto.SportDTO;
+import fr.apsprevoyance.skylift.enums.SportField;
 
 public interface SportService {
     SportDTO createSport(SportDTO sportDTO);
 
     List<SportDTO> findAllSports();
 
+    List<SportDTO> findSportPage(Long after, int limit);
+
     SportDTO findSportById(Long id);
 
+    List<Map<String, Object>> findSportProjections(Set<SportField> fields);
+
+    List<Map<String, Object>> findSportProjectionPage(Long after, int limit, Set<SportField> fields);
+
+    Map<String, Object> findSportProjectionById(Long id, Set<SportField> fields);
+
+    OptionalLong sportsVersion();
+
+    OptionalLong sportVersion(Long id);
+
     SportDTO updateSport(SportDTO sportDTO);
 
     void deleteSport(Long id);
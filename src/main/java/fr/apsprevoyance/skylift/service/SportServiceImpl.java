@@ -1,7 +1,9 @@
 package fr.apsprevoyance.skylift.service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -10,6 +12,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import fr.apsprevoyance.skylift.dto.SportDTO;
+import fr.apsprevoyance.skylift.enums.SportField;
 import fr.apsprevoyance.skylift.exception.EntityNotFoundException;
 import fr.apsprevoyance.skylift.mapper.SportMapper;
 import fr.apsprevoyance.skylift.model.Sport;
@@ -26,16 +29,19 @@ public class SportServiceImpl implements SportService {
     private static final String NULL_SPORT_DTO_MESSAGE = "SportDTO cannot be null";
     private static final String NULL_SPORT_ID_MESSAGE = "Sport ID cannot be null";
     private static final String NULL_SPORT_ID_FOR_UPDATE_MESSAGE = "Sport ID cannot be null for update";
+    private static final String NULL_FIELDS_MESSAGE = "fields cannot be null";
 
     private final SportRepository sportRepository;
     private final SportMapper sportMapper;
     private final ModelValidationService modelValidationService;
+    private final DtoCache<Sport, SportDTO> dtoCache;
 
     public SportServiceImpl(SportRepository sportRepository, SportMapper sportMapper,
             ModelValidationService modelValidationService) {
         this.sportRepository = sportRepository;
         this.sportMapper = sportMapper;
         this.modelValidationService = modelValidationService;
+        this.dtoCache = new DtoCache<>(DtoCache.DEFAULT_CAPACITY, Sport::getId, this::render);
     }
 
     @Override
@@ -43,17 +49,23 @@ public class SportServiceImpl implements SportService {
         Objects.requireNonNull(sportDTO, NULL_SPORT_DTO_MESSAGE);
 
         Sport sport = sportMapper.toEntityForCreate(sportDTO);
-        modelValidationService.checkAndThrowIfInvalid(sport, ENTITY_NAME, OnCreate.class);
+        modelValidationService.checkRemainingAndThrowIfInvalid(sport, SportDTO.class, ENTITY_NAME, OnCreate.class);
 
         Sport createdSport = sportRepository.create(sport);
 
-        return sportMapper.toDto(createdSport);
+        return dtoCache.get(createdSport);
     }
 
     @Override
     public List<SportDTO> findAllSports() {
         List<Sport> sports = sportRepository.findAll();
-        return sports.stream().map(sportMapper::toDto).collect(Collectors.toList());
+        return sports.stream().map(dtoCache::get).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<SportDTO> findSportPage(Long after, int limit) {
+        List<Sport> sports = sportRepository.findPage(after, limit);
+        return sports.stream().map(dtoCache::get).collect(Collectors.toList());
     }
 
     @Override
@@ -63,7 +75,45 @@ public class SportServiceImpl implements SportService {
         Sport sport = sportRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException(ENTITY_NAME, id.toString()));
 
-        return sportMapper.toDto(sport);
+        return dtoCache.get(sport);
+    }
+
+    @Override
+    public List<Map<String, Object>> findSportProjections(Set<SportField> fields) {
+        Objects.requireNonNull(fields, NULL_FIELDS_MESSAGE);
+
+        List<Sport> sports = sportRepository.findAll();
+        return sports.stream().map(sport -> sportMapper.toProjection(sport, fields)).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Map<String, Object>> findSportProjectionPage(Long after, int limit, Set<SportField> fields) {
+        Objects.requireNonNull(fields, NULL_FIELDS_MESSAGE);
+
+        List<Sport> sports = sportRepository.findPage(after, limit);
+        return sports.stream().map(sport -> sportMapper.toProjection(sport, fields)).collect(Collectors.toList());
+    }
+
+    @Override
+    public Map<String, Object> findSportProjectionById(Long id, Set<SportField> fields) {
+        Objects.requireNonNull(id, NULL_SPORT_ID_MESSAGE);
+        Objects.requireNonNull(fields, NULL_FIELDS_MESSAGE);
+
+        Sport sport = sportRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException(ENTITY_NAME, id.toString()));
+
+        return sportMapper.toProjection(sport, fields);
+    }
+
+    @Override
+    public OptionalLong sportsVersion() {
+        return sportRepository.version();
+    }
+
+    @Override
+    public OptionalLong sportVersion(Long id) {
+        Objects.requireNonNull(id, NULL_SPORT_ID_MESSAGE);
+        return sportRepository.versionOf(id);
     }
 
     @Override
@@ -76,17 +126,18 @@ public class SportServiceImpl implements SportService {
         }
 
         Sport sport = sportMapper.toEntityForUpdate(sportDTO);
-        modelValidationService.checkAndThrowIfInvalid(sport, ENTITY_NAME, OnUpdate.class);
+        modelValidationService.checkRemainingAndThrowIfInvalid(sport, SportDTO.class, ENTITY_NAME, OnUpdate.class);
 
         Sport updatedSport = sportRepository.update(sport);
 
-        return sportMapper.toDto(updatedSport);
+        return dtoCache.get(updatedSport);
     }
 
     @Override
     public void deleteSport(Long id) {
         Objects.requireNonNull(id, NULL_SPORT_ID_MESSAGE);
         sportRepository.delete(id);
+        dtoCache.invalidate(id);
     }
 
     @Override
@@ -101,9 +152,19 @@ public class SportServiceImpl implements SportService {
             return false;
         }
 
-        Set<String> existingSportNames = sportRepository.findAll().stream().map(Sport::getName)
-                .collect(Collectors.toSet());
+        return sportRepository.existsAllByName(sportNames);
+    }
 
-        return sportNames.stream().allMatch(existingSportNames::contains);
+    DtoCache.Stats dtoCacheStats() {
+        return dtoCache.stats();
+    }
+
+    // Cached DTOs go to every caller, so they are frozen before anyone sees them.
+    private SportDTO render(Sport sport) {
+        SportDTO dto = sportMapper.toDto(sport);
+        if (dto != null) {
+            dto.freeze();
+        }
+        return dto;
     }
-}
\ No newline at end of file
+}
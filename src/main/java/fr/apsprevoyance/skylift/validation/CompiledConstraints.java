@@ -0,0 +1,117 @@
+package fr.apsprevoyance.skylift.validation;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import fr.apsprevoyance.skylift.constants.ValidationConstants;
+import jakarta.validation.groups.Default;
+
+/**
+ * Rules and group resolution shared by the {@link CompiledValidator}s, with the
+ * semantics of the matching Bean Validation constraints.
+ */
+final class CompiledConstraints {
+
+    static final int DEFAULT = 1;
+    static final int ON_CREATE = 1 << 1;
+    static final int ON_UPDATE = 1 << 2;
+    static final int ALL = DEFAULT | ON_CREATE | ON_UPDATE;
+
+    private CompiledConstraints() {
+    }
+
+    /**
+     * The constraint groups selected by the requested groups; a requested group
+     * also selects the groups it extends.
+     */
+    static int groups(Class<?>... requested) {
+        if (requested == null || requested.length == 0) {
+            return DEFAULT;
+        }
+        int mask = 0;
+        for (Class<?> group : requested) {
+            if (Default.class.isAssignableFrom(group)) {
+                mask |= DEFAULT;
+            }
+            if (OnCreate.class.isAssignableFrom(group)) {
+                mask |= ON_CREATE;
+            }
+            if (OnUpdate.class.isAssignableFrom(group)) {
+                mask |= ON_UPDATE;
+            }
+        }
+        return mask;
+    }
+
+    static boolean in(int selected, int declared) {
+        return (selected & declared) != 0;
+    }
+
+    // @NotBlank: trim() leaves at least one character.
+    static boolean isBlank(CharSequence value) {
+        if (value == null) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean isEmpty(Collection<?> value) {
+        return value == null || value.isEmpty();
+    }
+
+    // @Size, @Pattern, @Positive and @ValidSkiLiftDate accept null.
+    static boolean sizeOutside(CharSequence value, int min, int max) {
+        return value != null && (value.length() < min || value.length() > max);
+    }
+
+    static boolean invalidName(CharSequence value) {
+        return value != null && !NameCharacters.matches(value);
+    }
+
+    static boolean notPositive(Long value) {
+        return value != null && value <= 0;
+    }
+
+    static boolean tooOld(LocalDate value) {
+        return value != null && value.isBefore(ValidationConstants.FIRST_SKILIFT_DATE);
+    }
+
+    /**
+     * The {@code "property: message"} line reported for a violation, with the
+     * {@code {min}} and {@code {max}} attributes interpolated.
+     */
+    static String error(String property, String message, int min, int max) {
+        return error(property,
+                message.replace("{min}", String.valueOf(min)).replace("{max}", String.valueOf(max)));
+    }
+
+    static String error(String property, String message) {
+        return property + ": " + message;
+    }
+
+    /**
+     * The property of an {@link #error} line, or {@code null} for a line that
+     * names none.
+     */
+    static String propertyOf(String error) {
+        int colon = error.indexOf(':');
+        return colon < 0 ? null : error.substring(0, colon);
+    }
+
+    static List<String> add(List<String> errors, String error) {
+        List<String> target = errors == null ? new ArrayList<>() : errors;
+        target.add(error);
+        return target;
+    }
+
+    static List<String> result(List<String> errors) {
+        return errors == null ? List.of() : errors;
+    }
+}
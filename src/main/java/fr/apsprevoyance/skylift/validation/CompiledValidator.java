@@ -0,0 +1,13 @@
+package fr.apsprevoyance.skylift.validation;
+
+import java.util.List;
+
+/**
+ * Hand-written counterpart of the constraints declared on one type: same
+ * groups, same rules and same {@code "property: message"} lines as Bean
+ * Validation, read through getters and allocating nothing for a valid object.
+ */
+@FunctionalInterface
+public interface CompiledValidator<T> {
+    List<String> validate(T object, Class<?>... groups);
+}
@@ -0,0 +1,29 @@
+package fr.apsprevoyance.skylift.validation;
+
+import java.util.Map;
+
+import fr.apsprevoyance.skylift.dto.SkiLiftDTO;
+import fr.apsprevoyance.skylift.dto.SportDTO;
+import fr.apsprevoyance.skylift.model.SkiLift;
+import fr.apsprevoyance.skylift.model.Sport;
+
+/**
+ * The {@link CompiledValidator} of each type that has one. Any change to the
+ * constraints of these types must be mirrored in their validator.
+ */
+final class CompiledValidators {
+
+    private static final Map<Class<?>, CompiledValidator<?>> VALIDATORS = Map.of(
+            SkiLift.class, new SkiLiftValidator(),
+            SkiLiftDTO.class, new SkiLiftDTOValidator(),
+            Sport.class, new SportValidator(),
+            SportDTO.class, new SportDTOValidator());
+
+    private CompiledValidators() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> CompiledValidator<T> forType(Class<?> type) {
+        return (CompiledValidator<T>) VALIDATORS.get(type);
+    }
+}
@@ -0,0 +1,103 @@
+package fr.apsprevoyance.skylift.validation;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import jakarta.validation.Validator;
+import jakarta.validation.metadata.BeanDescriptor;
+import jakarta.validation.metadata.ConstraintDescriptor;
+import jakarta.validation.metadata.PropertyDescriptor;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * The model properties whose constraints are not implied by the constraints of
+ * the DTO they were mapped from, for a given set of groups. Computed once from
+ * Bean Validation metadata.
+ */
+final class ConstraintDelta {
+
+    // Attributes that change how a failure is reported, not what is checked.
+    private static final Set<String> REPORTING_ATTRIBUTES = Set.of("message", "groups", "payload");
+
+    private final String[] properties;
+    private final boolean fullValidation;
+
+    private ConstraintDelta(String[] properties, boolean fullValidation) {
+        this.properties = properties;
+        this.fullValidation = fullValidation;
+    }
+
+    static ConstraintDelta between(Validator validator, Class<?> type, Class<?> provenBy, Class<?>... groups) {
+        BeanDescriptor target = validator.getConstraintsForClass(type);
+        BeanDescriptor source = validator.getConstraintsForClass(provenBy);
+
+        if (!target.findConstraints().unorderedAndMatchingGroups(groups).getConstraintDescriptors().isEmpty()) {
+            return new ConstraintDelta(new String[0], true);
+        }
+
+        List<String> remaining = new ArrayList<>();
+        for (PropertyDescriptor property : target.getConstrainedProperties()) {
+            Set<ConstraintDescriptor<?>> required = property.findConstraints().unorderedAndMatchingGroups(groups)
+                    .getConstraintDescriptors();
+            if (required.isEmpty() && !property.isCascaded()) {
+                continue;
+            }
+            PropertyDescriptor sourceProperty = source.getConstraintsForProperty(property.getPropertyName());
+            if (property.isCascaded() || !isProven(required, sourceProperty, property, groups)) {
+                remaining.add(property.getPropertyName());
+            }
+        }
+        return new ConstraintDelta(remaining.toArray(String[]::new), false);
+    }
+
+    boolean isEmpty() {
+        return properties.length == 0 && !fullValidation;
+    }
+
+    boolean requiresFullValidation() {
+        return fullValidation;
+    }
+
+    String[] properties() {
+        return properties;
+    }
+
+    private static boolean isProven(Set<ConstraintDescriptor<?>> required, PropertyDescriptor sourceProperty,
+            PropertyDescriptor property, Class<?>... groups) {
+        if (sourceProperty == null || sourceProperty.getElementClass() != property.getElementClass()) {
+            return false;
+        }
+        Set<ConstraintDescriptor<?>> proven = sourceProperty.findConstraints().unorderedAndMatchingGroups(groups)
+                .getConstraintDescriptors();
+        return required.stream().allMatch(constraint -> proven.stream().anyMatch(known -> implies(known, constraint)));
+    }
+
+    private static boolean implies(ConstraintDescriptor<?> known, ConstraintDescriptor<?> required) {
+        Class<? extends Annotation> knownType = known.getAnnotation().annotationType();
+        Class<? extends Annotation> requiredType = required.getAnnotation().annotationType();
+
+        if (knownType == requiredType) {
+            return sameCheck(known.getAttributes(), required.getAttributes());
+        }
+        if (requiredType == NotNull.class) {
+            return knownType == NotEmpty.class || knownType == NotBlank.class;
+        }
+        return requiredType == NotEmpty.class && knownType == NotBlank.class;
+    }
+
+    private static boolean sameCheck(Map<String, Object> known, Map<String, Object> required) {
+        for (Map.Entry<String, Object> attribute : required.entrySet()) {
+            if (!REPORTING_ATTRIBUTES.contains(attribute.getKey())
+                    && !Objects.deepEquals(attribute.getValue(), known.get(attribute.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
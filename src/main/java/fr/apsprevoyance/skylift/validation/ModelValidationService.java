@@ -1,16 +1,28 @@
 package fr.apsprevoyance.skylift.validation;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import fr.apsprevoyance.skylift.constants.ErrorMessageConstants;
+import fr.apsprevoyance.skylift.enums.ValidationBackend;
 import fr.apsprevoyance.skylift.enums.ValidationContextType;
 import fr.apsprevoyance.skylift.exception.ValidationException;
+import jakarta.annotation.PreDestroy;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
@@ -21,11 +33,43 @@ import jakarta.validation.groups.Default;
 public class ModelValidationService {
     private static final Logger log = LoggerFactory.getLogger(ModelValidationService.class);
 
+    private record DeltaKey(Class<?> type, Class<?> provenBy, List<Class<?>> groups) {
+    }
+
+    // Items validated by one fork-join leaf; smaller collections stay on the caller thread.
+    private static final int ITEMS_PER_TASK = 64;
+
     private final Validator validator;
+    private final ValidationBackend backend;
+    private final ForkJoinPool bulkPool;
+    private final Map<DeltaKey, ConstraintDelta> deltas = new ConcurrentHashMap<>();
 
     public ModelValidationService() {
+        this(ValidationBackend.COMPILED);
+    }
+
+    public ModelValidationService(ValidationBackend backend) {
+        this(backend, 0);
+    }
+
+    /**
+     * With {@link ValidationBackend#COMPILED}, types that have a
+     * {@link CompiledValidator} skip Hibernate Validator; every other type is
+     * validated from its annotations. {@code parallelism} bounds the threads
+     * of {@link #checkAll}; 0 uses one per available processor.
+     */
+    @Autowired
+    public ModelValidationService(@Value("${skylift.validation.backend:compiled}") ValidationBackend backend,
+            @Value("${skylift.validation.parallelism:0}") int parallelism) {
         ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
         this.validator = factory.getValidator();
+        this.backend = backend;
+        this.bulkPool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        bulkPool.shutdown();
     }
 
     public <T> List<String> checkWithAnnotations(T object, Class<?>... groups) {
@@ -34,12 +78,47 @@ public class ModelValidationService {
             groups = new Class<?>[] { Default.class };
         }
 
+        if (backend == ValidationBackend.COMPILED) {
+            CompiledValidator<T> compiled = CompiledValidators.forType(object.getClass());
+            if (compiled != null) {
+                return compiled.validate(object, groups);
+            }
+        }
+
         Set<ConstraintViolation<T>> violations = validator.validate(object, groups);
 
         return violations.stream().map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Validates every item like {@link #checkWithAnnotations} and returns the
+     * errors of the invalid ones keyed by their index, in index order. Large
+     * collections are split across the bounded bulk pool; {@code null} items
+     * are skipped.
+     */
+    public <T> Map<Integer, List<String>> checkAll(Collection<T> objects, Class<?>... groups) {
+        List<T> items = objects instanceof List<T> list && list instanceof RandomAccess ? list
+                : new ArrayList<>(objects);
+        @SuppressWarnings("unchecked")
+        List<String>[] results = new List[items.size()];
+
+        BulkCheck<T> check = new BulkCheck<>(items, groups, results, 0, items.size());
+        if (items.size() <= ITEMS_PER_TASK) {
+            check.compute();
+        } else {
+            bulkPool.invoke(check);
+        }
+
+        Map<Integer, List<String>> errors = new LinkedHashMap<>();
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] != null && !results[i].isEmpty()) {
+                errors.put(i, results[i]);
+            }
+        }
+        return errors;
+    }
+
     public <T> void checkAndThrowIfInvalid(T object, String entityName, Class<?>... groups) {
         List<String> errors = checkWithAnnotations(object, groups);
 
@@ -50,4 +129,122 @@ public class ModelValidationService {
             throw new ValidationException(entityName, ValidationContextType.MODEL, errors);
         }
     }
+
+    /**
+     * Checks only the constraints of {@code object} that were not already proven
+     * on the object it was mapped from.
+     * <p>
+     * The caller guarantees that an instance of {@code provenBy} passed
+     * validation for the same groups and that same-named properties were copied
+     * unchanged. A model property is then skipped when every constraint it has
+     * in these groups is implied by a constraint on the source property.
+     * Properties with any remaining constraint are validated in full.
+     */
+    public <T> List<String> checkRemaining(T object, Class<?> provenBy, Class<?>... groups) {
+        if (groups == null || groups.length == 0) {
+            groups = new Class<?>[] { Default.class };
+        }
+
+        ConstraintDelta delta = deltas.computeIfAbsent(
+                new DeltaKey(object.getClass(), provenBy, List.of(groups)),
+                key -> ConstraintDelta.between(validator, key.type(), key.provenBy(),
+                        key.groups().toArray(Class<?>[]::new)));
+
+        if (delta.isEmpty()) {
+            return List.of();
+        }
+        if (delta.requiresFullValidation()) {
+            return checkWithAnnotations(object, groups);
+        }
+
+        List<String> errors = new ArrayList<>();
+        for (String property : delta.properties()) {
+            for (ConstraintViolation<T> violation : validator.validateProperty(object, property, groups)) {
+                errors.add(violation.getPropertyPath() + ": " + violation.getMessage());
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Checks the constraints of the named properties only, for objects of
+     * which nothing else changed since they were last validated. A compiled
+     * validator checks the whole object, which costs less than one property
+     * through Hibernate Validator, and the errors of other properties are
+     * dropped.
+     */
+    public <T> List<String> checkProperties(T object, Collection<String> properties, Class<?>... groups) {
+        if (groups == null || groups.length == 0) {
+            groups = new Class<?>[] { Default.class };
+        }
+
+        if (backend == ValidationBackend.COMPILED) {
+            CompiledValidator<T> compiled = CompiledValidators.forType(object.getClass());
+            if (compiled != null) {
+                List<String> errors = compiled.validate(object, groups);
+                return errors.isEmpty() ? errors
+                        : errors.stream().filter(error -> isOnAny(error, properties)).toList();
+            }
+        }
+
+        List<String> errors = new ArrayList<>();
+        for (String property : properties) {
+            for (ConstraintViolation<T> violation : validator.validateProperty(object, property, groups)) {
+                errors.add(violation.getPropertyPath() + ": " + violation.getMessage());
+            }
+        }
+        return errors;
+    }
+
+    // A line naming no property is dropped, as validateProperty would never report it.
+    private static boolean isOnAny(String error, Collection<String> properties) {
+        String property = CompiledConstraints.propertyOf(error);
+        return property != null && properties.contains(property);
+    }
+
+    public <T> void checkRemainingAndThrowIfInvalid(T object, Class<?> provenBy, String entityName,
+            Class<?>... groups) {
+        List<String> errors = checkRemaining(object, provenBy, groups);
+
+        if (!errors.isEmpty()) {
+            log.warn(ErrorMessageConstants.Logs.VALIDATION_FAILED, entityName, object.getClass().getPackage().getName(),
+                    String.join(", ", errors));
+
+            throw new ValidationException(entityName, ValidationContextType.MODEL, errors);
+        }
+    }
+
+    private final class BulkCheck<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<T> items;
+        private final Class<?>[] groups;
+        private final transient List<String>[] results;
+        private final int from;
+        private final int to;
+
+        BulkCheck(List<T> items, Class<?>[] groups, List<String>[] results, int from, int to) {
+            this.items = items;
+            this.groups = groups;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= ITEMS_PER_TASK) {
+                for (int i = from; i < to; i++) {
+                    T item = items.get(i);
+                    if (item != null) {
+                        results[i] = checkWithAnnotations(item, groups);
+                    }
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new BulkCheck<>(items, groups, results, from, middle),
+                    new BulkCheck<>(items, groups, results, middle, to));
+        }
+    }
 }
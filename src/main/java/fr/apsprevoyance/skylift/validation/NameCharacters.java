@@ -0,0 +1,51 @@
+package fr.apsprevoyance.skylift.validation;
+
+import fr.apsprevoyance.skylift.constants.ValidationConstants;
+
+/**
+ * Table-driven equivalent of {@link ValidationConstants#REGEX_NAME_VALID_CHARS}
+ * that checks a name without a {@code Matcher}.
+ */
+public final class NameCharacters {
+
+    private static final int LATIN_1_SIZE = 256;
+    private static final boolean[] ALLOWED = new boolean[LATIN_1_SIZE];
+
+    static {
+        allow('a', 'z');
+        allow('A', 'Z');
+        allow('0', '9');
+        allow('À', 'ÿ');
+        // \s without UNICODE_CHARACTER_CLASS: space, \t, \n, \u000B, \f, \r.
+        allow(' ', ' ');
+        allow('\t', '\r');
+        allow('\'', '\'');
+    }
+
+    private NameCharacters() {
+    }
+
+    /**
+     * Same result as {@code value.matches(REGEX_NAME_VALID_CHARS)}: at least one
+     * character, all of them allowed.
+     */
+    public static boolean matches(CharSequence value) {
+        int length = value.length();
+        if (length == 0) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= LATIN_1_SIZE || !ALLOWED[c]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void allow(char first, char last) {
+        for (char c = first; c <= last; c++) {
+            ALLOWED[c] = true;
+        }
+    }
+}
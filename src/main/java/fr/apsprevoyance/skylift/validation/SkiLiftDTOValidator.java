@@ -0,0 +1,84 @@
+package fr.apsprevoyance.skylift.validation;
+
+import static fr.apsprevoyance.skylift.validation.CompiledConstraints.ALL;
+import static fr.apsprevoyance.skylift.validation.CompiledConstraints.ON_CREATE;
+import static fr.apsprevoyance.skylift.validation.CompiledConstraints.ON_UPDATE;
+import static fr.apsprevoyance.skylift.validation.CompiledConstraints.add;
+import static fr.apsprevoyance.skylift.validation.CompiledConstraints.error;
+import static fr.apsprevoyance.skylift.validation.CompiledConstraints.in;
+
+import java.util.List;
+
+import fr.apsprevoyance.skylift.constants.AnnotationMessages;
+import fr.apsprevoyance.skylift.constants.ValidationConstants;
+import fr.apsprevoyance.skylift.dto.SkiLiftDTO;
+
+/**
+ * Constraints of {@link SkiLiftDTO}.
+ */
+final class SkiLiftDTOValidator implements CompiledValidator<SkiLiftDTO> {
+
+    private static final String ID_NULL = error("id", AnnotationMessages.Id.NULL);
+    private static final String ID_POSITIVE = error("id", AnnotationMessages.Id.POSITIVE);
+    private static final String NAME_EMPTY = error("name", AnnotationMessages.Name.EMPTY);
+    private static final String NAME_LENGTH = error("name", AnnotationMessages.Name.TEXT_LENGHT,
+            ValidationConstants.NAME_MIN_LENGTH, ValidationConstants.NAME_MAX_LENGTH);
+    private static final String NAME_CHARS = error("name", AnnotationMessages.Name.INVALID_CHARS);
+    private static final String TYPE_NULL = error("type", AnnotationMessages.Type.NULL);
+    private static final String STATUS_REQUIRED = error("status", AnnotationMessages.Generic.REQUIRED);
+    private static final String COMMENT_LENGTH = error("comment", AnnotationMessages.Description.TOO_LENGHT, 0,
+            ValidationConstants.DESCRIPTION_MAX_LENGTH);
+    private static final String SPORTS_REQUIRED = error("availableSports", AnnotationMessages.Generic.REQUIRED);
+    private static final String DATE_NULL = error("commissioningDate", AnnotationMessages.Date.NULL);
+    private static final String DATE_TOO_OLD = error("commissioningDate", AnnotationMessages.Date.TOO_OLD);
+
+    private static final int WRITE = ON_CREATE | ON_UPDATE;
+
+    @Override
+    public List<String> validate(SkiLiftDTO skiLift, Class<?>... groups) {
+        int selected = CompiledConstraints.groups(groups);
+        List<String> errors = null;
+
+        if (in(selected, ON_UPDATE) && skiLift.getId() == null) {
+            errors = add(errors, ID_NULL);
+        }
+        if (in(selected, ALL) && CompiledConstraints.notPositive(skiLift.getId())) {
+            errors = add(errors, ID_POSITIVE);
+        }
+
+        String name = skiLift.getName();
+        if (in(selected, WRITE) && CompiledConstraints.isBlank(name)) {
+            errors = add(errors, NAME_EMPTY);
+        }
+        if (in(selected, ALL) && CompiledConstraints.sizeOutside(name, ValidationConstants.NAME_MIN_LENGTH,
+                ValidationConstants.NAME_MAX_LENGTH)) {
+            errors = add(errors, NAME_LENGTH);
+        }
+        if (in(selected, ALL) && CompiledConstraints.invalidName(name)) {
+            errors = add(errors, NAME_CHARS);
+        }
+
+        if (in(selected, WRITE) && skiLift.getType() == null) {
+            errors = add(errors, TYPE_NULL);
+        }
+        if (in(selected, WRITE) && skiLift.getStatus() == null) {
+            errors = add(errors, STATUS_REQUIRED);
+        }
+        if (in(selected, ALL) && CompiledConstraints.sizeOutside(skiLift.getComment(), 0,
+                ValidationConstants.DESCRIPTION_MAX_LENGTH)) {
+            errors = add(errors, COMMENT_LENGTH);
+        }
+        if (in(selected, WRITE) && CompiledConstraints.isEmpty(skiLift.getAvailableSports())) {
+            errors = add(errors, SPORTS_REQUIRED);
+        }
+
+        if (in(selected, WRITE) && skiLift.getCommissioningDate() == null) {
+            errors = add(errors, DATE_NULL);
+        }
+        if (in(selected, ALL) && CompiledConstraints.tooOld(skiLift.getCommissioningDate())) {
+            errors = add(errors, DATE_TOO_OLD);
+        }
+
+        return CompiledConstraints.result(errors);
+    }
+}
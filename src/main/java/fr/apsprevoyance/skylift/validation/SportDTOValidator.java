@@ -0,0 +1,67 @@
+package fr.apsprevoyance.skylift.validation;
+
+import static fr.apsprevoyance.skylift.validation.CompiledConstraints.ALL;
+import static fr.apsprevoyance.skylift.validation.CompiledConstraints.ON_CREATE;
+import static fr.apsprevoyance.skylift.validation.CompiledConstraints.ON_UPDATE;
+import static fr.apsprevoyance.skylift.validation.CompiledConstraints.add;
+import static fr.apsprevoyance.skylift.validation.CompiledConstraints.error;
+import static fr.apsprevoyance.skylift.validation.CompiledConstraints.in;
+
+import java.util.List;
+
+import fr.apsprevoyance.skylift.constants.AnnotationMessages;
+import fr.apsprevoyance.skylift.constants.ValidationConstants;
+import fr.apsprevoyance.skylift.dto.SportDTO;
+
+/**
+ * Constraints of {@link SportDTO}.
+ */
+final class SportDTOValidator implements CompiledValidator<SportDTO> {
+
+    private static final String ID_NULL = error("id", AnnotationMessages.Id.NULL);
+    private static final String ID_POSITIVE = error("id", AnnotationMessages.Id.POSITIVE);
+    private static final String NAME_EMPTY = error("name", AnnotationMessages.Name.EMPTY);
+    private static final String NAME_LENGTH = error("name", AnnotationMessages.Name.TEXT_LENGHT,
+            ValidationConstants.NAME_MIN_LENGTH, ValidationConstants.NAME_MAX_LENGTH);
+    private static final String NAME_CHARS = error("name", AnnotationMessages.Name.INVALID_CHARS);
+    private static final String DESCRIPTION_LENGTH = error("description", AnnotationMessages.Description.TOO_LENGHT,
+            0, ValidationConstants.DESCRIPTION_MAX_LENGTH);
+    private static final String SEASON_NULL = error("season", AnnotationMessages.Season.NULL);
+
+    private static final int WRITE = ON_CREATE | ON_UPDATE;
+
+    @Override
+    public List<String> validate(SportDTO sport, Class<?>... groups) {
+        int selected = CompiledConstraints.groups(groups);
+        List<String> errors = null;
+
+        if (in(selected, ON_UPDATE) && sport.getId() == null) {
+            errors = add(errors, ID_NULL);
+        }
+        if (in(selected, ALL) && CompiledConstraints.notPositive(sport.getId())) {
+            errors = add(errors, ID_POSITIVE);
+        }
+
+        String name = sport.getName();
+        if (in(selected, WRITE) && CompiledConstraints.isBlank(name)) {
+            errors = add(errors, NAME_EMPTY);
+        }
+        if (in(selected, ALL) && CompiledConstraints.sizeOutside(name, ValidationConstants.NAME_MIN_LENGTH,
+                ValidationConstants.NAME_MAX_LENGTH)) {
+            errors = add(errors, NAME_LENGTH);
+        }
+        if (in(selected, ALL) && CompiledConstraints.invalidName(name)) {
+            errors = add(errors, NAME_CHARS);
+        }
+
+        if (in(selected, ALL) && CompiledConstraints.sizeOutside(sport.getDescription(), 0,
+                ValidationConstants.DESCRIPTION_MAX_LENGTH)) {
+            errors = add(errors, DESCRIPTION_LENGTH);
+        }
+        if (in(selected, WRITE) && sport.getSeason() == null) {
+            errors = add(errors, SEASON_NULL);
+        }
+
+        return CompiledConstraints.result(errors);
+    }
+}
@@ -0,0 +1,27 @@
+package fr.apsprevoyance.skylift.validation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import fr.apsprevoyance.skylift.constants.AnnotationMessages;
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+/**
+ * Same check as {@code @Pattern(regexp = REGEX_NAME_VALID_CHARS)} without a
+ * regex match per value.
+ */
+@Documented
+@Constraint(validatedBy = ValidNameValidator.class)
+@Target({ ElementType.FIELD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ValidName {
+    String message() default AnnotationMessages.Name.INVALID_CHARS;
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
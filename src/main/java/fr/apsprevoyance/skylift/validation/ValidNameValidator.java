@@ -0,0 +1,14 @@
+package fr.apsprevoyance.skylift.validation;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class ValidNameValidator implements ConstraintValidator<ValidName, CharSequence> {
+    @Override
+    public boolean isValid(CharSequence name, ConstraintValidatorContext context) {
+        if (name == null) {
+            return true;
+        }
+        return NameCharacters.matches(name);
+    }
+}
@@ -0,0 +1,246 @@
+package fr.apsprevoyance.skylift.controller;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.Type;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import fr.apsprevoyance.skylift.constants.SportLabels;
+import fr.apsprevoyance.skylift.constants.TestTag;
+import fr.apsprevoyance.skylift.dto.SkiLiftDTO;
+import fr.apsprevoyance.skylift.dto.SportDTO;
+import fr.apsprevoyance.skylift.enums.SkiLiftStatus;
+import fr.apsprevoyance.skylift.enums.SkiLiftType;
+
+@Tag(TestTag.CONTROLLER)
+class CachedJsonHttpMessageConverterTest {
+
+    private static final class TestConstants {
+        static final Type SKI_LIFT_LIST = new ParameterizedTypeReference<List<SkiLiftDTO>>() {
+        }.getType();
+        static final Type STRING_LIST = new ParameterizedTypeReference<List<String>>() {
+        }.getType();
+        static final String SKI_LIFT_NAME = "Télésiège des Marmottes";
+        static final String OTHER_NAME = "Téléski du Col";
+        static final LocalDate COMMISSIONING_DATE = LocalDate.of(2010, 12, 1);
+        static final int CATALOGUE_SIZE = 50;
+        static final String ETAG = "\"1a-2b\"";
+        static final String GZIP_ETAG = "\"1a-2b-gzip\"";
+    }
+
+    private ObjectMapper objectMapper;
+    private CachedJsonHttpMessageConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        converter = new CachedJsonHttpMessageConverter(objectMapper);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void output_shouldMatchJackson() throws Exception {
+        SkiLiftDTO first = skiLift(1L, TestConstants.SKI_LIFT_NAME);
+        List<SkiLiftDTO> skiLifts = List.of(first, skiLift(2L, TestConstants.OTHER_NAME), skiLift(null, "Tapis"));
+
+        assertArrayEquals(objectMapper.writeValueAsBytes(first), write(first, SkiLiftDTO.class));
+        assertArrayEquals(objectMapper.writeValueAsBytes(skiLifts), write(skiLifts, TestConstants.SKI_LIFT_LIST));
+        assertArrayEquals(objectMapper.writeValueAsBytes(List.of()), write(List.of(), TestConstants.SKI_LIFT_LIST));
+    }
+
+    @Test
+    void sameInstances_shouldBeEncodedOnce() throws Exception {
+        List<SkiLiftDTO> skiLifts = List.of(skiLift(1L, TestConstants.SKI_LIFT_NAME),
+                skiLift(2L, TestConstants.OTHER_NAME));
+
+        byte[] first = converter.encode(skiLifts, TestConstants.SKI_LIFT_LIST);
+        byte[] second = converter.encode(List.copyOf(skiLifts), TestConstants.SKI_LIFT_LIST);
+        converter.encode(skiLifts.get(0), SkiLiftDTO.class);
+
+        assertSame(first, second);
+        assertEquals(2, converter.encodings());
+    }
+
+    @Test
+    void changedItem_shouldBeTheOnlyOneEncodedAgain() throws Exception {
+        SkiLiftDTO unchanged = skiLift(1L, TestConstants.SKI_LIFT_NAME);
+        converter.encode(List.of(unchanged, skiLift(2L, TestConstants.OTHER_NAME)), TestConstants.SKI_LIFT_LIST);
+
+        List<SkiLiftDTO> updated = List.of(unchanged, skiLift(2L, "Téléski renommé"));
+        byte[] json = converter.encode(updated, TestConstants.SKI_LIFT_LIST);
+
+        assertArrayEquals(objectMapper.writeValueAsBytes(updated), json);
+        assertEquals(3, converter.encodings());
+    }
+
+    @Test
+    void canWrite_shouldOnlyAcceptDtosAsJson() {
+        assertTrue(converter.canWrite(TestConstants.SKI_LIFT_LIST, List.class, MediaType.APPLICATION_JSON));
+        assertTrue(converter.canWrite(SportDTO.class, SportDTO.class, null));
+        assertFalse(converter.canWrite(TestConstants.STRING_LIST, List.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(SkiLiftDTO.class, SkiLiftDTO.class, MediaType.APPLICATION_XML));
+        assertFalse(converter.canRead(SkiLiftDTO.class, SkiLiftDTO.class, MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void indentedOutput_shouldBeLeftToJackson() {
+        CachedJsonHttpMessageConverter indented = new CachedJsonHttpMessageConverter(
+                new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT));
+
+        assertFalse(indented.canWrite(SkiLiftDTO.class, SkiLiftDTO.class, MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void largeList_shouldBeCompressedOnceAndReused() throws Exception {
+        List<SkiLiftDTO> catalogue = catalogue();
+
+        byte[] gzipped = converter.encodeGzip(catalogue, TestConstants.SKI_LIFT_LIST);
+
+        assertSame(gzipped, converter.encodeGzip(List.copyOf(catalogue), TestConstants.SKI_LIFT_LIST));
+        assertArrayEquals(objectMapper.writeValueAsBytes(catalogue), gunzip(gzipped));
+        assertTrue(gzipped.length < converter.encode(catalogue, TestConstants.SKI_LIFT_LIST).length / 4);
+        assertEquals(1, converter.compressions());
+    }
+
+    @Test
+    void smallBodies_shouldNotBeCompressed() throws Exception {
+        SkiLiftDTO skiLift = skiLift(1L, TestConstants.SKI_LIFT_NAME);
+
+        assertNull(converter.encodeGzip(List.of(skiLift), TestConstants.SKI_LIFT_LIST));
+        assertNull(converter.encodeGzip(skiLift, SkiLiftDTO.class));
+    }
+
+    @Test
+    void write_toClientAcceptingGzip_shouldSendTheCompressedCopy() throws Exception {
+        acceptGzip(HttpMethod.GET);
+        List<SkiLiftDTO> catalogue = catalogue();
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+        converter.write(catalogue, TestConstants.SKI_LIFT_LIST, MediaType.APPLICATION_JSON, outputMessage);
+
+        assertEquals(CachedJsonHttpMessageConverter.GZIP,
+                outputMessage.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(outputMessage.getBodyAsBytes().length, outputMessage.getHeaders().getContentLength());
+        assertArrayEquals(objectMapper.writeValueAsBytes(catalogue), gunzip(outputMessage.getBodyAsBytes()));
+    }
+
+    @Test
+    void write_compressed_shouldTagTheGzipRepresentation() throws Exception {
+        acceptGzip(HttpMethod.GET);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setHeader(HttpHeaders.ETAG, TestConstants.ETAG);
+
+        converter.write(catalogue(), TestConstants.SKI_LIFT_LIST, MediaType.APPLICATION_JSON,
+                new ServletServerHttpResponse(response));
+
+        assertEquals(CachedJsonHttpMessageConverter.GZIP, response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(TestConstants.GZIP_ETAG, response.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void write_smallList_shouldKeepTheIdentityTag() throws Exception {
+        acceptGzip(HttpMethod.GET);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setHeader(HttpHeaders.ETAG, TestConstants.ETAG);
+
+        converter.write(List.of(skiLift(1L, TestConstants.SKI_LIFT_NAME)), TestConstants.SKI_LIFT_LIST,
+                MediaType.APPLICATION_JSON, new ServletServerHttpResponse(response));
+
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(TestConstants.ETAG, response.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void write_batchResponse_shouldNotBeCompressed() throws Exception {
+        acceptGzip(HttpMethod.POST);
+        List<SkiLiftDTO> catalogue = catalogue();
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+        converter.write(catalogue, TestConstants.SKI_LIFT_LIST, MediaType.APPLICATION_JSON, outputMessage);
+
+        assertNull(outputMessage.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(objectMapper.writeValueAsBytes(catalogue), outputMessage.getBodyAsBytes());
+        assertEquals(0, converter.compressions());
+    }
+
+    @Test
+    void acceptsGzip_shouldHonourQualityValues() {
+        assertTrue(CachedJsonHttpMessageConverter.acceptsGzip("gzip"));
+        assertTrue(CachedJsonHttpMessageConverter.acceptsGzip("br;q=1.0, GZIP;q=0.5"));
+        assertTrue(CachedJsonHttpMessageConverter.acceptsGzip("*"));
+        assertTrue(CachedJsonHttpMessageConverter.acceptsGzip("*;q=0, gzip"));
+        assertFalse(CachedJsonHttpMessageConverter.acceptsGzip(null));
+        assertFalse(CachedJsonHttpMessageConverter.acceptsGzip("identity"));
+        assertFalse(CachedJsonHttpMessageConverter.acceptsGzip("gzip;q=0, br"));
+        assertFalse(CachedJsonHttpMessageConverter.acceptsGzip("gzip;q=0, *"));
+        assertFalse(CachedJsonHttpMessageConverter.acceptsGzip("gzip; q=0.0"));
+    }
+
+    private static void acceptGzip(HttpMethod method) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method.name(), "/api/ski-lifts");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private byte[] write(Object value, Type type) throws Exception {
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        converter.write(value, type, MediaType.APPLICATION_JSON, outputMessage);
+        assertEquals(MediaType.APPLICATION_JSON, outputMessage.getHeaders().getContentType());
+        return outputMessage.getBodyAsBytes();
+    }
+
+    private static List<SkiLiftDTO> catalogue() {
+        return LongStream.rangeClosed(1, TestConstants.CATALOGUE_SIZE)
+                .mapToObj(id -> skiLift(id, TestConstants.SKI_LIFT_NAME + " " + id)).toList();
+    }
+
+    private static byte[] gunzip(byte[] gzipped) throws Exception {
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            return input.readAllBytes();
+        }
+    }
+
+    private static SkiLiftDTO skiLift(Long id, String name) {
+        SkiLiftDTO dto = new SkiLiftDTO();
+        dto.setId(id);
+        dto.setName(name);
+        dto.setType(SkiLiftType.TELESIEGE);
+        dto.setStatus(SkiLiftStatus.OPEN);
+        dto.setAvailableSports(Set.of(SportLabels.SKI));
+        dto.setCommissioningDate(TestConstants.COMMISSIONING_DATE);
+        return dto;
+    }
+}
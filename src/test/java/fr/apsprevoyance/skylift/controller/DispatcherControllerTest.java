@@ -1,31 +1,57 @@
 package fr.apsprevoyance.skylift.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
 import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import fr.apsprevoyance.skylift.constants.SportLabels;
 import fr.apsprevoyance.skylift.constants.TestTag;
+import fr.apsprevoyance.skylift.constants.ValidationConstants;
 import fr.apsprevoyance.skylift.dto.SkiLiftDTO;
 import fr.apsprevoyance.skylift.dto.SportDTO;
 import fr.apsprevoyance.skylift.enums.Season;
+import fr.apsprevoyance.skylift.enums.SkiLiftField;
 import fr.apsprevoyance.skylift.enums.SkiLiftStatus;
 import fr.apsprevoyance.skylift.enums.SkiLiftType;
+import fr.apsprevoyance.skylift.enums.SportField;
 import fr.apsprevoyance.skylift.enums.ValidationContextType;
 import fr.apsprevoyance.skylift.exception.ValidationException;
 import fr.apsprevoyance.skylift.service.SkiLiftService;
@@ -47,17 +73,29 @@ class DispatcherControllerTest {
         static final String SKI_LIFT_NAME = "Télésiège des Marmottes";
         static final String SKI_LIFT_ENTITY_NAME = "SkiLift";
         static final String SKI_LIFT_ID_MISMATCH_ERROR = "The URL ID does not match the upstream ID in the request body";
+        static final String LAST_EVENT_ID = "m1x2y3-42";
     }
 
     private SportService sportService;
     private SkiLiftService skiLiftService;
+    private ObjectMapper objectMapper;
+    private SkiLiftEventStream skiLiftEventStream;
+    private MockHttpServletRequest servletRequest;
+    private MockHttpServletResponse servletResponse;
+    private WebRequest request;
     private DispatcherController dispatcherController;
 
     @BeforeEach
     void setUp() {
         sportService = mock(SportService.class);
         skiLiftService = mock(SkiLiftService.class);
-        dispatcherController = new DispatcherController(sportService, skiLiftService);
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        skiLiftEventStream = mock(SkiLiftEventStream.class);
+        dispatcherController = new DispatcherController(sportService, skiLiftService, objectMapper,
+                skiLiftEventStream);
+        servletRequest = new MockHttpServletRequest(HttpMethod.GET.name(), "/api");
+        servletResponse = new MockHttpServletResponse();
+        request = new ServletWebRequest(servletRequest, servletResponse);
     }
 
     private SportDTO createValidSportDTO() {
@@ -89,7 +127,7 @@ class DispatcherControllerTest {
         List<SportDTO> sports = Collections.singletonList(createValidSportDTO());
         when(sportService.findAllSports()).thenReturn(sports);
 
-        ResponseEntity<List<SportDTO>> response = dispatcherController.getAllSports();
+        ResponseEntity<List<SportDTO>> response = dispatcherController.getAllSports(null, null, request);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
@@ -97,13 +135,37 @@ class DispatcherControllerTest {
         verify(sportService).findAllSports();
     }
 
+    @Test
+    void findAllSports_withLimit_shouldReturnPageWithNextCursorWhenFull() {
+
+        SportDTO sport = createValidSportDTO();
+        when(sportService.findSportPage(null, 1)).thenReturn(List.of(sport));
+
+        ResponseEntity<List<SportDTO>> response = dispatcherController.getAllSports(null, 1, request);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().size());
+        assertEquals(String.valueOf(TestConstants.SPORT_VALID_ID),
+                response.getHeaders().getFirst(DispatcherController.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void findAllSports_withInvalidLimit_shouldThrowValidationException() {
+
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> dispatcherController.getAllSports(null, 0, request));
+
+        assertEquals(ValidationContextType.REQUEST, exception.getContextType());
+    }
+
     @Test
     void findSportById_shouldDelegateToServiceAndReturnSport() {
 
         SportDTO sport = createValidSportDTO();
         when(sportService.findSportById(TestConstants.SPORT_VALID_ID)).thenReturn(sport);
 
-        ResponseEntity<SportDTO> response = dispatcherController.getSportById(TestConstants.SPORT_VALID_ID);
+        ResponseEntity<SportDTO> response = dispatcherController.getSportById(TestConstants.SPORT_VALID_ID,
+                request);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
@@ -183,7 +245,8 @@ class DispatcherControllerTest {
         List<SkiLiftDTO> skiLifts = Collections.singletonList(createValidSkiLiftDTO());
         when(skiLiftService.findAllSkiLifts()).thenReturn(skiLifts);
 
-        ResponseEntity<List<SkiLiftDTO>> response = dispatcherController.getAllSkiLifts();
+        ResponseEntity<List<SkiLiftDTO>> response = dispatcherController.getAllSkiLifts(null, null, null, null, null,
+                request);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
@@ -191,13 +254,185 @@ class DispatcherControllerTest {
         verify(skiLiftService).findAllSkiLifts();
     }
 
+    @Test
+    void findAllSkiLifts_withFilters_shouldDelegateToFilteredSearch() {
+
+        List<SkiLiftDTO> skiLifts = Collections.singletonList(createValidSkiLiftDTO());
+        when(skiLiftService.findSkiLifts(SkiLiftStatus.OPEN, SkiLiftType.TELESIEGE, SportLabels.SKI))
+                .thenReturn(skiLifts);
+
+        ResponseEntity<List<SkiLiftDTO>> response = dispatcherController.getAllSkiLifts(SkiLiftStatus.OPEN,
+                SkiLiftType.TELESIEGE, SportLabels.SKI, null, null, request);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().size());
+        verify(skiLiftService).findSkiLifts(SkiLiftStatus.OPEN, SkiLiftType.TELESIEGE, SportLabels.SKI);
+    }
+
+    @Test
+    void findAllSkiLifts_withCursor_shouldUseDefaultPageSizeAndOmitCursorOnLastPage() {
+
+        List<SkiLiftDTO> skiLifts = Collections.singletonList(createValidSkiLiftDTO());
+        when(skiLiftService.findSkiLiftPage(SkiLiftStatus.OPEN, null, null, TestConstants.SKI_LIFT_VALID_ID,
+                ValidationConstants.PAGE_DEFAULT_SIZE)).thenReturn(skiLifts);
+
+        ResponseEntity<List<SkiLiftDTO>> response = dispatcherController.getAllSkiLifts(SkiLiftStatus.OPEN, null,
+                null, TestConstants.SKI_LIFT_VALID_ID, null, request);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().size());
+        assertNull(response.getHeaders().getFirst(DispatcherController.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void findAllSkiLifts_withNegativeCursor_shouldThrowValidationException() {
+
+        assertThrows(ValidationException.class,
+                () -> dispatcherController.getAllSkiLifts(null, null, null, -1L, 10, request));
+    }
+
+    @Test
+    void findSkiLiftProjections_shouldAlwaysSelectTheId() {
+
+        Set<SkiLiftField> projection = EnumSet.of(SkiLiftField.ID, SkiLiftField.NAME, SkiLiftField.STATUS);
+        Map<String, Object> skiLift = Map.of("id", TestConstants.SKI_LIFT_VALID_ID);
+        when(skiLiftService.findSkiLiftProjections(null, null, null, projection)).thenReturn(List.of(skiLift));
+
+        ResponseEntity<List<Map<String, Object>>> response = dispatcherController
+                .getSkiLiftProjections("status, name", null, null, null, null, null, request);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of(skiLift), response.getBody());
+        verify(skiLiftService).findSkiLiftProjections(null, null, null, projection);
+    }
+
+    @Test
+    void findSkiLiftProjections_withFullPage_shouldReturnCursorFromTheId() {
+
+        Map<String, Object> skiLift = Map.of("id", TestConstants.SKI_LIFT_VALID_ID);
+        when(skiLiftService.findSkiLiftProjectionPage(eq(null), eq(null), eq(null), eq(null), eq(1), any()))
+                .thenReturn(List.of(skiLift));
+
+        ResponseEntity<List<Map<String, Object>>> response = dispatcherController.getSkiLiftProjections("name",
+                null, null, null, null, 1, request);
+
+        assertEquals(String.valueOf(TestConstants.SKI_LIFT_VALID_ID),
+                response.getHeaders().getFirst(DispatcherController.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void findSkiLiftProjectionById_withUnknownField_shouldThrowValidationException() {
+
+        ValidationException exception = assertThrows(ValidationException.class, () -> dispatcherController
+                .getSkiLiftProjectionById(TestConstants.SKI_LIFT_VALID_ID, "name,altitude", request));
+
+        assertEquals(ValidationContextType.REQUEST, exception.getContextType());
+        assertTrue(exception.getMessage().contains("altitude"));
+    }
+
+    @Test
+    void findSportProjectionById_shouldDelegateWithTheSelectedFields() {
+
+        Set<SportField> projection = EnumSet.of(SportField.ID, SportField.SEASON);
+        Map<String, Object> sport = Map.of("id", TestConstants.SPORT_VALID_ID, "season", Season.WINTER);
+        when(sportService.findSportProjectionById(TestConstants.SPORT_VALID_ID, projection)).thenReturn(sport);
+
+        ResponseEntity<Map<String, Object>> response = dispatcherController
+                .getSportProjectionById(TestConstants.SPORT_VALID_ID, "season", request);
+
+        assertEquals(sport, response.getBody());
+    }
+
+    @Test
+    void patchSkiLift_shouldPassOnlyThePresentMembers() throws Exception {
+
+        SkiLiftDTO patched = createValidSkiLiftDTO();
+        when(skiLiftService.patchSkiLift(eq(TestConstants.SKI_LIFT_VALID_ID), any(SkiLiftDTO.class),
+                eq(EnumSet.of(SkiLiftField.STATUS, SkiLiftField.COMMENT)))).thenReturn(patched);
+
+        ResponseEntity<SkiLiftDTO> response = dispatcherController.patchSkiLift(TestConstants.SKI_LIFT_VALID_ID,
+                objectMapper.readTree("{\"id\": 789, \"status\": \"CLOSED\", \"comment\": null}"));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(patched, response.getBody());
+        verify(skiLiftService).patchSkiLift(eq(TestConstants.SKI_LIFT_VALID_ID),
+                argThat(changes -> changes.getStatus() == SkiLiftStatus.CLOSED
+                        && "".equals(changes.getComment())),
+                eq(EnumSet.of(SkiLiftField.STATUS, SkiLiftField.COMMENT)));
+    }
+
+    @Test
+    void patchSkiLift_withUnknownMemberOrOtherId_shouldThrowValidationException() throws Exception {
+
+        assertThrows(ValidationException.class, () -> dispatcherController
+                .patchSkiLift(TestConstants.SKI_LIFT_VALID_ID, objectMapper.readTree("{\"altitude\": 2000}")));
+        assertThrows(ValidationException.class, () -> dispatcherController.patchSkiLift(
+                TestConstants.SKI_LIFT_VALID_ID, objectMapper.readTree("{\"id\": 101112, \"name\": \"Télé\"}")));
+        assertThrows(ValidationException.class, () -> dispatcherController
+                .patchSkiLift(TestConstants.SKI_LIFT_VALID_ID, objectMapper.readTree("[]")));
+        assertThrows(ValidationException.class, () -> dispatcherController
+                .patchSkiLift(TestConstants.SKI_LIFT_VALID_ID, objectMapper.readTree("{\"status\": \"FLYING\"}")));
+        verify(skiLiftService, times(0)).patchSkiLift(any(), any(), any());
+    }
+
+    @Test
+    void updateSkiLiftStatus_shouldDelegateToTheFastPath() {
+
+        SkiLiftDTO updated = createValidSkiLiftDTO();
+        when(skiLiftService.updateSkiLiftStatus(TestConstants.SKI_LIFT_VALID_ID, SkiLiftStatus.CLOSED))
+                .thenReturn(updated);
+
+        ResponseEntity<SkiLiftDTO> response = dispatcherController
+                .updateSkiLiftStatus(TestConstants.SKI_LIFT_VALID_ID, SkiLiftStatus.CLOSED);
+
+        assertEquals(updated, response.getBody());
+    }
+
+    @Test
+    void exportSkiLifts_shouldStreamOneJsonDocumentPerLine() throws Exception {
+
+        SkiLiftDTO first = createValidSkiLiftDTO();
+        SkiLiftDTO second = createValidSkiLiftDTO();
+        second.setId(TestConstants.SKI_LIFT_DIFFERENT_ID);
+        when(skiLiftService.findSkiLiftPage(null, null, null, null, 500)).thenReturn(List.of(first, second));
+
+        ResponseEntity<StreamingResponseBody> response = dispatcherController.exportSkiLifts();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        response.getBody().writeTo(output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        assertEquals(2, lines.length);
+        assertEquals(TestConstants.SKI_LIFT_VALID_ID, objectMapper.readValue(lines[0], SkiLiftDTO.class).getId());
+        assertEquals(TestConstants.SKI_LIFT_DIFFERENT_ID, objectMapper.readValue(lines[1], SkiLiftDTO.class).getId());
+    }
+
+    @Test
+    void createSkiLifts_shouldDelegateBatchToServiceAndReturnCreated() {
+
+        List<SkiLiftDTO> skiLifts = List.of(createValidSkiLiftDTO());
+        when(skiLiftService.createSkiLifts(skiLifts)).thenReturn(skiLifts);
+
+        ResponseEntity<List<SkiLiftDTO>> response = dispatcherController.createSkiLifts(skiLifts);
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(skiLifts, response.getBody());
+    }
+
+    @Test
+    void updateSkiLifts_withEmptyBatch_shouldThrowValidationException() {
+
+        assertThrows(ValidationException.class, () -> dispatcherController.updateSkiLifts(List.of()));
+    }
+
     @Test
     void findSkiLiftById_shouldDelegateToServiceAndReturnSkiLift() {
 
         SkiLiftDTO skiLift = createValidSkiLiftDTO();
         when(skiLiftService.findSkiLiftById(TestConstants.SKI_LIFT_VALID_ID)).thenReturn(skiLift);
 
-        ResponseEntity<SkiLiftDTO> response = dispatcherController.getSkiLiftById(TestConstants.SKI_LIFT_VALID_ID);
+        ResponseEntity<SkiLiftDTO> response = dispatcherController.getSkiLiftById(TestConstants.SKI_LIFT_VALID_ID,
+                request);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
@@ -205,6 +440,117 @@ class DispatcherControllerTest {
         verify(skiLiftService).findSkiLiftById(TestConstants.SKI_LIFT_VALID_ID);
     }
 
+    @Test
+    void findSkiLiftById_shouldTagTheResponseWithTheRowVersion() {
+
+        when(skiLiftService.skiLiftVersion(TestConstants.SKI_LIFT_VALID_ID)).thenReturn(OptionalLong.of(1L));
+        when(skiLiftService.findSkiLiftById(TestConstants.SKI_LIFT_VALID_ID)).thenReturn(createValidSkiLiftDTO());
+
+        ResponseEntity<SkiLiftDTO> response = dispatcherController.getSkiLiftById(TestConstants.SKI_LIFT_VALID_ID,
+                request);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(servletResponse.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void findSkiLiftById_withCurrentETag_shouldAnswerNotModifiedWithoutReading() {
+
+        when(skiLiftService.skiLiftVersion(TestConstants.SKI_LIFT_VALID_ID)).thenReturn(OptionalLong.of(1L));
+        when(skiLiftService.findSkiLiftById(TestConstants.SKI_LIFT_VALID_ID)).thenReturn(createValidSkiLiftDTO());
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        dispatcherController.getSkiLiftById(TestConstants.SKI_LIFT_VALID_ID,
+                new ServletWebRequest(new MockHttpServletRequest(HttpMethod.GET.name(), "/api"), first));
+        servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, first.getHeader(HttpHeaders.ETAG));
+
+        ResponseEntity<SkiLiftDTO> response = dispatcherController.getSkiLiftById(TestConstants.SKI_LIFT_VALID_ID,
+                request);
+
+        assertNull(response);
+        assertEquals(HttpStatus.NOT_MODIFIED.value(), servletResponse.getStatus());
+        verify(skiLiftService, times(1)).findSkiLiftById(TestConstants.SKI_LIFT_VALID_ID);
+    }
+
+    @Test
+    void findAllSkiLifts_afterAWrite_shouldNotMatchThePreviousETag() {
+
+        when(skiLiftService.skiLiftsVersion()).thenReturn(OptionalLong.of(1L), OptionalLong.of(2L));
+        when(skiLiftService.findAllSkiLifts()).thenReturn(List.of(createValidSkiLiftDTO()));
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        dispatcherController.getAllSkiLifts(null, null, null, null, null,
+                new ServletWebRequest(new MockHttpServletRequest(HttpMethod.GET.name(), "/api"), first));
+        servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, first.getHeader(HttpHeaders.ETAG));
+
+        ResponseEntity<List<SkiLiftDTO>> response = dispatcherController.getAllSkiLifts(null, null, null, null, null,
+                request);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotEquals(first.getHeader(HttpHeaders.ETAG), servletResponse.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void findAllSkiLifts_acceptingGzip_shouldVaryAndLeaveTheGzipTagToTheConverter() {
+
+        when(skiLiftService.skiLiftsVersion()).thenReturn(OptionalLong.of(1L));
+        when(skiLiftService.findAllSkiLifts()).thenReturn(List.of(createValidSkiLiftDTO()));
+        MockHttpServletResponse identity = new MockHttpServletResponse();
+        dispatcherController.getAllSkiLifts(null, null, null, null, null,
+                new ServletWebRequest(new MockHttpServletRequest(HttpMethod.GET.name(), "/api"), identity));
+        servletRequest.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+
+        dispatcherController.getAllSkiLifts(null, null, null, null, null, request);
+
+        assertTrue(servletResponse.getHeader(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT_ENCODING));
+        assertEquals(identity.getHeader(HttpHeaders.ETAG), servletResponse.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void findAllSkiLifts_withCurrentGzipETag_shouldAnswerNotModified() {
+
+        when(skiLiftService.skiLiftsVersion()).thenReturn(OptionalLong.of(1L));
+        MockHttpServletResponse identity = new MockHttpServletResponse();
+        dispatcherController.getAllSkiLifts(null, null, null, null, null,
+                new ServletWebRequest(new MockHttpServletRequest(HttpMethod.GET.name(), "/api"), identity));
+        String identityTag = identity.getHeader(HttpHeaders.ETAG);
+        String gzipTag = identityTag.substring(0, identityTag.length() - 1) + "-gzip\"";
+        servletRequest.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, gzipTag);
+
+        ResponseEntity<List<SkiLiftDTO>> response = dispatcherController.getAllSkiLifts(null, null, null, null, null,
+                request);
+
+        assertNull(response);
+        assertEquals(HttpStatus.NOT_MODIFIED.value(), servletResponse.getStatus());
+        assertEquals(gzipTag, servletResponse.getHeader(HttpHeaders.ETAG));
+        verify(skiLiftService, times(1)).findAllSkiLifts();
+    }
+
+    @Test
+    void findSkiLiftById_askingForCbor_shouldUseItsOwnETag() {
+
+        when(skiLiftService.skiLiftVersion(TestConstants.SKI_LIFT_VALID_ID)).thenReturn(OptionalLong.of(1L));
+        when(skiLiftService.findSkiLiftById(TestConstants.SKI_LIFT_VALID_ID)).thenReturn(createValidSkiLiftDTO());
+        MockHttpServletResponse json = new MockHttpServletResponse();
+        dispatcherController.getSkiLiftById(TestConstants.SKI_LIFT_VALID_ID,
+                new ServletWebRequest(new MockHttpServletRequest(HttpMethod.GET.name(), "/api"), json));
+        servletRequest.addHeader(HttpHeaders.ACCEPT, "application/cbor");
+
+        dispatcherController.getSkiLiftById(TestConstants.SKI_LIFT_VALID_ID, request);
+
+        assertEquals(HttpHeaders.ACCEPT, servletResponse.getHeader(HttpHeaders.VARY));
+        assertNotEquals(json.getHeader(HttpHeaders.ETAG), servletResponse.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void findSportById_withoutVersion_shouldNotBeTagged() {
+
+        when(sportService.findSportById(TestConstants.SPORT_VALID_ID)).thenReturn(createValidSportDTO());
+
+        dispatcherController.getSportById(TestConstants.SPORT_VALID_ID, request);
+
+        assertNull(servletResponse.getHeader(HttpHeaders.ETAG));
+    }
+
     @Test
     void updateSkiLift_withMatchingId_shouldDelegateToService() {
 
@@ -244,4 +590,14 @@ class DispatcherControllerTest {
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
         verify(skiLiftService).deleteSkiLift(TestConstants.SKI_LIFT_VALID_ID);
     }
+
+    @Test
+    void streamSkiLiftEvents_shouldResumeAfterLastEventId() {
+        SseEmitter emitter = new SseEmitter();
+        when(skiLiftEventStream.open(TestConstants.LAST_EVENT_ID)).thenReturn(emitter);
+
+        SseEmitter result = dispatcherController.streamSkiLiftEvents(TestConstants.LAST_EVENT_ID);
+
+        assertSame(emitter, result);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,77 @@
+package fr.apsprevoyance.skylift.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import fr.apsprevoyance.skylift.constants.SportLabels;
+import fr.apsprevoyance.skylift.constants.TestTag;
+import fr.apsprevoyance.skylift.dto.SkiLiftDTO;
+import fr.apsprevoyance.skylift.enums.SkiLiftStatus;
+import fr.apsprevoyance.skylift.enums.SkiLiftType;
+
+@Tag(TestTag.CONTROLLER)
+class WebConfigurationTest {
+
+    private static final class TestConstants {
+        static final MediaType CBOR = MediaType.APPLICATION_CBOR;
+        static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+        static final Long SKI_LIFT_ID = 7L;
+        static final String SKI_LIFT_NAME = "Télésiège des Marmottes";
+        static final LocalDate COMMISSIONING_DATE = LocalDate.of(2010, 12, 1);
+    }
+
+    private final WebConfiguration configuration = new WebConfiguration(
+            Jackson2ObjectMapperBuilder.json().build());
+
+    @Test
+    void cbor_shouldRoundTripASkiLift() throws Exception {
+        assertRoundTrip(configuration.cborHttpMessageConverter(Jackson2ObjectMapperBuilder.json()),
+                TestConstants.CBOR);
+    }
+
+    @Test
+    void smile_shouldRoundTripASkiLift() throws Exception {
+        assertRoundTrip(configuration.smileHttpMessageConverter(Jackson2ObjectMapperBuilder.json()),
+                TestConstants.SMILE);
+    }
+
+    private static void assertRoundTrip(AbstractJackson2HttpMessageConverter converter, MediaType mediaType)
+            throws Exception {
+        SkiLiftDTO skiLift = skiLift();
+        assertTrue(converter.canRead(SkiLiftDTO.class, mediaType));
+
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(skiLift, SkiLiftDTO.class, mediaType, output);
+        SkiLiftDTO read = (SkiLiftDTO) converter.read(SkiLiftDTO.class, null,
+                new MockHttpInputMessage(output.getBodyAsBytes()));
+
+        assertEquals(mediaType, output.getHeaders().getContentType());
+        assertEquals(skiLift.getId(), read.getId());
+        assertEquals(skiLift.getName(), read.getName());
+        assertEquals(skiLift.getType(), read.getType());
+        assertEquals(skiLift.getAvailableSports(), read.getAvailableSports());
+        assertEquals(skiLift.getCommissioningDate(), read.getCommissioningDate());
+    }
+
+    private static SkiLiftDTO skiLift() {
+        SkiLiftDTO dto = new SkiLiftDTO();
+        dto.setId(TestConstants.SKI_LIFT_ID);
+        dto.setName(TestConstants.SKI_LIFT_NAME);
+        dto.setType(SkiLiftType.TELESIEGE);
+        dto.setStatus(SkiLiftStatus.OPEN);
+        dto.setAvailableSports(Set.of(SportLabels.SKI, SportLabels.SNOWBOARD));
+        dto.setCommissioningDate(TestConstants.COMMISSIONING_DATE);
+        return dto;
+    }
+}
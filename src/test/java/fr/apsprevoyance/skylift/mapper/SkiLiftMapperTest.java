@@ -6,7 +6,10 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDate;
+import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -16,6 +19,7 @@ import org.mapstruct.factory.Mappers;
 
 import fr.apsprevoyance.skylift.constants.SportLabels;
 import fr.apsprevoyance.skylift.dto.SkiLiftDTO;
+import fr.apsprevoyance.skylift.enums.SkiLiftField;
 import fr.apsprevoyance.skylift.enums.SkiLiftStatus;
 import fr.apsprevoyance.skylift.enums.SkiLiftType;
 import fr.apsprevoyance.skylift.model.SkiLift;
@@ -53,6 +57,31 @@ public class SkiLiftMapperTest {
                 .comment(VALID_COMMENT).availableSports(VALID_SPORTS).commissioningDate(VALID_DATE).build();
     }
 
+    @Test
+    public void toProjection_should_only_read_requested_fields() {
+        Map<String, Object> result = mapper.toProjection(entity,
+                EnumSet.of(SkiLiftField.STATUS, SkiLiftField.ID, SkiLiftField.NAME));
+
+        assertEquals(List.of("id", "name", "status"), List.copyOf(result.keySet()));
+        assertEquals(VALID_ID, result.get("id"));
+        assertEquals(VALID_NAME, result.get("name"));
+        assertEquals(VALID_STATUS, result.get("status"));
+    }
+
+    @Test
+    public void toProjection_with_all_fields_should_match_toDto() {
+        SkiLift withoutComment = SkiLift.builder().id(VALID_ID).name(VALID_NAME).type(VALID_TYPE)
+                .status(VALID_STATUS).availableSports(VALID_SPORTS).commissioningDate(VALID_DATE).build();
+        SkiLiftDTO expected = mapper.toDto(withoutComment);
+
+        Map<String, Object> result = mapper.toProjection(withoutComment, EnumSet.allOf(SkiLiftField.class));
+
+        assertEquals(expected.getComment(), result.get("comment"));
+        assertEquals(expected.getAvailableSports(), result.get("availableSports"));
+        assertEquals(expected.getCommissioningDate(), result.get("commissioningDate"));
+        assertEquals(expected.getType(), result.get("type"));
+    }
+
     @Test
     public void toEntityForCreate_should_map_dto_to_entity_without_id() {
         SkiLift result = mapper.toEntityForCreate(dto);
@@ -214,6 +243,23 @@ public class SkiLiftMapperTest {
         assertEquals(SkiLiftStatus.MAINTENANCE, result.getStatus());
     }
 
+    @Test
+    public void updateEntityFromDto_with_fields_should_copy_only_those_fields() {
+        SkiLift.Builder builder = entity.toBuilder();
+        SkiLiftDTO changes = new SkiLiftDTO();
+        changes.setName("Ignored Name");
+        changes.setStatus(SkiLiftStatus.CLOSED);
+        changes.setComment(null);
+
+        mapper.updateEntityFromDto(changes, EnumSet.of(SkiLiftField.STATUS, SkiLiftField.COMMENT), builder);
+        SkiLift result = builder.build();
+
+        assertEquals(VALID_NAME, result.getName());
+        assertEquals(SkiLiftStatus.CLOSED, result.getStatus());
+        assertEquals("", result.getComment());
+        assertEquals(VALID_SPORTS, result.getAvailableSports());
+    }
+
     @Test
     public void toDto_should_handle_null_collections() {
         SkiLift entityWithNullCollections = SkiLift.builder().id(VALID_ID).name(VALID_NAME).type(VALID_TYPE)
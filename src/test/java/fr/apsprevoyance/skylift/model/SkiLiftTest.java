@@ -4,10 +4,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDate;
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -49,6 +51,18 @@ public class SkiLiftTest {
                 .comment(VALID_COMMENT).availableSports(VALID_SPORTS).commissioningDate(VALID_DATE).build();
     }
 
+    @Test
+    public void toBuilder_keeps_every_value_and_shares_the_sports() {
+        SkiLift copy = skiLift.toBuilder().build();
+        SkiLift closed = skiLift.toBuilder().status(SkiLiftStatus.CLOSED).build();
+
+        assertEquals(skiLift, copy);
+        assertSame(skiLift.getAvailableSports(), copy.getAvailableSports());
+        assertEquals(SkiLiftStatus.CLOSED, closed.getStatus());
+        assertEquals(VALID_NAME, closed.getName());
+        assertEquals(VALID_STATUS, skiLift.getStatus());
+    }
+
     @Test
     public void model_with_valid_values_passes_validation() {
         Set<ConstraintViolation<SkiLift>> violations = validator.validate(skiLift, OnUpdate.class, Default.class);
@@ -303,4 +317,24 @@ public class SkiLiftTest {
 
         assertNotEquals(skiLift.hashCode(), differentSkiLift.hashCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void hashCode_should_keep_the_value_of_objects_hash() {
+        assertEquals(Objects.hash(skiLift.getAvailableSports(), VALID_COMMENT, VALID_DATE, VALID_ID, VALID_NAME,
+                VALID_STATUS, VALID_TYPE), skiLift.hashCode());
+    }
+
+    @Test
+    public void equals_should_still_compare_fields_once_hashes_are_cached() {
+        SkiLift otherComment = SkiLift.builder().id(VALID_ID).name(VALID_NAME).type(VALID_TYPE).status(VALID_STATUS)
+                .comment("Autre commentaire").availableSports(VALID_SPORTS).commissioningDate(VALID_DATE).build();
+        SkiLift identical = SkiLift.builder().id(VALID_ID).name(VALID_NAME).type(VALID_TYPE).status(VALID_STATUS)
+                .comment(VALID_COMMENT).availableSports(VALID_SPORTS).commissioningDate(VALID_DATE).build();
+        skiLift.hashCode();
+        otherComment.hashCode();
+        identical.hashCode();
+
+        assertNotEquals(skiLift, otherComment);
+        assertEquals(skiLift, identical);
+    }
+}
@@ -0,0 +1,121 @@
+package fr.apsprevoyance.skylift.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import fr.apsprevoyance.skylift.constants.SportLabels;
+import fr.apsprevoyance.skylift.constants.TestTag;
+
+@Tag(TestTag.MODEL)
+class SportNameSetTest {
+
+    private static final class TestConstants {
+        private static final Set<String> SPORTS = Set.of(SportLabels.SKI, SportLabels.SNOWBOARD);
+        private static final String UNKNOWN_SPORT = "Sport never registered";
+        private static final int MANY_SPORTS = 150;
+    }
+
+    private SportNames sportNames;
+
+    @BeforeEach
+    void setUp() {
+        sportNames = new SportNames();
+        sportNames.register(SportLabels.SKI);
+        sportNames.register(SportLabels.SNOWBOARD);
+        sportNames.register(SportLabels.SLEDGE);
+    }
+
+    @Test
+    void compact_shouldBehaveLikeAnyOtherSet() {
+        Set<String> sports = sportNames.compact(TestConstants.SPORTS);
+
+        assertInstanceOf(SportNameSet.class, sports);
+        assertEquals(TestConstants.SPORTS, sports);
+        assertEquals(sports, TestConstants.SPORTS);
+        assertEquals(TestConstants.SPORTS.hashCode(), sports.hashCode());
+        assertEquals(2, sports.size());
+        assertTrue(sports.contains(SportLabels.SKI));
+        assertFalse(sports.contains(SportLabels.SLEDGE));
+        assertFalse(sports.contains(TestConstants.UNKNOWN_SPORT));
+        assertFalse(sports.contains(null));
+        assertEquals(TestConstants.SPORTS, new HashSet<>(sports));
+    }
+
+    @Test
+    void sameSports_shouldShareOneInstance() {
+        Set<String> sports = sportNames.compact(TestConstants.SPORTS);
+
+        assertSame(sports, sportNames.compact(new HashSet<>(TestConstants.SPORTS)));
+        assertSame(sports, sportNames.compact(sports));
+    }
+
+    @Test
+    void compact_withNameOutsideCatalogue_shouldKeepTheSetAndRegisterNothing() {
+        Set<String> sports = Set.of(SportLabels.SKI, TestConstants.UNKNOWN_SPORT);
+
+        assertSame(sports, sportNames.compact(sports));
+        assertTrue(sports.contains(TestConstants.UNKNOWN_SPORT));
+        assertEquals(-1, sportNames.idOf(TestConstants.UNKNOWN_SPORT));
+    }
+
+    @Test
+    void setsFromAnotherDictionary_shouldBeCompactedAgainButStayEqual() {
+        SportNames other = new SportNames();
+        other.register(SportLabels.SNOWBOARD);
+        other.register(SportLabels.SKI);
+        Set<String> foreign = other.compact(TestConstants.SPORTS);
+
+        Set<String> sports = sportNames.compact(foreign);
+
+        assertNotSame(foreign, sports);
+        assertEquals(foreign, sports);
+        assertEquals(sports, foreign);
+    }
+
+    @Test
+    void skiLifts_shouldShareTheirSportSet() {
+        Set<String> sports = sportNames.compact(TestConstants.SPORTS);
+        SkiLift first = SkiLift.builder().name("Télésiège du Lac").availableSports(sports).build();
+        SkiLift second = first.toBuilder().name("Téléski des Crêtes").build();
+
+        assertSame(sports, first.getAvailableSports());
+        assertSame(sports, second.getAvailableSports());
+    }
+
+    @Test
+    void setsBeyondOneWord_shouldKeepEveryName() {
+        Set<String> names = new HashSet<>();
+        for (int i = 0; i < TestConstants.MANY_SPORTS; i++) {
+            names.add("Sport " + i);
+            sportNames.register("Sport " + i);
+        }
+
+        Set<String> sports = sportNames.compact(names);
+
+        assertInstanceOf(SportNameSet.class, sports);
+        assertEquals(names, sports);
+        assertEquals(sports, sportNames.compact(new HashSet<>(names)));
+        assertEquals(names.hashCode(), sports.hashCode());
+    }
+
+    @Test
+    void mutators_shouldThrowUnsupportedOperationException() {
+        Set<String> sports = sportNames.compact(TestConstants.SPORTS);
+
+        assertThrows(UnsupportedOperationException.class, () -> sports.add(SportLabels.SLEDGE));
+        assertThrows(UnsupportedOperationException.class, () -> sports.remove(SportLabels.SKI));
+        assertThrows(UnsupportedOperationException.class, sports::clear);
+    }
+}
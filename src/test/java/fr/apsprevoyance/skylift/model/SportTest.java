@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Objects;
+
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
@@ -123,4 +125,23 @@ public class SportTest {
         assertEquals(sport1, sport2);
     }
 
+    @Test
+    public void hashCode_keeps_the_value_of_objects_hash() {
+        Sport sport = Sport.builder().id(1L).name("Test Sport").description("Desc").season(Season.WINTER).build();
+
+        assertEquals(Objects.hash(true, "Desc", 1L, "Test Sport", Season.WINTER), sport.hashCode());
+    }
+
+    @Test
+    public void equals_still_compares_fields_once_hashes_are_cached() {
+        Sport sport1 = Sport.builder().id(1L).name("Test Sport").season(Season.WINTER).build();
+        Sport sport2 = Sport.builder().id(1L).name("Test Sport").season(Season.SUMMER).build();
+        Sport sport3 = Sport.builder().id(1L).name("Test Sport").season(Season.WINTER).build();
+        sport1.hashCode();
+        sport2.hashCode();
+        sport3.hashCode();
+
+        assertNotEquals(sport1, sport2);
+        assertEquals(sport1, sport3);
+    }
 }
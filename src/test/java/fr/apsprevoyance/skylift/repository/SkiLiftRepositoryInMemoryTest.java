@@ -2,7 +2,10 @@ package fr.apsprevoyance.skylift.repository;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -23,6 +26,10 @@ import fr.apsprevoyance.skylift.enums.SkiLiftType;
 import fr.apsprevoyance.skylift.exception.EntityNotFoundException;
 import fr.apsprevoyance.skylift.exception.ValidationException;
 import fr.apsprevoyance.skylift.model.SkiLift;
+import fr.apsprevoyance.skylift.model.SportNameSet;
+import fr.apsprevoyance.skylift.model.SportNames;
+import fr.apsprevoyance.skylift.repository.wal.Journal;
+import fr.apsprevoyance.skylift.repository.wal.JournalTarget;
 
 @Tag(TestTag.REPOSITORY)
 class SkiLiftRepositoryInMemoryTest {
@@ -34,6 +41,7 @@ class SkiLiftRepositoryInMemoryTest {
         static final String LIFT_NAME_1 = "Télésiège des Marmottes";
         static final String LIFT_NAME_2 = "Télécabine de la Combe";
         static final String LIFT_NAME_3 = "Téléski du Glacier";
+        static final String UNKNOWN_SPORT = "Sport outside the catalogue";
     }
 
     private SkiLiftRepositoryInMemory repository;
@@ -94,6 +102,42 @@ class SkiLiftRepositoryInMemoryTest {
         assertThrows(ValidationException.class, () -> repository.create(skiLiftWithId));
     }
 
+    @Test
+    void createAll_shouldAssignIdsToEveryItem() {
+        List<SkiLift> created = repository.createAll(List.of(createValidSkiLift(TestConstants.LIFT_NAME_1),
+                createValidSkiLift(TestConstants.LIFT_NAME_2)));
+
+        assertEquals(2, created.size());
+        assertEquals(1L, created.get(0).getId());
+        assertEquals(2L, created.get(1).getId());
+        assertEquals(created, repository.findAll());
+    }
+
+    @Test
+    void createAll_withPreDefinedId_shouldCreateNothing() {
+        SkiLift valid = createValidSkiLift(TestConstants.LIFT_NAME_1);
+        SkiLift withId = SkiLift.builder().id(TestConstants.PREDEFINED_ID).name(TestConstants.LIFT_NAME_2)
+                .type(SkiLiftType.TELESKI).status(SkiLiftStatus.OPEN).availableSports(Set.of(SportLabels.SKI))
+                .commissioningDate(LocalDate.now()).build();
+
+        assertThrows(ValidationException.class, () -> repository.createAll(List.of(valid, withId)));
+        assertTrue(repository.findAll().isEmpty());
+    }
+
+    @Test
+    void updateAll_withUnknownId_shouldUpdateNothing() {
+        SkiLift created = repository.create(createValidSkiLift(TestConstants.LIFT_NAME_1));
+        SkiLift renamed = SkiLift.builder().id(created.getId()).name(TestConstants.LIFT_NAME_2)
+                .type(created.getType()).status(created.getStatus()).availableSports(created.getAvailableSports())
+                .commissioningDate(created.getCommissioningDate()).build();
+        SkiLift unknown = SkiLift.builder().id(TestConstants.NONEXISTENT_ID).name(TestConstants.LIFT_NAME_3)
+                .type(created.getType()).status(created.getStatus()).availableSports(created.getAvailableSports())
+                .commissioningDate(created.getCommissioningDate()).build();
+
+        assertThrows(EntityNotFoundException.class, () -> repository.updateAll(List.of(renamed, unknown)));
+        assertEquals(TestConstants.LIFT_NAME_1, repository.findById(created.getId()).orElseThrow().getName());
+    }
+
     @Test
     void findAll_shouldReturnAllCreatedSkiLifts() {
         repository.create(createValidSkiLift(TestConstants.LIFT_NAME_1));
@@ -108,6 +152,32 @@ class SkiLiftRepositoryInMemoryTest {
         assertEquals(TestConstants.LIFT_NAME_3, result.get(2).getName());
     }
 
+    @Test
+    void findAll_shouldShareSnapshotUntilNextWrite() {
+        repository.create(createValidSkiLift(TestConstants.LIFT_NAME_1));
+
+        List<SkiLift> first = repository.findAll();
+        List<SkiLift> second = repository.findAll();
+
+        assertSame(first, second);
+
+        repository.create(createValidSkiLift(TestConstants.LIFT_NAME_2));
+        List<SkiLift> afterWrite = repository.findAll();
+
+        assertNotSame(first, afterWrite);
+        assertEquals(1, first.size());
+        assertEquals(2, afterWrite.size());
+    }
+
+    @Test
+    void findAll_shouldReturnUnmodifiableList() {
+        repository.create(createValidSkiLift(TestConstants.LIFT_NAME_1));
+
+        List<SkiLift> result = repository.findAll();
+
+        assertThrows(UnsupportedOperationException.class, () -> result.clear());
+    }
+
     @Test
     void findById_shouldReturnSkiLiftWhenFound() {
         SkiLift createdSkiLift = repository.create(createValidSkiLift(TestConstants.LIFT_NAME_1));
@@ -147,6 +217,131 @@ class SkiLiftRepositoryInMemoryTest {
         assertEquals(SkiLiftStatus.CLOSED, updatedSkiLift.getStatus());
     }
 
+    @Test
+    void modify_shouldStoreTheChangedRowAndReindexIt() {
+        SkiLift created = repository.create(createValidSkiLift(TestConstants.LIFT_NAME_1));
+        long version = repository.versionOf(created.getId()).getAsLong();
+
+        SkiLift modified = repository.modify(created.getId(),
+                current -> current.toBuilder().status(SkiLiftStatus.CLOSED).build());
+
+        assertSame(modified, repository.findById(created.getId()).orElseThrow());
+        assertSame(created.getAvailableSports(), modified.getAvailableSports());
+        assertEquals(List.of(modified), repository.findByCriteria(SkiLiftStatus.CLOSED, null, null));
+        assertTrue(repository.findByCriteria(SkiLiftStatus.OPEN, null, null).isEmpty());
+        assertNotEquals(version, repository.versionOf(created.getId()).getAsLong());
+    }
+
+    @Test
+    void create_withCatalogueSports_shouldShareOneSportSet() {
+        SportNames sportNames = new SportNames();
+        sportNames.register(SportLabels.SKI);
+        SkiLiftRepositoryInMemory compacting = new SkiLiftRepositoryInMemory(Journal.none(), sportNames);
+
+        SkiLift first = compacting.create(createValidSkiLift(TestConstants.LIFT_NAME_1));
+        SkiLift second = compacting.create(createValidSkiLift(TestConstants.LIFT_NAME_2));
+        SkiLift offCatalogue = compacting.create(createValidSkiLift(TestConstants.LIFT_NAME_3).toBuilder()
+                .availableSports(Set.of(TestConstants.UNKNOWN_SPORT)).build());
+
+        assertSame(first.getAvailableSports(), second.getAvailableSports());
+        assertEquals(Set.of(TestConstants.UNKNOWN_SPORT), offCatalogue.getAvailableSports());
+        assertFalse(sportNames.compact(Set.of(TestConstants.UNKNOWN_SPORT)) instanceof SportNameSet);
+    }
+
+    @Test
+    void findByCriteria_withSportOutsideTheCatalogue_shouldFindRowsIndexedBeforeAndAfterItJoins() {
+        SportNames sportNames = new SportNames();
+        SkiLiftRepositoryInMemory indexed = new SkiLiftRepositoryInMemory(Journal.none(), sportNames);
+        SkiLift before = indexed.create(createValidSkiLift(TestConstants.LIFT_NAME_1).toBuilder()
+                .availableSports(Set.of(TestConstants.UNKNOWN_SPORT)).build());
+        sportNames.register(TestConstants.UNKNOWN_SPORT);
+        SkiLift after = indexed.create(createValidSkiLift(TestConstants.LIFT_NAME_2).toBuilder()
+                .availableSports(Set.of(TestConstants.UNKNOWN_SPORT)).build());
+
+        assertEquals(List.of(before, after), indexed.findByCriteria(null, null, TestConstants.UNKNOWN_SPORT));
+
+        indexed.delete(before.getId());
+
+        assertEquals(List.of(after), indexed.findByCriteria(null, null, TestConstants.UNKNOWN_SPORT));
+    }
+
+    @Test
+    void create_withIdBeyondTheIndex_shouldThrowBeforeStoringAnything() {
+        SkiLiftRepositoryInMemory full = new SkiLiftRepositoryInMemory(new Journal<SkiLift>() {
+            @Override
+            public void logPut(SkiLift row) {
+            }
+
+            @Override
+            public void logDelete(Long id) {
+            }
+
+            @Override
+            public void recover(JournalTarget<SkiLift> target) {
+                target.restoreNextId(SkiLiftIndex.MAX_ID + 1);
+            }
+        });
+        long version = full.version().getAsLong();
+
+        assertThrows(ValidationException.class, () -> full.create(createValidSkiLift(TestConstants.LIFT_NAME_1)));
+
+        assertTrue(full.findAll().isEmpty());
+        assertFalse(full.existsById(SkiLiftIndex.MAX_ID + 1));
+        assertEquals(version, full.version().getAsLong());
+    }
+
+    @Test
+    void modify_returningTheSameRow_shouldWriteNothing() {
+        SkiLift created = repository.create(createValidSkiLift(TestConstants.LIFT_NAME_1));
+        long version = repository.version().getAsLong();
+
+        assertSame(created, repository.modify(created.getId(), current -> current));
+        assertEquals(version, repository.version().getAsLong());
+        assertThrows(EntityNotFoundException.class,
+                () -> repository.modify(TestConstants.NONEXISTENT_ID, current -> current));
+    }
+
+    @Test
+    void versions_shouldChangeWithEveryWriteToTheirRows() {
+        SkiLift first = repository.create(createValidSkiLift(TestConstants.LIFT_NAME_1));
+        SkiLift second = repository.create(createValidSkiLift(TestConstants.LIFT_NAME_2));
+        long tableVersion = repository.version().getAsLong();
+        long firstVersion = repository.versionOf(first.getId()).getAsLong();
+        long secondVersion = repository.versionOf(second.getId()).getAsLong();
+
+        repository.update(SkiLift.builder().id(first.getId()).name(TestConstants.LIFT_NAME_3).type(first.getType())
+                .status(SkiLiftStatus.CLOSED).availableSports(first.getAvailableSports())
+                .commissioningDate(first.getCommissioningDate()).build());
+
+        assertNotEquals(tableVersion, repository.version().getAsLong());
+        assertNotEquals(firstVersion, repository.versionOf(first.getId()).getAsLong());
+        assertEquals(secondVersion, repository.versionOf(second.getId()).getAsLong());
+
+        repository.delete(first.getId());
+
+        assertTrue(repository.versionOf(first.getId()).isEmpty());
+        assertTrue(repository.versionOf(TestConstants.NONEXISTENT_ID).isEmpty());
+    }
+
+    @Test
+    void update_shouldKeepInsertionOrderInFindAll() {
+        SkiLift first = repository.create(createValidSkiLift(TestConstants.LIFT_NAME_1));
+        repository.create(createValidSkiLift(TestConstants.LIFT_NAME_2));
+        repository.create(createValidSkiLift(TestConstants.LIFT_NAME_3));
+
+        SkiLift skiLiftToUpdate = SkiLift.builder().id(first.getId()).name(TestConstants.LIFT_NAME_1)
+                .type(SkiLiftType.TELESKI).status(SkiLiftStatus.CLOSED).availableSports(first.getAvailableSports())
+                .commissioningDate(first.getCommissioningDate()).build();
+        repository.update(skiLiftToUpdate);
+
+        List<SkiLift> result = repository.findAll();
+
+        assertEquals(3, result.size());
+        assertEquals(first.getId(), result.get(0).getId());
+        assertEquals(SkiLiftStatus.CLOSED, result.get(0).getStatus());
+        assertEquals(TestConstants.LIFT_NAME_3, result.get(2).getName());
+    }
+
     @Test
     void update_shouldThrowExceptionWhenSkiLiftNotFound() {
         SkiLift originalSkiLift = createValidSkiLift(TestConstants.LIFT_NAME_1);
@@ -169,11 +364,106 @@ class SkiLiftRepositoryInMemoryTest {
         assertEquals(0, remainingSkiLifts.size());
     }
 
+    @Test
+    void delete_shouldOnlyRemoveTargetedSkiLift() {
+        SkiLift created1 = repository.create(createValidSkiLift(TestConstants.LIFT_NAME_1));
+        SkiLift created2 = repository.create(createValidSkiLift(TestConstants.LIFT_NAME_2));
+        SkiLift created3 = repository.create(createValidSkiLift(TestConstants.LIFT_NAME_3));
+
+        repository.delete(created2.getId());
+
+        List<SkiLift> remainingSkiLifts = repository.findAll();
+        assertEquals(2, remainingSkiLifts.size());
+        assertEquals(created1.getId(), remainingSkiLifts.get(0).getId());
+        assertEquals(created3.getId(), remainingSkiLifts.get(1).getId());
+        assertFalse(repository.existsById(created2.getId()));
+    }
+
     @Test
     void delete_shouldThrowExceptionWhenSkiLiftNotFound() {
         assertThrows(EntityNotFoundException.class, () -> repository.delete(TestConstants.NONEXISTENT_ID));
     }
 
+    private SkiLift createSkiLift(String name, SkiLiftType type, SkiLiftStatus status, Set<String> sports) {
+        return repository.create(SkiLift.builder().name(name).type(type).status(status).availableSports(sports)
+                .commissioningDate(LocalDate.now()).build());
+    }
+
+    @Test
+    void findByCriteria_shouldCombineStatusTypeAndSportFilters() {
+        SkiLift openChair = createSkiLift(TestConstants.LIFT_NAME_1, SkiLiftType.TELESIEGE, SkiLiftStatus.OPEN,
+                Set.of(SportLabels.SKI, SportLabels.SNOWBOARD));
+        SkiLift closedChair = createSkiLift(TestConstants.LIFT_NAME_2, SkiLiftType.TELESIEGE, SkiLiftStatus.CLOSED,
+                Set.of(SportLabels.SKI));
+        SkiLift openDrag = createSkiLift(TestConstants.LIFT_NAME_3, SkiLiftType.TELESKI, SkiLiftStatus.OPEN,
+                Set.of(SportLabels.SNOWBOARD));
+
+        assertEquals(List.of(openChair, openDrag), repository.findByCriteria(SkiLiftStatus.OPEN, null, null));
+        assertEquals(List.of(openChair, closedChair),
+                repository.findByCriteria(null, SkiLiftType.TELESIEGE, null));
+        assertEquals(List.of(openChair, openDrag), repository.findByCriteria(null, null, SportLabels.SNOWBOARD));
+        assertEquals(List.of(openChair),
+                repository.findByCriteria(SkiLiftStatus.OPEN, SkiLiftType.TELESIEGE, SportLabels.SNOWBOARD));
+        assertTrue(repository.findByCriteria(SkiLiftStatus.MAINTENANCE, null, null).isEmpty());
+        assertTrue(repository.findByCriteria(null, null, SportLabels.SLEDGE).isEmpty());
+    }
+
+    @Test
+    void findByCriteria_withoutCriteria_shouldReturnAllSkiLifts() {
+        createSkiLift(TestConstants.LIFT_NAME_1, SkiLiftType.TELESIEGE, SkiLiftStatus.OPEN, Set.of(SportLabels.SKI));
+        createSkiLift(TestConstants.LIFT_NAME_2, SkiLiftType.TELESKI, SkiLiftStatus.CLOSED, Set.of(SportLabels.SKI));
+
+        assertEquals(repository.findAll(), repository.findByCriteria(null, null, null));
+    }
+
+    @Test
+    void findByCriteria_shouldFollowUpdatesAndDeletes() {
+        SkiLift created = createSkiLift(TestConstants.LIFT_NAME_1, SkiLiftType.TELESIEGE, SkiLiftStatus.OPEN,
+                Set.of(SportLabels.SKI));
+        SkiLift other = createSkiLift(TestConstants.LIFT_NAME_2, SkiLiftType.TELESIEGE, SkiLiftStatus.OPEN,
+                Set.of(SportLabels.SKI));
+
+        SkiLift closed = repository.update(SkiLift.builder().id(created.getId()).name(created.getName())
+                .type(created.getType()).status(SkiLiftStatus.MAINTENANCE).availableSports(Set.of(SportLabels.SLEDGE))
+                .commissioningDate(created.getCommissioningDate()).build());
+
+        assertEquals(List.of(other), repository.findByCriteria(SkiLiftStatus.OPEN, null, null));
+        assertEquals(List.of(closed), repository.findByCriteria(SkiLiftStatus.MAINTENANCE, null, SportLabels.SLEDGE));
+
+        repository.delete(other.getId());
+
+        assertTrue(repository.findByCriteria(SkiLiftStatus.OPEN, null, null).isEmpty());
+        assertTrue(repository.findByCriteria(null, null, SportLabels.SKI).isEmpty());
+    }
+
+    @Test
+    void findPage_shouldWalkSkiLiftsByIdCursor() {
+        SkiLift first = repository.create(createValidSkiLift(TestConstants.LIFT_NAME_1));
+        SkiLift second = repository.create(createValidSkiLift(TestConstants.LIFT_NAME_2));
+        SkiLift third = repository.create(createValidSkiLift(TestConstants.LIFT_NAME_3));
+
+        assertEquals(List.of(first, second), repository.findPage(null, null, null, null, 2));
+        assertEquals(List.of(third), repository.findPage(null, null, null, second.getId(), 2));
+        assertTrue(repository.findPage(null, null, null, third.getId(), 2).isEmpty());
+
+        repository.delete(second.getId());
+
+        assertEquals(List.of(third), repository.findPage(null, null, null, first.getId(), 2));
+    }
+
+    @Test
+    void findPage_withCriteria_shouldOnlyWalkMatchingSkiLifts() {
+        SkiLift first = createSkiLift(TestConstants.LIFT_NAME_1, SkiLiftType.TELESIEGE, SkiLiftStatus.OPEN,
+                Set.of(SportLabels.SKI));
+        createSkiLift(TestConstants.LIFT_NAME_2, SkiLiftType.TELESIEGE, SkiLiftStatus.CLOSED, Set.of(SportLabels.SKI));
+        SkiLift third = createSkiLift(TestConstants.LIFT_NAME_3, SkiLiftType.TELESKI, SkiLiftStatus.OPEN,
+                Set.of(SportLabels.SKI));
+
+        assertEquals(List.of(first), repository.findPage(SkiLiftStatus.OPEN, null, null, null, 1));
+        assertEquals(List.of(third), repository.findPage(SkiLiftStatus.OPEN, null, null, first.getId(), 1));
+        assertTrue(repository.findPage(SkiLiftStatus.OPEN, null, null, third.getId(), 1).isEmpty());
+    }
+
     @Test
     void existsById_shouldReturnTrueWhenSkiLiftExists() {
         SkiLift createdSkiLift = repository.create(createValidSkiLift(TestConstants.LIFT_NAME_1));
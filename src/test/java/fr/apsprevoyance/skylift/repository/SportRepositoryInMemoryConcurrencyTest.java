@@ -0,0 +1,172 @@
+package fr.apsprevoyance.skylift.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import fr.apsprevoyance.skylift.constants.TestTag;
+import fr.apsprevoyance.skylift.enums.Season;
+import fr.apsprevoyance.skylift.model.Sport;
+
+@Tag(TestTag.REPOSITORY)
+class SportRepositoryInMemoryConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int OPERATIONS_PER_THREAD = 2_000;
+    private static final String SPORT_NAME_PREFIX = "Sport ";
+    private static final int READ_EVERY = 64;
+    private static final String UPDATED_DESCRIPTION = "Updated";
+    private static final String INITIAL_DESCRIPTION = "0";
+    // Enough rows that copying them spans several writes.
+    private static final int SNAPSHOT_ROWS = 50_000;
+
+    private SportRepositoryInMemory repository;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        repository = new SportRepositoryInMemory();
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private Sport newSport(int worker, int index) {
+        return Sport.builder().name(SPORT_NAME_PREFIX + worker + " " + index).description(INITIAL_DESCRIPTION)
+                .season(Season.WINTER).build();
+    }
+
+    @FunctionalInterface
+    private interface WorkerTask<T> {
+        T run(int worker) throws Exception;
+    }
+
+    private <T> List<T> runConcurrently(WorkerTask<T> task) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            int worker = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                return task.run(worker);
+            }));
+        }
+        start.countDown();
+
+        List<T> results = new ArrayList<>();
+        for (Future<T> future : futures) {
+            results.add(future.get(30, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+
+    @Test
+    void concurrent_creates_never_lose_writes_nor_reuse_ids() throws Exception {
+        List<List<Long>> createdIds = runConcurrently(worker -> {
+            List<Long> ids = new ArrayList<>();
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                ids.add(repository.create(newSport(worker, i)).getId());
+            }
+            return ids;
+        });
+
+        Set<Long> uniqueIds = new HashSet<>();
+        createdIds.forEach(uniqueIds::addAll);
+
+        assertEquals(THREADS * OPERATIONS_PER_THREAD, uniqueIds.size());
+        assertEquals(THREADS * OPERATIONS_PER_THREAD, repository.findAll().size());
+    }
+
+    @Test
+    void concurrent_mixed_writes_and_reads_keep_every_acknowledged_update() throws Exception {
+        List<Long> seededIds = new ArrayList<>();
+        for (int i = 0; i < THREADS * OPERATIONS_PER_THREAD; i++) {
+            seededIds.add(repository.create(newSport(0, i)).getId());
+        }
+
+        runConcurrently(worker -> {
+            for (int i = 0; i < seededIds.size(); i++) {
+                Long id = seededIds.get(i);
+                if (i % THREADS != worker) {
+                    if (i % READ_EVERY == 0) {
+                        assertFalse(repository.findAll().isEmpty());
+                    }
+                    continue;
+                }
+                Sport current = repository.findById(id).orElseThrow();
+                if (i % 2 == 0) {
+                    repository.delete(id);
+                } else {
+                    repository.update(Sport.builder().id(id).name(current.getName()).description(UPDATED_DESCRIPTION)
+                            .season(current.getSeason()).build());
+                }
+            }
+            return null;
+        });
+
+        List<Sport> remaining = repository.findAll();
+        Set<Long> remainingIds = new HashSet<>();
+        remaining.forEach(sport -> remainingIds.add(sport.getId()));
+
+        for (int i = 0; i < seededIds.size(); i++) {
+            Long id = seededIds.get(i);
+            if (i % 2 == 0) {
+                assertFalse(remainingIds.contains(id));
+            } else {
+                assertTrue(remainingIds.contains(id));
+                assertEquals(UPDATED_DESCRIPTION, repository.findById(id).orElseThrow().getDescription());
+            }
+        }
+    }
+
+    @Test
+    void findAll_never_shows_a_later_write_without_an_earlier_one() throws Exception {
+        List<Long> seededIds = new ArrayList<>();
+        for (int i = 0; i < SNAPSHOT_ROWS; i++) {
+            seededIds.add(repository.create(newSport(0, i)).getId());
+        }
+        Long firstId = seededIds.get(0);
+        Long lastId = seededIds.get(seededIds.size() - 1);
+
+        runConcurrently(worker -> {
+            for (int round = 1; round <= OPERATIONS_PER_THREAD; round++) {
+                if (worker == 0) {
+                    // The first row is always written before the last one, so no view may have the last one ahead.
+                    updateDescription(firstId, round);
+                    updateDescription(lastId, round);
+                    continue;
+                }
+                List<Sport> sports = repository.findAll();
+                int first = Integer.parseInt(sports.get(0).getDescription());
+                int last = Integer.parseInt(sports.get(sports.size() - 1).getDescription());
+                assertTrue(first >= last, "first row at round " + first + ", last row at round " + last);
+            }
+            return null;
+        });
+    }
+
+    private void updateDescription(Long id, int round) {
+        Sport current = repository.findById(id).orElseThrow();
+        repository.update(Sport.builder().id(id).name(current.getName()).description(String.valueOf(round))
+                .season(current.getSeason()).build());
+    }
+}
@@ -3,6 +3,8 @@ package fr.apsprevoyance.skylift.repository;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -30,6 +32,7 @@ class SportRepositoryInMemoryTest {
     private static final String SPORT_NAME_3 = "Sport 3";
     private static final String SPORT_DESCRIPTION = "Description test";
     private static final Long NONEXISTENT_ID = 9999L;
+    private static final Long NEGATIVE_ID = -1L;
     private static final Long PREDEFINED_ID = 123L;
 
     private SportRepositoryInMemory repository;
@@ -103,6 +106,34 @@ class SportRepositoryInMemoryTest {
         assertEquals(SPORT_NAME_3, result.get(2).getName());
     }
 
+    @Test
+    void findAll_shares_snapshot_until_next_write() {
+        Sport created = repository.create(Sport.builder().name(SPORT_NAME_1).season(Season.WINTER).build());
+
+        List<Sport> first = repository.findAll();
+        assertSame(first, repository.findAll());
+
+        repository.update(Sport.builder().id(created.getId()).name(SPORT_NAME_2).season(Season.SUMMER).build());
+        List<Sport> afterUpdate = repository.findAll();
+
+        assertNotSame(first, afterUpdate);
+        assertEquals(SPORT_NAME_1, first.get(0).getName());
+        assertEquals(SPORT_NAME_2, afterUpdate.get(0).getName());
+
+        repository.delete(created.getId());
+
+        assertTrue(repository.findAll().isEmpty());
+    }
+
+    @Test
+    void findAll_returns_unmodifiable_list() {
+        repository.create(Sport.builder().name(SPORT_NAME_1).season(Season.WINTER).build());
+
+        List<Sport> result = repository.findAll();
+
+        assertThrows(UnsupportedOperationException.class, () -> result.clear());
+    }
+
     @Test
     void findById_returns_sport_when_found() {
         Sport createdSport = repository.create(
@@ -178,6 +209,14 @@ class SportRepositoryInMemoryTest {
         assertThrows(EntityNotFoundException.class, () -> repository.delete(NONEXISTENT_ID));
     }
 
+    @Test
+    void update_and_delete_with_negative_id_throw_entitynotfoundexception() {
+        Sport sportToUpdate = Sport.builder().id(NEGATIVE_ID).name(SPORT_NAME_1).season(Season.WINTER).build();
+
+        assertThrows(EntityNotFoundException.class, () -> repository.update(sportToUpdate));
+        assertThrows(EntityNotFoundException.class, () -> repository.delete(NEGATIVE_ID));
+    }
+
     @Test
     void delete_throws_exception_when_id_is_null() {
         assertThrows(NullPointerException.class, () -> repository.delete(null));
@@ -199,6 +238,55 @@ class SportRepositoryInMemoryTest {
         assertFalse(result);
     }
 
+    @Test
+    void existsAllByName_returns_true_only_when_every_name_exists() {
+        repository.create(Sport.builder().name(SPORT_NAME_1).season(Season.WINTER).build());
+        repository.create(Sport.builder().name(SPORT_NAME_2).season(Season.WINTER).build());
+
+        assertTrue(repository.existsAllByName(List.of(SPORT_NAME_1, SPORT_NAME_2)));
+        assertFalse(repository.existsAllByName(List.of(SPORT_NAME_1, SPORT_NAME_3)));
+    }
+
+    @Test
+    void existsAllByName_follows_renames_and_deletes() {
+        Sport created = repository.create(Sport.builder().name(SPORT_NAME_1).season(Season.WINTER).build());
+
+        repository.update(Sport.builder().id(created.getId()).name(SPORT_NAME_2).season(Season.WINTER).build());
+
+        assertFalse(repository.existsAllByName(List.of(SPORT_NAME_1)));
+        assertTrue(repository.existsAllByName(List.of(SPORT_NAME_2)));
+
+        repository.delete(created.getId());
+
+        assertFalse(repository.existsAllByName(List.of(SPORT_NAME_2)));
+    }
+
+    @Test
+    void existsAllByName_keeps_name_while_another_sport_uses_it() {
+        Sport first = repository.create(Sport.builder().name(SPORT_NAME_1).season(Season.WINTER).build());
+        repository.create(Sport.builder().name(SPORT_NAME_1).season(Season.SUMMER).build());
+
+        repository.delete(first.getId());
+
+        assertTrue(repository.existsAllByName(List.of(SPORT_NAME_1)));
+    }
+
+    @Test
+    void existsAllByName_throws_exception_when_names_is_null() {
+        assertThrows(NullPointerException.class, () -> repository.existsAllByName(null));
+    }
+
+    @Test
+    void findPage_walks_sports_by_id_cursor() {
+        Sport first = repository.create(Sport.builder().name(SPORT_NAME_1).season(Season.WINTER).build());
+        Sport second = repository.create(Sport.builder().name(SPORT_NAME_2).season(Season.WINTER).build());
+        Sport third = repository.create(Sport.builder().name(SPORT_NAME_3).season(Season.WINTER).build());
+
+        assertEquals(List.of(first, second), repository.findPage(null, 2));
+        assertEquals(List.of(third), repository.findPage(second.getId(), 2));
+        assertTrue(repository.findPage(third.getId(), 2).isEmpty());
+    }
+
     @Test
     void existsById_throws_exception_when_id_is_null() {
         assertThrows(NullPointerException.class, () -> repository.existsById(null));
@@ -0,0 +1,169 @@
+package fr.apsprevoyance.skylift.repository.jpa;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import fr.apsprevoyance.skylift.constants.Profiles;
+import fr.apsprevoyance.skylift.constants.SportLabels;
+import fr.apsprevoyance.skylift.constants.TestTag;
+import fr.apsprevoyance.skylift.enums.SkiLiftStatus;
+import fr.apsprevoyance.skylift.enums.SkiLiftType;
+import fr.apsprevoyance.skylift.exception.EntityNotFoundException;
+import fr.apsprevoyance.skylift.exception.ValidationException;
+import fr.apsprevoyance.skylift.model.SkiLift;
+
+@Tag(TestTag.REPOSITORY)
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles(Profiles.JPA)
+@Import(SkiLiftRepositoryJpa.class)
+class SkiLiftRepositoryJpaTest {
+
+    private static final class TestConstants {
+        static final Long NONEXISTENT_ID = 9999L;
+        static final Long PREDEFINED_ID = 123L;
+        static final String LIFT_NAME_1 = "Télésiège des Marmottes";
+        static final String LIFT_NAME_2 = "Télécabine de la Combe";
+        static final String LIFT_NAME_3 = "Téléski du Glacier";
+        static final String UPDATED_NAME = "Télésiège Rénové";
+    }
+
+    @Autowired
+    private SkiLiftRepositoryJpa repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    private SkiLift createSkiLift(String name, SkiLiftType type, SkiLiftStatus status, Set<String> sports) {
+        return SkiLift.builder().name(name).type(type).status(status).comment("").availableSports(sports)
+                .commissioningDate(LocalDate.of(2000, 1, 1)).build();
+    }
+
+    private List<SkiLift> seed() {
+        List<SkiLift> created = repository.createAll(List.of(
+                createSkiLift(TestConstants.LIFT_NAME_1, SkiLiftType.TELESIEGE, SkiLiftStatus.OPEN,
+                        Set.of(SportLabels.SKI, SportLabels.SNOWBOARD)),
+                createSkiLift(TestConstants.LIFT_NAME_2, SkiLiftType.TELECABLE, SkiLiftStatus.CLOSED,
+                        Set.of(SportLabels.SKI)),
+                createSkiLift(TestConstants.LIFT_NAME_3, SkiLiftType.TELESKI, SkiLiftStatus.OPEN,
+                        Set.of(SportLabels.SNOWBOARD))));
+        entityManager.flush();
+        entityManager.clear();
+        return created;
+    }
+
+    @Test
+    void createAll_shouldAssignIdsAndPersistSports() {
+        List<SkiLift> created = seed();
+
+        assertEquals(3, created.size());
+        created.forEach(skiLift -> assertNotNull(skiLift.getId()));
+        SkiLift reloaded = repository.findById(created.get(0).getId()).orElseThrow();
+        assertEquals(created.get(0), reloaded);
+    }
+
+    @Test
+    void create_withPredefinedId_shouldThrowValidationException() {
+        SkiLift skiLift = SkiLift.builder().id(TestConstants.PREDEFINED_ID).name(TestConstants.LIFT_NAME_1)
+                .type(SkiLiftType.TELESIEGE).status(SkiLiftStatus.OPEN).availableSports(Set.of(SportLabels.SKI))
+                .build();
+
+        assertThrows(ValidationException.class, () -> repository.create(skiLift));
+    }
+
+    @Test
+    void findAll_shouldLoadSportsWithASingleStatement() {
+        List<SkiLift> created = seed();
+        statistics.clear();
+
+        List<SkiLift> all = repository.findAll();
+
+        assertEquals(created, all);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findByCriteria_shouldCombineCriteria() {
+        List<SkiLift> created = seed();
+
+        assertEquals(List.of(created.get(0), created.get(2)),
+                repository.findByCriteria(SkiLiftStatus.OPEN, null, null));
+        assertEquals(List.of(created.get(0)),
+                repository.findByCriteria(SkiLiftStatus.OPEN, null, SportLabels.SKI));
+        assertEquals(List.of(created.get(1)),
+                repository.findByCriteria(null, SkiLiftType.TELECABLE, SportLabels.SKI));
+        assertTrue(repository.findByCriteria(SkiLiftStatus.CLOSED, SkiLiftType.TELESKI, null).isEmpty());
+    }
+
+    @Test
+    void findPage_shouldResumeAfterCursor() {
+        List<SkiLift> created = seed();
+
+        List<SkiLift> first = repository.findPage(null, null, null, null, 2);
+        List<SkiLift> second = repository.findPage(null, null, null, first.get(1).getId(), 2);
+        List<SkiLift> filtered = repository.findPage(null, null, SportLabels.SNOWBOARD, created.get(0).getId(), 2);
+
+        assertEquals(created.subList(0, 2), first);
+        assertEquals(List.of(created.get(2)), second);
+        assertEquals(List.of(created.get(2)), filtered);
+    }
+
+    @Test
+    void updateAll_shouldReplaceFieldsAndSports() {
+        SkiLift original = seed().get(0);
+        SkiLift changed = SkiLift.builder().id(original.getId()).name(TestConstants.UPDATED_NAME)
+                .type(original.getType()).status(SkiLiftStatus.CLOSED).comment("")
+                .availableSports(Set.of(SportLabels.SKI)).commissioningDate(original.getCommissioningDate()).build();
+
+        repository.updateAll(List.of(changed));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(changed, repository.findById(original.getId()).orElseThrow());
+    }
+
+    @Test
+    void updateAll_withUnknownId_shouldThrowAndChangeNothing() {
+        SkiLift original = seed().get(0);
+        SkiLift missing = SkiLift.builder().id(TestConstants.NONEXISTENT_ID).name(TestConstants.UPDATED_NAME)
+                .type(SkiLiftType.TELESKI).status(SkiLiftStatus.OPEN).availableSports(Set.of(SportLabels.SKI))
+                .build();
+
+        assertThrows(EntityNotFoundException.class, () -> repository.updateAll(List.of(original, missing)));
+    }
+
+    @Test
+    void delete_shouldRemoveRowAndRejectUnknownId() {
+        SkiLift original = seed().get(0);
+
+        repository.delete(original.getId());
+
+        assertFalse(repository.existsById(original.getId()));
+        assertThrows(EntityNotFoundException.class, () -> repository.delete(TestConstants.NONEXISTENT_ID));
+    }
+}
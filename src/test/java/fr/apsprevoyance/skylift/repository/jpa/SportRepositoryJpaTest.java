@@ -0,0 +1,89 @@
+package fr.apsprevoyance.skylift.repository.jpa;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import fr.apsprevoyance.skylift.constants.Profiles;
+import fr.apsprevoyance.skylift.constants.SportLabels;
+import fr.apsprevoyance.skylift.constants.TestTag;
+import fr.apsprevoyance.skylift.enums.Season;
+import fr.apsprevoyance.skylift.exception.EntityNotFoundException;
+import fr.apsprevoyance.skylift.model.Sport;
+
+@Tag(TestTag.REPOSITORY)
+@DataJpaTest
+@ActiveProfiles(Profiles.JPA)
+@Import(SportRepositoryJpa.class)
+class SportRepositoryJpaTest {
+
+    private static final class TestConstants {
+        static final Long NONEXISTENT_ID = 9999L;
+        static final String UNKNOWN_SPORT = "Curling";
+        static final String UPDATED_DESCRIPTION = "Updated";
+    }
+
+    @Autowired
+    private SportRepositoryJpa repository;
+
+    private Sport createSport(String name) {
+        return repository.create(Sport.builder().name(name).season(Season.WINTER).build());
+    }
+
+    @Test
+    void create_and_findAll_shouldKeepInsertionOrder() {
+        Sport ski = createSport(SportLabels.SKI);
+        Sport snowboard = createSport(SportLabels.SNOWBOARD);
+
+        assertEquals(List.of(ski, snowboard), repository.findAll());
+    }
+
+    @Test
+    void update_shouldPersistChangesAndRejectUnknownId() {
+        Sport ski = createSport(SportLabels.SKI);
+        Sport changed = Sport.builder().id(ski.getId()).name(ski.getName())
+                .description(TestConstants.UPDATED_DESCRIPTION).season(Season.BOTH).build();
+
+        repository.update(changed);
+
+        assertEquals(changed, repository.findById(ski.getId()).orElseThrow());
+        Sport unknown = Sport.builder().id(TestConstants.NONEXISTENT_ID).name(SportLabels.SKI).season(Season.WINTER)
+                .build();
+        assertThrows(EntityNotFoundException.class, () -> repository.update(unknown));
+    }
+
+    @Test
+    void existsAllByName_shouldRequireEveryName() {
+        createSport(SportLabels.SKI);
+        createSport(SportLabels.SNOWBOARD);
+
+        assertTrue(repository.existsAllByName(List.of(SportLabels.SKI, SportLabels.SNOWBOARD, SportLabels.SKI)));
+        assertFalse(repository.existsAllByName(List.of(SportLabels.SKI, TestConstants.UNKNOWN_SPORT)));
+        assertFalse(repository.existsAllByName(Arrays.asList(SportLabels.SKI, null)));
+    }
+
+    @Test
+    void findPage_and_delete_shouldFollowIdOrder() {
+        Sport ski = createSport(SportLabels.SKI);
+        Sport snowboard = createSport(SportLabels.SNOWBOARD);
+
+        assertEquals(List.of(ski), repository.findPage(null, 1));
+        assertEquals(List.of(snowboard), repository.findPage(ski.getId(), 1));
+
+        repository.delete(ski.getId());
+
+        assertFalse(repository.existsById(ski.getId()));
+        assertThrows(EntityNotFoundException.class, () -> repository.delete(TestConstants.NONEXISTENT_ID));
+    }
+}
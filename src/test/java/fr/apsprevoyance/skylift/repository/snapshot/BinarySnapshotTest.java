@@ -0,0 +1,161 @@
+package fr.apsprevoyance.skylift.repository.snapshot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import fr.apsprevoyance.skylift.constants.SportLabels;
+import fr.apsprevoyance.skylift.constants.TestTag;
+import fr.apsprevoyance.skylift.enums.Season;
+import fr.apsprevoyance.skylift.enums.SkiLiftStatus;
+import fr.apsprevoyance.skylift.enums.SkiLiftType;
+import fr.apsprevoyance.skylift.model.SkiLift;
+import fr.apsprevoyance.skylift.model.Sport;
+import fr.apsprevoyance.skylift.repository.SkiLiftRepositoryInMemory;
+
+@Tag(TestTag.REPOSITORY)
+class BinarySnapshotTest {
+
+    private static final class TestConstants {
+        static final String FILE_NAME = "rows.snapshot";
+        static final String STORE = "ski-lifts";
+        static final long SEQUENCE = 7L;
+        static final long NEXT_ID = 42L;
+        static final String LIFT_NAME_1 = "Télésiège des Marmottes";
+        static final String LIFT_NAME_2 = "Téléski du Glacier";
+        static final String DESCRIPTION = "Glisse sur neige";
+        static final Duration INTERVAL = Duration.ofMillis(20);
+        static final long WAIT_MILLIS = 5_000;
+    }
+
+    @TempDir
+    Path directory;
+
+    private SkiLift createSkiLift(Long id, String name, String comment, LocalDate date) {
+        return SkiLift.builder().id(id).name(name).type(SkiLiftType.TELESIEGE).status(SkiLiftStatus.OPEN)
+                .comment(comment).availableSports(Set.of(SportLabels.SKI, SportLabels.SNOWBOARD))
+                .commissioningDate(date).build();
+    }
+
+    @Test
+    void skiLifts_shouldRoundTripWithHeader() throws IOException {
+        Path path = directory.resolve(TestConstants.FILE_NAME);
+        List<SkiLift> rows = List.of(createSkiLift(1L, TestConstants.LIFT_NAME_1, "", LocalDate.of(1999, 2, 3)),
+                createSkiLift(3L, TestConstants.LIFT_NAME_2, null, null));
+        BinarySnapshot<SkiLift> snapshot = new BinarySnapshot<>(new SkiLiftSnapshotCodec());
+
+        snapshot.write(path, TestConstants.SEQUENCE, TestConstants.NEXT_ID, rows);
+        List<SkiLift> loaded = new ArrayList<>();
+        BinarySnapshot.Header header = snapshot.read(path, loaded::add);
+
+        assertEquals(rows, loaded);
+        assertEquals(new BinarySnapshot.Header(TestConstants.SEQUENCE, TestConstants.NEXT_ID, rows.size()), header);
+    }
+
+    @Test
+    void skiLifts_shouldShareDecodedSportNames() throws IOException {
+        Path path = directory.resolve(TestConstants.FILE_NAME);
+        BinarySnapshot<SkiLift> snapshot = new BinarySnapshot<>(new SkiLiftSnapshotCodec());
+        snapshot.write(path, 0L, 3L, List.of(createSkiLift(1L, TestConstants.LIFT_NAME_1, "", LocalDate.now()),
+                createSkiLift(2L, TestConstants.LIFT_NAME_2, "", LocalDate.now())));
+
+        List<SkiLift> loaded = new ArrayList<>();
+        snapshot.read(path, loaded::add);
+
+        String first = loaded.get(0).getAvailableSports().stream().filter(SportLabels.SKI::equals).findFirst()
+                .orElseThrow();
+        String second = loaded.get(1).getAvailableSports().stream().filter(SportLabels.SKI::equals).findFirst()
+                .orElseThrow();
+        assertSame(first, second);
+    }
+
+    @Test
+    void sports_shouldRoundTrip() throws IOException {
+        Path path = directory.resolve(TestConstants.FILE_NAME);
+        List<Sport> rows = List.of(
+                Sport.builder().id(1L).name(SportLabels.SKI).description(TestConstants.DESCRIPTION)
+                        .season(Season.WINTER).build(),
+                Sport.builder().id(2L).name(SportLabels.SLEDGE).description("").active(false).season(Season.BOTH).build());
+        BinarySnapshot<Sport> snapshot = new BinarySnapshot<>(new SportSnapshotCodec());
+
+        snapshot.write(path, 0L, 3L, rows);
+        List<Sport> loaded = new ArrayList<>();
+        snapshot.read(path, loaded::add);
+
+        assertEquals(rows, loaded);
+    }
+
+    @Test
+    void read_withOtherKindOrTruncatedFile_shouldThrow() throws IOException {
+        Path path = directory.resolve(TestConstants.FILE_NAME);
+        new BinarySnapshot<>(new SportSnapshotCodec()).write(path, 0L, 2L,
+                List.of(Sport.builder().id(1L).name(SportLabels.SKI).season(Season.WINTER).build()));
+        BinarySnapshot<SkiLift> skiLifts = new BinarySnapshot<>(new SkiLiftSnapshotCodec());
+        BinarySnapshot<Sport> sports = new BinarySnapshot<>(new SportSnapshotCodec());
+
+        assertThrows(IOException.class, () -> skiLifts.read(path, row -> {
+        }));
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(path) - 1);
+        }
+        assertThrows(IOException.class, () -> sports.read(path, row -> {
+        }));
+    }
+
+    @Test
+    void snapshotJournal_shouldReloadRepositoryWrittenOnClose() throws IOException {
+        SnapshotJournal<SkiLift> journal = new SnapshotJournal<>(directory, TestConstants.STORE,
+                new SkiLiftSnapshotCodec());
+        SkiLiftRepositoryInMemory repository = new SkiLiftRepositoryInMemory(journal);
+        SkiLift created = repository
+                .create(createSkiLift(null, TestConstants.LIFT_NAME_1, "", LocalDate.of(2010, 1, 1)));
+        repository.delete(repository
+                .create(createSkiLift(null, TestConstants.LIFT_NAME_2, "", LocalDate.of(2010, 1, 1))).getId());
+
+        journal.close();
+        SkiLiftRepositoryInMemory restarted = new SkiLiftRepositoryInMemory(
+                new SnapshotJournal<>(directory, TestConstants.STORE, new SkiLiftSnapshotCodec()));
+
+        assertEquals(List.of(created), restarted.findAll());
+        assertEquals(3L, restarted.create(createSkiLift(null, TestConstants.LIFT_NAME_2, "", LocalDate.now()))
+                .getId());
+    }
+
+    @Test
+    void snapshotJournal_withInterval_shouldWriteChangedRowsWithoutClosing() throws Exception {
+        SnapshotJournal<SkiLift> journal = new SnapshotJournal<>(directory, TestConstants.STORE,
+                new SkiLiftSnapshotCodec(), TestConstants.INTERVAL);
+        SkiLiftRepositoryInMemory repository = new SkiLiftRepositoryInMemory(journal);
+        SkiLift created = repository
+                .create(createSkiLift(null, TestConstants.LIFT_NAME_1, "", LocalDate.of(2010, 1, 1)));
+
+        List<SkiLift> reloaded = List.of();
+        long deadline = System.currentTimeMillis() + TestConstants.WAIT_MILLIS;
+        while (reloaded.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(TestConstants.INTERVAL.toMillis());
+            reloaded = new SkiLiftRepositoryInMemory(
+                    new SnapshotJournal<>(directory, TestConstants.STORE, new SkiLiftSnapshotCodec())).findAll();
+        }
+
+        assertEquals(List.of(created), reloaded);
+        assertTrue(Files.exists(directory.resolve(TestConstants.STORE + ".snapshot")));
+        journal.close();
+    }
+}
@@ -0,0 +1,280 @@
+package fr.apsprevoyance.skylift.repository.wal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import fr.apsprevoyance.skylift.constants.SportLabels;
+import fr.apsprevoyance.skylift.constants.TestTag;
+import fr.apsprevoyance.skylift.enums.Season;
+import fr.apsprevoyance.skylift.enums.SkiLiftStatus;
+import fr.apsprevoyance.skylift.enums.SkiLiftType;
+import fr.apsprevoyance.skylift.model.SkiLift;
+import fr.apsprevoyance.skylift.model.Sport;
+import fr.apsprevoyance.skylift.repository.SkiLiftRepositoryInMemory;
+import fr.apsprevoyance.skylift.repository.SportRepositoryInMemory;
+import fr.apsprevoyance.skylift.repository.snapshot.SkiLiftSnapshotCodec;
+import fr.apsprevoyance.skylift.repository.snapshot.SportSnapshotCodec;
+
+@Tag(TestTag.REPOSITORY)
+class WriteAheadLogTest {
+
+    private static final class TestConstants {
+        static final String SKI_LIFT_STORE = "ski-lifts";
+        static final String SPORT_STORE = "sports";
+        static final Duration FLUSH_INTERVAL = Duration.ofMillis(10);
+        // Long enough that only the test flushes.
+        static final Duration MANUAL_FLUSH_INTERVAL = Duration.ofHours(1);
+        static final String LIFT_NAME_1 = "Télésiège des Marmottes";
+        static final String LIFT_NAME_2 = "Téléski du Glacier";
+        static final String UPDATED_DESCRIPTION = "Updated";
+        static final String DISK_FULL = "No space left on device";
+        // Past the length and checksum of the first frame.
+        static final int FIRST_PAYLOAD_OFFSET = 8;
+    }
+
+    @TempDir
+    Path directory;
+
+    private final List<WriteAheadLog<?>> openLogs = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws IOException {
+        for (WriteAheadLog<?> wal : openLogs) {
+            wal.close();
+        }
+    }
+
+    private WriteAheadLog<SkiLift> skiLiftLog() {
+        WriteAheadLog<SkiLift> wal = new WriteAheadLog<>(directory, TestConstants.SKI_LIFT_STORE, new SkiLiftCodec(),
+                new SkiLiftSnapshotCodec(), TestConstants.FLUSH_INTERVAL, Duration.ZERO);
+        openLogs.add(wal);
+        return wal;
+    }
+
+    private WriteAheadLog<Sport> sportLog() {
+        WriteAheadLog<Sport> wal = new WriteAheadLog<>(directory, TestConstants.SPORT_STORE, new SportCodec(),
+                new SportSnapshotCodec(), TestConstants.FLUSH_INTERVAL, Duration.ZERO);
+        openLogs.add(wal);
+        return wal;
+    }
+
+    private SkiLift createSkiLift(String name, SkiLiftStatus status) {
+        return SkiLift.builder().name(name).type(SkiLiftType.TELESIEGE).status(status).comment("")
+                .availableSports(Set.of(SportLabels.SKI, SportLabels.SNOWBOARD))
+                .commissioningDate(LocalDate.of(2001, 12, 1)).build();
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(".wal")).sorted().toList();
+        }
+    }
+
+    @Test
+    void restart_shouldReplayCreatesUpdatesAndDeletes() throws IOException {
+        WriteAheadLog<SkiLift> wal = skiLiftLog();
+        SkiLiftRepositoryInMemory repository = new SkiLiftRepositoryInMemory(wal);
+        SkiLift kept = repository.create(createSkiLift(TestConstants.LIFT_NAME_1, SkiLiftStatus.OPEN));
+        SkiLift deleted = repository.create(createSkiLift(TestConstants.LIFT_NAME_2, SkiLiftStatus.OPEN));
+        SkiLift updated = repository.update(SkiLift.builder().id(kept.getId()).name(kept.getName())
+                .type(kept.getType()).status(SkiLiftStatus.CLOSED).comment("")
+                .availableSports(kept.getAvailableSports()).commissioningDate(kept.getCommissioningDate()).build());
+        repository.delete(deleted.getId());
+        wal.close();
+
+        SkiLiftRepositoryInMemory restarted = new SkiLiftRepositoryInMemory(skiLiftLog());
+
+        assertEquals(List.of(updated), restarted.findAll());
+        assertEquals(List.of(updated), restarted.findByCriteria(SkiLiftStatus.CLOSED, null, null));
+        SkiLift next = restarted.create(createSkiLift(TestConstants.LIFT_NAME_2, SkiLiftStatus.OPEN));
+        assertEquals(deleted.getId() + 1, next.getId());
+    }
+
+    @Test
+    void compact_shouldWriteSnapshotAndDropCoveredSegments() throws IOException {
+        WriteAheadLog<Sport> wal = sportLog();
+        SportRepositoryInMemory repository = new SportRepositoryInMemory(wal);
+        Sport ski = repository.create(Sport.builder().name(SportLabels.SKI).season(Season.WINTER).build());
+
+        wal.compact();
+        Sport snowboard = repository.create(Sport.builder().name(SportLabels.SNOWBOARD).season(Season.WINTER).build());
+        Sport updatedSki = repository.update(Sport.builder().id(ski.getId()).name(ski.getName())
+                .description(TestConstants.UPDATED_DESCRIPTION).season(ski.getSeason()).build());
+        wal.close();
+
+        assertTrue(Files.exists(directory.resolve(TestConstants.SPORT_STORE + ".snapshot")));
+        assertEquals(1, segments().size());
+
+        SportRepositoryInMemory restarted = new SportRepositoryInMemory(sportLog());
+
+        assertEquals(List.of(updatedSki, snowboard), restarted.findAll());
+        assertTrue(restarted.existsAllByName(List.of(SportLabels.SKI, SportLabels.SNOWBOARD)));
+    }
+
+    @Test
+    void flush_shouldPersistWithoutClosing() throws IOException {
+        WriteAheadLog<Sport> wal = sportLog();
+        SportRepositoryInMemory repository = new SportRepositoryInMemory(wal);
+        repository.create(Sport.builder().name(SportLabels.SKI).season(Season.WINTER).build());
+
+        wal.flush();
+
+        assertFalse(segments().isEmpty());
+        assertTrue(Files.size(segments().get(0)) > 0);
+    }
+
+    @Test
+    void close_shouldLeaveOnlySnapshotAndEmptySegment() throws IOException {
+        WriteAheadLog<SkiLift> wal = skiLiftLog();
+        SkiLiftRepositoryInMemory repository = new SkiLiftRepositoryInMemory(wal);
+        SkiLift created = repository.create(createSkiLift(TestConstants.LIFT_NAME_1, SkiLiftStatus.OPEN));
+
+        wal.close();
+
+        List<Path> segments = segments();
+        assertEquals(1, segments.size());
+        assertEquals(0L, Files.size(segments.get(0)));
+        assertEquals(List.of(created), new SkiLiftRepositoryInMemory(skiLiftLog()).findAll());
+    }
+
+    @Test
+    void recover_shouldIgnoreTornTail() throws IOException {
+        WriteAheadLog<SkiLift> wal = skiLiftLog();
+        SkiLiftRepositoryInMemory repository = new SkiLiftRepositoryInMemory(wal);
+        SkiLift created = repository.create(createSkiLift(TestConstants.LIFT_NAME_1, SkiLiftStatus.OPEN));
+        wal.close();
+        Files.write(segments().get(0), new byte[] { 0, 0, 0, 42, 1, 2 }, StandardOpenOption.APPEND);
+
+        SkiLiftRepositoryInMemory restarted = new SkiLiftRepositoryInMemory(skiLiftLog());
+
+        assertEquals(List.of(created), restarted.findAll());
+        // The tail was cut, so the segment is no longer torn once a newer one follows it.
+        assertEquals(List.of(created), new SkiLiftRepositoryInMemory(skiLiftLog()).findAll());
+    }
+
+    @Test
+    void recover_withCorruptRecordBeforeOthers_shouldFail() throws IOException {
+        WriteAheadLog<Sport> wal = sportLog();
+        SportRepositoryInMemory repository = new SportRepositoryInMemory(wal);
+        repository.create(Sport.builder().name(SportLabels.SKI).season(Season.WINTER).build());
+        repository.create(Sport.builder().name(SportLabels.SNOWBOARD).season(Season.WINTER).build());
+        wal.flush();
+        Path segment = segments().get(0);
+        byte[] bytes = Files.readAllBytes(segment);
+        bytes[TestConstants.FIRST_PAYLOAD_OFFSET] ^= 1;
+        Files.write(segment, bytes);
+
+        assertThrows(UncheckedIOException.class, () -> new SportRepositoryInMemory(sportLog()));
+    }
+
+    @Test
+    void recover_withTornRecordBeforeAnotherSegment_shouldFail() throws IOException {
+        WriteAheadLog<Sport> wal = sportLog();
+        SportRepositoryInMemory repository = new SportRepositoryInMemory(wal);
+        repository.create(Sport.builder().name(SportLabels.SKI).season(Season.WINTER).build());
+        wal.flush();
+        Path segment = segments().get(0);
+        Files.write(segment, new byte[] { 0, 0, 0, 42, 1, 2 }, StandardOpenOption.APPEND);
+        Files.createFile(directory.resolve(TestConstants.SPORT_STORE + "-" + Long.MAX_VALUE + ".wal"));
+
+        assertThrows(UncheckedIOException.class, () -> new SportRepositoryInMemory(sportLog()));
+    }
+
+    @Test
+    void flush_whenWriteFails_shouldRefuseLaterWrites() throws IOException {
+        FileChannel failing = mock(FileChannel.class);
+        when(failing.write(any(ByteBuffer.class))).thenThrow(new IOException(TestConstants.DISK_FULL));
+        WriteAheadLog<Sport> wal = new WriteAheadLog<>(directory, TestConstants.SPORT_STORE, new SportCodec(),
+                new SportSnapshotCodec(), TestConstants.MANUAL_FLUSH_INTERVAL, Duration.ZERO) {
+            @Override
+            FileChannel openSegment(long number) {
+                return failing;
+            }
+        };
+        SportRepositoryInMemory repository = new SportRepositoryInMemory(wal);
+        repository.create(Sport.builder().name(SportLabels.SKI).season(Season.WINTER).build());
+
+        IOException failure = assertThrows(IOException.class, wal::flush);
+
+        assertEquals(TestConstants.DISK_FULL, failure.getMessage());
+        assertThrows(UncheckedIOException.class,
+                () -> repository.create(Sport.builder().name(SportLabels.SNOWBOARD).season(Season.WINTER).build()));
+        assertEquals(1, repository.findAll().size());
+        assertThrows(IOException.class, wal::flush);
+        assertThrows(IOException.class, wal::close);
+    }
+
+    @Test
+    void append_afterFailedFlush_shouldBufferAWriteThatPassedTheCheck() throws IOException {
+        FileChannel failing = mock(FileChannel.class);
+        when(failing.write(any(ByteBuffer.class))).thenThrow(new IOException(TestConstants.DISK_FULL));
+        WriteAheadLog<Sport> wal = new WriteAheadLog<>(directory, TestConstants.SPORT_STORE, new SportCodec(),
+                new SportSnapshotCodec(), TestConstants.MANUAL_FLUSH_INTERVAL, Duration.ZERO) {
+            @Override
+            FileChannel openSegment(long number) {
+                return failing;
+            }
+        };
+        SportRepositoryInMemory repository = new SportRepositoryInMemory(wal);
+        Sport ski = repository.create(Sport.builder().name(SportLabels.SKI).season(Season.WINTER).build());
+        assertThrows(IOException.class, wal::flush);
+
+        // A write that passed the check before the failure is already in memory, so its batch must still be logged.
+        assertDoesNotThrow(() -> wal.logDelete(ski.getId()));
+        assertThrows(UncheckedIOException.class, wal::ensureWritable);
+        assertThrows(IOException.class, wal::flush);
+    }
+
+    @Test
+    void compact_afterFailedSnapshot_shouldRetry() throws IOException {
+        boolean[] failNext = { true };
+        WriteAheadLog<Sport> wal = new WriteAheadLog<>(directory, TestConstants.SPORT_STORE, new SportCodec(),
+                new SportSnapshotCodec(), TestConstants.MANUAL_FLUSH_INTERVAL, Duration.ZERO) {
+            @Override
+            void writeSnapshot(long covered, long nextId, Collection<Sport> rows) throws IOException {
+                if (failNext[0]) {
+                    failNext[0] = false;
+                    throw new IOException(TestConstants.DISK_FULL);
+                }
+                super.writeSnapshot(covered, nextId, rows);
+            }
+        };
+        openLogs.add(wal);
+        SportRepositoryInMemory repository = new SportRepositoryInMemory(wal);
+        Sport ski = repository.create(Sport.builder().name(SportLabels.SKI).season(Season.WINTER).build());
+
+        assertThrows(IOException.class, wal::compact);
+        wal.compact();
+
+        assertTrue(Files.exists(directory.resolve(TestConstants.SPORT_STORE + ".snapshot")));
+        assertEquals(1, segments().size());
+        wal.close();
+        assertEquals(List.of(ski), new SportRepositoryInMemory(sportLog()).findAll());
+    }
+}
@@ -0,0 +1,100 @@
+package fr.apsprevoyance.skylift.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import fr.apsprevoyance.skylift.constants.TestTag;
+import fr.apsprevoyance.skylift.dto.SportDTO;
+import fr.apsprevoyance.skylift.enums.Season;
+import fr.apsprevoyance.skylift.model.Sport;
+
+@Tag(TestTag.SERVICE)
+class DtoCacheTest {
+
+    private static final class TestConstants {
+        static final int CAPACITY = 3;
+        static final Long SPORT_ID = 1L;
+        static final String SPORT_NAME = "SKI";
+        static final String RENAMED_SPORT = "Ski de fond";
+    }
+
+    private final AtomicInteger renders = new AtomicInteger();
+    private DtoCache<Sport, SportDTO> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new DtoCache<>(TestConstants.CAPACITY, Sport::getId, sport -> {
+            renders.incrementAndGet();
+            SportDTO dto = new SportDTO();
+            dto.setId(sport.getId());
+            dto.setName(sport.getName());
+            return dto;
+        });
+    }
+
+    @Test
+    void sameOrEqualModel_shouldReuseTheRenderedDto() {
+        Sport sport = sport(TestConstants.SPORT_ID, TestConstants.SPORT_NAME);
+
+        SportDTO first = cache.get(sport);
+
+        assertSame(first, cache.get(sport));
+        assertSame(first, cache.get(sport(TestConstants.SPORT_ID, TestConstants.SPORT_NAME)));
+        assertEquals(1, renders.get());
+        assertEquals(new DtoCache.Stats(2, 1, 0, 1), cache.stats());
+    }
+
+    @Test
+    void replacedModel_shouldBeRenderedAgain() {
+        SportDTO before = cache.get(sport(TestConstants.SPORT_ID, TestConstants.SPORT_NAME));
+
+        SportDTO after = cache.get(sport(TestConstants.SPORT_ID, TestConstants.RENAMED_SPORT));
+
+        assertNotSame(before, after);
+        assertEquals(TestConstants.RENAMED_SPORT, after.getName());
+        assertEquals(2, renders.get());
+    }
+
+    @Test
+    void invalidate_shouldDropTheEntry() {
+        Sport sport = sport(TestConstants.SPORT_ID, TestConstants.SPORT_NAME);
+        cache.get(sport);
+
+        cache.invalidate(TestConstants.SPORT_ID);
+        cache.get(sport);
+
+        assertEquals(2, renders.get());
+    }
+
+    @Test
+    void modelWithoutId_shouldNotBeCached() {
+        Sport sport = sport(null, TestConstants.SPORT_NAME);
+
+        cache.get(sport);
+        cache.get(sport);
+
+        assertEquals(2, renders.get());
+        assertEquals(0, cache.stats().size());
+    }
+
+    @Test
+    void cache_shouldStayWithinCapacity() {
+        for (long id = 1; id <= 10; id++) {
+            cache.get(sport(id, TestConstants.SPORT_NAME));
+        }
+
+        assertEquals(TestConstants.CAPACITY, cache.stats().size());
+        assertEquals(7, cache.stats().evictions());
+    }
+
+    private static Sport sport(Long id, String name) {
+        return Sport.builder().id(id).name(name).season(Season.WINTER).build();
+    }
+}
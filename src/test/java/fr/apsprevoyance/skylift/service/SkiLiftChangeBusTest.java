@@ -0,0 +1,126 @@
+package fr.apsprevoyance.skylift.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import fr.apsprevoyance.skylift.constants.TestTag;
+import fr.apsprevoyance.skylift.service.SkiLiftChangeBus.Change;
+import fr.apsprevoyance.skylift.service.SkiLiftChangeBus.Subscription;
+
+@Tag(TestTag.SERVICE)
+class SkiLiftChangeBusTest {
+
+    private static final class TestConstants {
+        static final int HISTORY = 4;
+        static final int CAPACITY = 2;
+        static final Long FIRST_LIFT_ID = 1L;
+        static final Long SECOND_LIFT_ID = 2L;
+        static final Long THIRD_LIFT_ID = 3L;
+        static final String FOREIGN_EVENT_ID = "abc-1";
+    }
+
+    private SkiLiftChangeBus bus;
+
+    @BeforeEach
+    void setUp() {
+        bus = new SkiLiftChangeBus(TestConstants.HISTORY);
+    }
+
+    @Test
+    void subscribe_withoutLastEventId_shouldStartWithReset() {
+        bus.publish(TestConstants.FIRST_LIFT_ID);
+
+        Subscription subscription = bus.subscribe(null, TestConstants.CAPACITY);
+
+        assertEquals(List.of(new Change(1, null)), subscription.drain());
+        assertFalse(subscription.hasChanges());
+    }
+
+    @Test
+    void publish_shouldKeepOnlyTheLatestChangeOfEachLift() {
+        Subscription subscription = bus.subscribe(null, TestConstants.CAPACITY);
+        subscription.drain();
+
+        bus.publish(TestConstants.FIRST_LIFT_ID);
+        bus.publish(TestConstants.SECOND_LIFT_ID);
+        bus.publish(TestConstants.FIRST_LIFT_ID);
+
+        assertTrue(subscription.hasChanges());
+        assertEquals(List.of(new Change(2, TestConstants.SECOND_LIFT_ID), new Change(3, TestConstants.FIRST_LIFT_ID)),
+                subscription.drain());
+    }
+
+    @Test
+    void publish_beyondCapacity_shouldCollapseIntoOneReset() {
+        Subscription subscription = bus.subscribe(null, TestConstants.CAPACITY);
+        subscription.drain();
+
+        bus.publish(TestConstants.FIRST_LIFT_ID);
+        bus.publish(TestConstants.SECOND_LIFT_ID);
+        bus.publish(TestConstants.THIRD_LIFT_ID);
+        bus.publish(TestConstants.FIRST_LIFT_ID);
+
+        assertEquals(List.of(new Change(4, null)), subscription.drain());
+    }
+
+    @Test
+    void subscribe_afterKnownEventId_shouldReplayTheChangesSince() {
+        bus.publish(TestConstants.FIRST_LIFT_ID);
+        bus.publish(TestConstants.SECOND_LIFT_ID);
+        bus.publish(TestConstants.FIRST_LIFT_ID);
+
+        Subscription subscription = bus.subscribe(bus.eventId(1), TestConstants.CAPACITY);
+
+        assertEquals(List.of(new Change(2, TestConstants.SECOND_LIFT_ID), new Change(3, TestConstants.FIRST_LIFT_ID)),
+                subscription.drain());
+    }
+
+    @Test
+    void subscribe_afterLatestEventId_shouldStartEmpty() {
+        bus.publish(TestConstants.FIRST_LIFT_ID);
+
+        Subscription subscription = bus.subscribe(bus.eventId(1), TestConstants.CAPACITY);
+
+        assertFalse(subscription.hasChanges());
+    }
+
+    @Test
+    void subscribe_afterForgottenEventId_shouldStartWithReset() {
+        for (int i = 0; i < TestConstants.HISTORY + 1; i++) {
+            bus.publish(TestConstants.FIRST_LIFT_ID);
+        }
+
+        Subscription subscription = bus.subscribe(bus.eventId(0), TestConstants.CAPACITY);
+
+        assertEquals(List.of(new Change(TestConstants.HISTORY + 1, null)), subscription.drain());
+    }
+
+    @Test
+    void subscribe_withEventIdOfAnotherProcess_shouldStartWithReset() {
+        bus.publish(TestConstants.FIRST_LIFT_ID);
+
+        assertEquals(List.of(new Change(1, null)),
+                bus.subscribe(TestConstants.FOREIGN_EVENT_ID, TestConstants.CAPACITY).drain());
+        assertEquals(List.of(new Change(1, null)),
+                bus.subscribe(bus.eventId(2), TestConstants.CAPACITY).drain());
+    }
+
+    @Test
+    void close_shouldStopDelivering() {
+        Subscription subscription = bus.subscribe(null, TestConstants.CAPACITY);
+        subscription.drain();
+
+        subscription.close();
+        bus.publish(TestConstants.FIRST_LIFT_ID);
+
+        assertFalse(subscription.hasChanges());
+        assertEquals(0, bus.subscriptions());
+    }
+}
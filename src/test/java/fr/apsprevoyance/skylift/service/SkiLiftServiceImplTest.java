@@ -3,16 +3,26 @@ package fr.apsprevoyance.skylift.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.UnaryOperator;
 
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -24,9 +34,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import fr.apsprevoyance.skylift.constants.SportLabels;
 import fr.apsprevoyance.skylift.constants.TestTag;
 import fr.apsprevoyance.skylift.dto.SkiLiftDTO;
+import fr.apsprevoyance.skylift.enums.SkiLiftField;
 import fr.apsprevoyance.skylift.enums.SkiLiftStatus;
 import fr.apsprevoyance.skylift.enums.SkiLiftType;
+import fr.apsprevoyance.skylift.enums.ValidationContextType;
 import fr.apsprevoyance.skylift.exception.EntityNotFoundException;
+import fr.apsprevoyance.skylift.exception.ValidationException;
 import fr.apsprevoyance.skylift.mapper.SkiLiftMapper;
 import fr.apsprevoyance.skylift.model.SkiLift;
 import fr.apsprevoyance.skylift.repository.SkiLiftRepository;
@@ -58,6 +71,9 @@ class SkiLiftServiceImplTest {
     @Mock
     private ModelValidationService modelValidationService;
 
+    @Mock
+    private SkiLiftChangeBus changeBus;
+
     @InjectMocks
     private SkiLiftServiceImpl skiLiftService;
 
@@ -104,8 +120,10 @@ class SkiLiftServiceImplTest {
         // Verify
         assertNotNull(result);
         assertEquals(TestConstants.VALID_SKI_LIFT_ID, result.getId());
-        verify(modelValidationService).checkAndThrowIfInvalid(mappedSkiLift, TestConstants.ENTITY_NAME, OnCreate.class);
+        verify(modelValidationService).checkRemainingAndThrowIfInvalid(mappedSkiLift, SkiLiftDTO.class,
+                TestConstants.ENTITY_NAME, OnCreate.class);
         verify(skiLiftRepository).create(mappedSkiLift);
+        verify(changeBus).publish(TestConstants.VALID_SKI_LIFT_ID);
     }
 
     @Test
@@ -117,6 +135,71 @@ class SkiLiftServiceImplTest {
         assertEquals(TestConstants.NULL_SKI_LIFT_DTO_MESSAGE, exception.getMessage());
     }
 
+    @Test
+    void createSkiLifts_shouldValidateEveryItemAndCreateThemTogether() {
+        SkiLiftDTO inputDto = createValidSkiLiftDTO();
+        SkiLift mappedSkiLift = createValidSkiLift();
+        SkiLift createdSkiLift = createValidSkiLiftWithId();
+        SkiLiftDTO expectedDto = createValidSkiLiftDTO();
+
+        when(skiLiftMapper.toEntityForCreate(inputDto)).thenReturn(mappedSkiLift);
+        when(modelValidationService.checkAll(List.of(inputDto), OnCreate.class)).thenReturn(Map.of());
+        when(modelValidationService.checkRemaining(mappedSkiLift, SkiLiftDTO.class, OnCreate.class)).thenReturn(List.of());
+        when(skiLiftRepository.createAll(List.of(mappedSkiLift))).thenReturn(List.of(createdSkiLift));
+        when(skiLiftMapper.toDto(createdSkiLift)).thenReturn(expectedDto);
+
+        List<SkiLiftDTO> result = skiLiftService.createSkiLifts(List.of(inputDto));
+
+        assertEquals(List.of(expectedDto), result);
+        verify(skiLiftRepository).createAll(List.of(mappedSkiLift));
+    }
+
+    @Test
+    void createSkiLifts_withInvalidItem_shouldReportItsIndexAndPersistNothing() {
+        SkiLiftDTO validDto = createValidSkiLiftDTO();
+        SkiLiftDTO invalidDto = createValidSkiLiftDTO();
+        invalidDto.setName("");
+        SkiLift validSkiLift = createValidSkiLift();
+        SkiLift invalidSkiLift = SkiLift.builder().name("").type(SkiLiftType.TELESIEGE).status(SkiLiftStatus.OPEN)
+                .availableSports(Set.of(SportLabels.SKI)).commissioningDate(LocalDate.now()).build();
+
+        when(skiLiftMapper.toEntityForCreate(validDto)).thenReturn(validSkiLift);
+        when(skiLiftMapper.toEntityForCreate(invalidDto)).thenReturn(invalidSkiLift);
+        when(modelValidationService.checkRemaining(validSkiLift, SkiLiftDTO.class, OnCreate.class)).thenReturn(List.of());
+        when(modelValidationService.checkAll(List.of(validDto, invalidDto), OnCreate.class))
+                .thenReturn(Map.of(1, List.of("name: Name cannot be empty")));
+
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> skiLiftService.createSkiLifts(List.of(validDto, invalidDto)));
+
+        assertEquals(List.of("[1] name: Name cannot be empty"), exception.getValidationErrors());
+        verify(skiLiftRepository, never()).createAll(any());
+    }
+
+    @Test
+    void updateSkiLifts_withUnknownAndDuplicateIds_shouldReportEveryItem() {
+        SkiLiftDTO unknownDto = createValidSkiLiftDTO();
+        unknownDto.setId(TestConstants.NONEXISTENT_ID);
+        SkiLiftDTO firstDto = createValidSkiLiftDTO();
+        firstDto.setId(TestConstants.VALID_SKI_LIFT_ID);
+        SkiLiftDTO duplicateDto = createValidSkiLiftDTO();
+        duplicateDto.setId(TestConstants.VALID_SKI_LIFT_ID);
+        SkiLift mappedSkiLift = createValidSkiLiftWithId();
+
+        when(skiLiftMapper.toEntityForUpdate(any(SkiLiftDTO.class))).thenReturn(mappedSkiLift);
+        when(modelValidationService.checkAll(any(), any())).thenReturn(Map.of());
+        when(skiLiftRepository.existsById(TestConstants.NONEXISTENT_ID)).thenReturn(false);
+        when(skiLiftRepository.existsById(TestConstants.VALID_SKI_LIFT_ID)).thenReturn(true);
+
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> skiLiftService.updateSkiLifts(List.of(unknownDto, firstDto, duplicateDto)));
+
+        assertEquals(2, exception.getValidationErrors().size());
+        assertTrue(exception.getValidationErrors().get(0).startsWith("[0] "));
+        assertTrue(exception.getValidationErrors().get(1).startsWith("[2] "));
+        verify(skiLiftRepository, never()).updateAll(any());
+    }
+
     @Test
     void findAllSkiLifts_shouldReturnAllSkiLifts() {
         List<SkiLift> skiLifts = Arrays.asList(createValidSkiLiftWithId(), SkiLift.builder().id(2L)
@@ -133,6 +216,92 @@ class SkiLiftServiceImplTest {
         verify(skiLiftRepository).findAll();
     }
 
+    @Test
+    void findSkiLiftProjections_shouldSkipTheFullMapping() {
+        SkiLift skiLift = createValidSkiLiftWithId();
+        Set<SkiLiftField> fields = EnumSet.of(SkiLiftField.ID, SkiLiftField.STATUS);
+        Map<String, Object> projection = Map.of("id", TestConstants.VALID_SKI_LIFT_ID);
+
+        when(skiLiftRepository.findAll()).thenReturn(List.of(skiLift));
+        when(skiLiftMapper.toProjection(skiLift, fields)).thenReturn(projection);
+
+        List<Map<String, Object>> result = skiLiftService.findSkiLiftProjections(null, null, null, fields);
+
+        assertEquals(List.of(projection), result);
+        verify(skiLiftMapper, never()).toDto(any());
+    }
+
+    @Test
+    void patchSkiLift_shouldValidateAndCopyOnlyTheListedFields() {
+        SkiLift current = createValidSkiLiftWithId();
+        SkiLiftDTO changes = new SkiLiftDTO();
+        changes.setStatus(SkiLiftStatus.CLOSED);
+        Set<SkiLiftField> fields = EnumSet.of(SkiLiftField.STATUS);
+
+        when(modelValidationService.checkProperties(changes, List.of("status"), OnUpdate.class)).thenReturn(List.of());
+        when(modelValidationService.checkProperties(any(SkiLift.class), eq(List.of("status")), eq(OnUpdate.class)))
+                .thenReturn(List.of());
+        doCallRealMethod().when(skiLiftMapper).updateEntityFromDto(eq(changes), eq(fields), any(SkiLift.Builder.class));
+        when(skiLiftRepository.modify(eq(TestConstants.VALID_SKI_LIFT_ID), any()))
+                .thenAnswer(invocation -> invocation.<UnaryOperator<SkiLift>>getArgument(1).apply(current));
+        when(skiLiftMapper.toDto(any(SkiLift.class))).thenReturn(changes);
+
+        skiLiftService.patchSkiLift(TestConstants.VALID_SKI_LIFT_ID, changes, fields);
+
+        verify(skiLiftMapper).toDto(argThat(patched -> patched.getStatus() == SkiLiftStatus.CLOSED
+                && patched.getName().equals(current.getName())
+                && patched.getAvailableSports() == current.getAvailableSports()));
+        verify(modelValidationService, never()).checkRemaining(any(), any(), any());
+        verify(changeBus).publish(TestConstants.VALID_SKI_LIFT_ID);
+    }
+
+    @Test
+    void patchSkiLift_withInvalidChange_shouldNotTouchTheRepository() {
+        SkiLiftDTO changes = new SkiLiftDTO();
+        Set<SkiLiftField> fields = EnumSet.of(SkiLiftField.NAME);
+
+        when(modelValidationService.checkProperties(changes, List.of("name"), OnUpdate.class))
+                .thenReturn(List.of("name: required"));
+
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> skiLiftService.patchSkiLift(TestConstants.VALID_SKI_LIFT_ID, changes, fields));
+
+        assertEquals(ValidationContextType.REQUEST, exception.getContextType());
+        verify(skiLiftRepository, never()).modify(any(), any());
+        verify(changeBus, never()).publish(any());
+    }
+
+    @Test
+    void updateSkiLiftStatus_withUnchangedStatus_shouldWriteNothing() {
+        SkiLift current = createValidSkiLiftWithId();
+        SkiLiftDTO currentDto = createValidSkiLiftDTO();
+
+        when(skiLiftRepository.modify(eq(TestConstants.VALID_SKI_LIFT_ID), any()))
+                .thenAnswer(invocation -> invocation.<UnaryOperator<SkiLift>>getArgument(1).apply(current));
+        when(skiLiftMapper.toDto(current)).thenReturn(currentDto);
+
+        SkiLiftDTO result = skiLiftService.updateSkiLiftStatus(TestConstants.VALID_SKI_LIFT_ID, SkiLiftStatus.OPEN);
+
+        assertSame(currentDto, result);
+        verify(skiLiftRepository, never()).update(any());
+        verify(changeBus, never()).publish(any());
+    }
+
+    @Test
+    void findSkiLifts_shouldMapOnlyMatchingSkiLifts() {
+        SkiLift skiLift = createValidSkiLiftWithId();
+        SkiLiftDTO expectedDto = createValidSkiLiftDTO();
+
+        when(skiLiftRepository.findByCriteria(SkiLiftStatus.OPEN, null, null)).thenReturn(List.of(skiLift));
+        when(skiLiftMapper.toDto(skiLift)).thenReturn(expectedDto);
+
+        List<SkiLiftDTO> result = skiLiftService.findSkiLifts(SkiLiftStatus.OPEN, null, null);
+
+        assertEquals(List.of(expectedDto), result);
+        verify(skiLiftRepository).findByCriteria(SkiLiftStatus.OPEN, null, null);
+        verify(skiLiftRepository, never()).findAll();
+    }
+
     @Test
     void findSkiLiftById_shouldReturnSkiLiftWhenExists() {
         SkiLift skiLift = createValidSkiLiftWithId();
@@ -148,6 +317,37 @@ class SkiLiftServiceImplTest {
         assertEquals(TestConstants.VALID_SKI_LIFT_ID, result.getId());
     }
 
+    @Test
+    void findSkiLiftById_calledTwice_shouldRenderTheDtoOnce() {
+        SkiLift skiLift = createValidSkiLiftWithId();
+        SkiLiftDTO expectedDto = createValidSkiLiftDTO();
+
+        when(skiLiftRepository.findById(TestConstants.VALID_SKI_LIFT_ID)).thenReturn(Optional.of(skiLift));
+        when(skiLiftMapper.toDto(skiLift)).thenReturn(expectedDto);
+
+        skiLiftService.findSkiLiftById(TestConstants.VALID_SKI_LIFT_ID);
+        SkiLiftDTO result = skiLiftService.findSkiLiftById(TestConstants.VALID_SKI_LIFT_ID);
+
+        assertSame(expectedDto, result);
+        verify(skiLiftMapper, times(1)).toDto(skiLift);
+        assertEquals(1, skiLiftService.dtoCacheStats().hits());
+    }
+
+    @Test
+    void findSkiLiftById_shouldReturnAReadOnlyDto() {
+        SkiLift skiLift = createValidSkiLiftWithId();
+
+        when(skiLiftRepository.findById(TestConstants.VALID_SKI_LIFT_ID)).thenReturn(Optional.of(skiLift));
+        when(skiLiftMapper.toDto(skiLift)).thenReturn(createValidSkiLiftDTO());
+
+        SkiLiftDTO result = skiLiftService.findSkiLiftById(TestConstants.VALID_SKI_LIFT_ID);
+
+        assertThrows(UnsupportedOperationException.class, () -> result.setName(TestConstants.UPDATED_SKI_LIFT_NAME));
+        assertThrows(UnsupportedOperationException.class, () -> result.getAvailableSports().add(SportLabels.SLEDGE));
+        assertEquals(TestConstants.VALID_SKI_LIFT_NAME,
+                skiLiftService.findSkiLiftById(TestConstants.VALID_SKI_LIFT_ID).getName());
+    }
+
     @Test
     void findSkiLiftById_withNonexistentId_shouldThrowEntityNotFoundException() {
         when(skiLiftRepository.findById(TestConstants.NONEXISTENT_ID)).thenReturn(Optional.empty());
@@ -195,7 +395,9 @@ class SkiLiftServiceImplTest {
 
         assertNotNull(result);
         assertEquals(TestConstants.UPDATED_SKI_LIFT_NAME, result.getName());
-        verify(modelValidationService).checkAndThrowIfInvalid(mappedSkiLift, TestConstants.ENTITY_NAME, OnUpdate.class);
+        verify(modelValidationService).checkRemainingAndThrowIfInvalid(mappedSkiLift, SkiLiftDTO.class,
+                TestConstants.ENTITY_NAME, OnUpdate.class);
+        verify(changeBus).publish(TestConstants.VALID_SKI_LIFT_ID);
     }
 
     @Test
@@ -208,6 +410,7 @@ class SkiLiftServiceImplTest {
         assertThrows(EntityNotFoundException.class, () -> {
             skiLiftService.updateSkiLift(inputDto);
         });
+        verify(changeBus, never()).publish(any());
     }
 
     @Test
@@ -215,6 +418,7 @@ class SkiLiftServiceImplTest {
         skiLiftService.deleteSkiLift(TestConstants.VALID_SKI_LIFT_ID);
 
         verify(skiLiftRepository).delete(TestConstants.VALID_SKI_LIFT_ID);
+        verify(changeBus).publish(TestConstants.VALID_SKI_LIFT_ID);
     }
 
     @Test
@@ -103,7 +103,7 @@ class SportServiceImplTest {
 
         assertNotNull(result);
         assertEquals(mappedSportDTO, result);
-        verify(modelValidationService).checkAndThrowIfInvalid(sport, ENTITY_NAME, OnCreate.class);
+        verify(modelValidationService).checkRemainingAndThrowIfInvalid(sport, SportDTO.class, ENTITY_NAME, OnCreate.class);
         verify(sportRepository).create(sport);
         verify(sportMapper).toDto(createdSport);
     }
@@ -158,6 +158,17 @@ class SportServiceImplTest {
         verify(sportMapper).toDto(createdSport);
     }
 
+    @Test
+    void findSportById_shouldReturnAReadOnlyDto() {
+        when(sportRepository.findById(SPORT_ID)).thenReturn(Optional.of(createdSport));
+        when(sportMapper.toDto(createdSport)).thenReturn(mappedSportDTO);
+
+        SportDTO result = sportService.findSportById(SPORT_ID);
+
+        assertThrows(UnsupportedOperationException.class, () -> result.setActive(false));
+        assertTrue(sportService.findSportById(SPORT_ID).isActive());
+    }
+
     @Test
     void findSportById_withNonexistentId_shouldThrowEntityNotFoundException() {
         when(sportRepository.findById(NONEXISTENT_ID)).thenReturn(Optional.empty());
@@ -210,7 +221,8 @@ class SportServiceImplTest {
         assertNotNull(result);
         assertEquals(resultDTO, result);
         verify(sportRepository).existsById(SPORT_ID);
-        verify(modelValidationService).checkAndThrowIfInvalid(mappedSport, ENTITY_NAME, OnUpdate.class);
+        verify(modelValidationService).checkRemainingAndThrowIfInvalid(mappedSport, SportDTO.class, ENTITY_NAME,
+                OnUpdate.class);
         verify(sportRepository).update(mappedSport);
         verify(sportMapper).toDto(updatedSport);
     }
@@ -302,29 +314,26 @@ class SportServiceImplTest {
     @Test
     void areSportsValid_shouldReturnTrueWhenAllSportsAreValid() {
         List<String> sportNames = Arrays.asList(SPORT_1, SPORT_2);
-        List<Sport> existingSports = Arrays.asList(Sport.builder().name(SPORT_1).build(),
-                Sport.builder().name(SPORT_2).build());
 
-        when(sportRepository.findAll()).thenReturn(existingSports);
+        when(sportRepository.existsAllByName(sportNames)).thenReturn(true);
 
         boolean result = sportService.areSportsValid(sportNames);
 
         assertTrue(result);
-        verify(sportRepository).findAll();
+        verify(sportRepository).existsAllByName(sportNames);
+        verify(sportRepository, never()).findAll();
     }
 
     @Test
     void areSportsValid_shouldReturnFalseWhenAnySportIsInvalid() {
         List<String> sportNames = Arrays.asList(SPORT_1, SPORT_3);
-        List<Sport> existingSports = Arrays.asList(Sport.builder().name(SPORT_1).build(),
-                Sport.builder().name(SPORT_2).build());
 
-        when(sportRepository.findAll()).thenReturn(existingSports);
+        when(sportRepository.existsAllByName(sportNames)).thenReturn(false);
 
         boolean result = sportService.areSportsValid(sportNames);
 
         assertFalse(result);
-        verify(sportRepository).findAll();
+        verify(sportRepository).existsAllByName(sportNames);
     }
 
     @Test
@@ -332,7 +341,7 @@ class SportServiceImplTest {
         boolean result = sportService.areSportsValid(null);
 
         assertFalse(result);
-        verify(sportRepository, never()).findAll();
+        verify(sportRepository, never()).existsAllByName(any());
     }
 
     @Test
@@ -340,6 +349,6 @@ class SportServiceImplTest {
         boolean result = sportService.areSportsValid(new ArrayList<>());
 
         assertFalse(result);
-        verify(sportRepository, never()).findAll();
+        verify(sportRepository, never()).existsAllByName(any());
     }
 }
\ No newline at end of file
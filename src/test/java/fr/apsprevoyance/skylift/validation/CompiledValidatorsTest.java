@@ -0,0 +1,200 @@
+package fr.apsprevoyance.skylift.validation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import fr.apsprevoyance.skylift.constants.TestTag;
+import fr.apsprevoyance.skylift.constants.ValidationConstants;
+import fr.apsprevoyance.skylift.dto.SkiLiftDTO;
+import fr.apsprevoyance.skylift.dto.SportDTO;
+import fr.apsprevoyance.skylift.enums.Season;
+import fr.apsprevoyance.skylift.enums.SkiLiftStatus;
+import fr.apsprevoyance.skylift.enums.SkiLiftType;
+import fr.apsprevoyance.skylift.enums.ValidationBackend;
+import fr.apsprevoyance.skylift.model.SkiLift;
+import fr.apsprevoyance.skylift.model.Sport;
+import jakarta.validation.groups.Default;
+
+@Tag(TestTag.VALIDATION)
+class CompiledValidatorsTest {
+
+    private static final class TestConstants {
+        private static final List<Class<?>[]> GROUPS = List.of(new Class<?>[0], new Class<?>[] { Default.class },
+                new Class<?>[] { OnCreate.class }, new Class<?>[] { OnUpdate.class },
+                new Class<?>[] { OnCreate.class, Default.class }, new Class<?>[] { OnCreate.class, OnUpdate.class });
+
+        private static final List<String> NAMES = Arrays.asList("Télésiège des Marmottes", null, "", "   ", "ab",
+                "abc", "x".repeat(ValidationConstants.NAME_MAX_LENGTH),
+                "x".repeat(ValidationConstants.NAME_MAX_LENGTH + 1), "Ski@Lift", "d'Ölà ÿ×", "\t\n ", "€uro", "!");
+        private static final List<Long> IDS = Arrays.asList(null, 1L, 0L, -5L);
+        private static final List<String> TEXTS = Arrays.asList(null, "", "Main ski lift",
+                "c".repeat(ValidationConstants.DESCRIPTION_MAX_LENGTH),
+                "c".repeat(ValidationConstants.DESCRIPTION_MAX_LENGTH + 1));
+        private static final List<LocalDate> DATES = Arrays.asList(null, LocalDate.of(2010, 1, 1),
+                ValidationConstants.FIRST_SKILIFT_DATE, ValidationConstants.FIRST_SKILIFT_DATE.minusDays(1));
+        private static final List<Set<String>> SPORTS = Arrays.asList(null, Set.of(), Set.of("SKI"));
+        private static final LocalDate VALID_DATE = LocalDate.of(2010, 1, 1);
+    }
+
+    private final ModelValidationService compiled = new ModelValidationService(ValidationBackend.COMPILED);
+    private final ModelValidationService beanValidation = new ModelValidationService(
+            ValidationBackend.BEAN_VALIDATION);
+
+    @Test
+    void everyValidatedType_shouldHaveACompiledValidator() {
+        assertNotNull(CompiledValidators.forType(SkiLift.class));
+        assertNotNull(CompiledValidators.forType(SkiLiftDTO.class));
+        assertNotNull(CompiledValidators.forType(Sport.class));
+        assertNotNull(CompiledValidators.forType(SportDTO.class));
+    }
+
+    @Test
+    void validObject_shouldReturnTheSharedEmptyList() {
+        SkiLift skiLift = skiLift(1L, "Télésiège des Marmottes", "Main ski lift", Set.of("SKI"),
+                TestConstants.VALID_DATE);
+
+        assertSame(List.of(), compiled.checkWithAnnotations(skiLift, OnUpdate.class));
+    }
+
+    @Test
+    void propertyOf_shouldReadBackThePropertyOrNullWithoutOne() {
+        assertEquals("name", CompiledConstraints.propertyOf(CompiledConstraints.error("name", "must not be blank")));
+        assertNull(CompiledConstraints.propertyOf("must not be blank"));
+    }
+
+    @Test
+    void skiLift_shouldMatchBeanValidation() {
+        List<Object> objects = new ArrayList<>();
+        for (String name : TestConstants.NAMES) {
+            for (Long id : TestConstants.IDS) {
+                objects.add(skiLift(id, name, "Main ski lift", Set.of("SKI"), TestConstants.VALID_DATE));
+            }
+        }
+        for (String comment : TestConstants.TEXTS) {
+            for (Set<String> sports : TestConstants.SPORTS) {
+                for (LocalDate date : TestConstants.DATES) {
+                    objects.add(skiLift(1L, "Télésiège", comment, sports, date));
+                }
+            }
+        }
+        objects.add(SkiLift.builder().name("Télésiège").addAvailableSport("SKI").build());
+
+        assertSameErrors(objects);
+    }
+
+    @Test
+    void skiLiftDTO_shouldMatchBeanValidation() {
+        List<Object> objects = new ArrayList<>();
+        for (String name : TestConstants.NAMES) {
+            for (Long id : TestConstants.IDS) {
+                objects.add(skiLiftDTO(id, name, "Main ski lift", Set.of("SKI"), TestConstants.VALID_DATE));
+            }
+        }
+        for (String comment : TestConstants.TEXTS) {
+            for (Set<String> sports : TestConstants.SPORTS) {
+                for (LocalDate date : TestConstants.DATES) {
+                    objects.add(skiLiftDTO(1L, "Télésiège", comment, sports, date));
+                }
+            }
+        }
+        objects.add(new SkiLiftDTO());
+
+        assertSameErrors(objects);
+    }
+
+    @Test
+    void sport_shouldMatchBeanValidation() {
+        List<Object> objects = new ArrayList<>();
+        for (String name : TestConstants.NAMES) {
+            for (Long id : TestConstants.IDS) {
+                objects.add(Sport.builder().id(id).name(name).description("Alpine").season(Season.WINTER).build());
+            }
+        }
+        for (String description : TestConstants.TEXTS) {
+            objects.add(Sport.builder().id(1L).name("SKI").description(description).season(Season.BOTH).build());
+            objects.add(Sport.builder().id(1L).name("SKI").description(description).build());
+        }
+
+        assertSameErrors(objects);
+    }
+
+    @Test
+    void sportDTO_shouldMatchBeanValidation() {
+        List<Object> objects = new ArrayList<>();
+        for (String name : TestConstants.NAMES) {
+            for (Long id : TestConstants.IDS) {
+                objects.add(sportDTO(id, name, "Alpine", Season.WINTER));
+            }
+        }
+        for (String description : TestConstants.TEXTS) {
+            objects.add(sportDTO(1L, "SKI", description, Season.SUMMER));
+            objects.add(sportDTO(1L, "SKI", description, null));
+        }
+        objects.add(new SportDTO());
+
+        assertSameErrors(objects);
+    }
+
+    private void assertSameErrors(List<Object> objects) {
+        for (Object object : objects) {
+            for (Class<?>[] groups : TestConstants.GROUPS) {
+                List<String> expected = sorted(beanValidation.checkWithAnnotations(object, groups));
+                List<String> actual = sorted(compiled.checkWithAnnotations(object, groups));
+                assertEquals(expected, actual, () -> "groups " + Arrays.toString(groups) + " on " + describe(object));
+            }
+        }
+    }
+
+    private static List<String> sorted(List<String> errors) {
+        List<String> copy = new ArrayList<>(errors);
+        copy.sort(null);
+        return copy;
+    }
+
+    private static String describe(Object object) {
+        if (object instanceof SkiLiftDTO dto) {
+            return "SkiLiftDTO " + dto.getId() + " " + dto.getName() + " " + dto.getAvailableSports() + " "
+                    + dto.getCommissioningDate();
+        }
+        if (object instanceof SportDTO dto) {
+            return "SportDTO " + dto.getId() + " " + dto.getName() + " " + dto.getSeason();
+        }
+        return object.toString();
+    }
+
+    private static SkiLift skiLift(Long id, String name, String comment, Set<String> sports, LocalDate date) {
+        return SkiLift.builder().id(id).name(name).type(SkiLiftType.TELESIEGE).status(SkiLiftStatus.OPEN)
+                .comment(comment).availableSports(sports).commissioningDate(date).build();
+    }
+
+    private static SkiLiftDTO skiLiftDTO(Long id, String name, String comment, Set<String> sports,
+            LocalDate date) {
+        SkiLiftDTO dto = new SkiLiftDTO();
+        dto.setId(id);
+        dto.setName(name);
+        dto.setComment(comment);
+        dto.setAvailableSports(sports);
+        dto.setCommissioningDate(date);
+        return dto;
+    }
+
+    private static SportDTO sportDTO(Long id, String name, String description, Season season) {
+        SportDTO dto = new SportDTO();
+        dto.setId(id);
+        dto.setName(name);
+        dto.setDescription(description);
+        dto.setSeason(season);
+        return dto;
+    }
+}
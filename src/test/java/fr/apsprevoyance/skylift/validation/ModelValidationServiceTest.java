@@ -4,19 +4,45 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 
+import java.lang.annotation.Annotation;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
 
 import fr.apsprevoyance.skylift.constants.AnnotationMessages;
 import fr.apsprevoyance.skylift.constants.TestConstants;
+import fr.apsprevoyance.skylift.dto.SkiLiftDTO;
+import fr.apsprevoyance.skylift.dto.SportDTO;
+import fr.apsprevoyance.skylift.enums.SkiLiftStatus;
+import fr.apsprevoyance.skylift.enums.SkiLiftType;
+import fr.apsprevoyance.skylift.enums.ValidationBackend;
 import fr.apsprevoyance.skylift.exception.ValidationException;
+import fr.apsprevoyance.skylift.mapper.SkiLiftMapper;
+import fr.apsprevoyance.skylift.mapper.SportMapper;
+import fr.apsprevoyance.skylift.model.SkiLift;
+import fr.apsprevoyance.skylift.model.Sport;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.groups.Default;
+import jakarta.validation.metadata.BeanDescriptor;
+import jakarta.validation.metadata.ConstraintDescriptor;
+import jakarta.validation.metadata.PropertyDescriptor;
 
 @Tag("validation")
 class ModelValidationServiceTest {
@@ -41,6 +67,11 @@ class ModelValidationServiceTest {
         }
     }
 
+    static class TestSource {
+        @NotBlank(message = AnnotationMessages.Name.EMPTY, groups = Default.class)
+        private String name;
+    }
+
     @Test
     void testValidationSuccess() {
         TestEntity entity = new TestEntity(TestConstants.Sport.VALID_ID, TestConstants.Sport.VALID_NAME);
@@ -79,4 +110,189 @@ class ModelValidationServiceTest {
                         .anyMatch(error -> error.contains(AnnotationMessages.Name.EMPTY)),
                 TestConstants.ValidationTestMessages.ERROR_FOR_NAME);
     }
-}
\ No newline at end of file
+
+    @Test
+    void checkRemaining_shouldOnlyReportConstraintsTheSourceDidNotProve() {
+        TestEntity entity = new TestEntity(null, "");
+
+        List<String> errors = modelValidationService.checkRemaining(entity, TestSource.class);
+
+        assertEquals(1, errors.size(), TestConstants.ValidationTestMessages.ONE_ERROR_IN_EXCEPTION);
+        assertTrue(errors.get(0).contains(AnnotationMessages.Id.NULL), TestConstants.ValidationTestMessages.ERROR_FOR_ID);
+    }
+
+    @Test
+    void checkRemaining_withSkiLiftProvenByItsDTO_shouldHaveNothingLeftToCheck() {
+        SkiLift skiLift = SkiLift.builder().name("").build();
+
+        assertTrue(modelValidationService.checkRemaining(skiLift, SkiLiftDTO.class, OnCreate.class).isEmpty());
+        assertTrue(modelValidationService.checkRemaining(skiLift, SkiLiftDTO.class, OnUpdate.class).isEmpty());
+    }
+
+    @Test
+    void checkRemaining_withSportProvenByItsDTO_shouldHaveNothingLeftToCheck() {
+        Sport sport = Sport.builder().name("").build();
+
+        assertTrue(modelValidationService.checkRemaining(sport, SportDTO.class, OnCreate.class).isEmpty());
+        assertTrue(modelValidationService.checkRemaining(sport, SportDTO.class, OnUpdate.class).isEmpty());
+    }
+
+    /**
+     * The services skip every model constraint the DTO already proved, so a
+     * constraint added to a model and not to its DTO must fail here rather
+     * than go unchecked. Written without {@link ConstraintDelta} so that a
+     * mistake there cannot hide one here.
+     */
+    @Test
+    void modelConstraints_shouldAllBeCarriedByTheDTOsTheServicesMapFrom() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+        for (Class<?> group : List.of(OnCreate.class, OnUpdate.class)) {
+            assertCarried(validator, SkiLift.class, SkiLiftDTO.class, group);
+            assertCarried(validator, Sport.class, SportDTO.class, group);
+        }
+    }
+
+    @Test
+    void mappers_shouldCopyEveryConstrainedPropertyUnchanged() throws Exception {
+        SkiLiftMapper skiLiftMapper = Mappers.getMapper(SkiLiftMapper.class);
+        SportMapper sportMapper = Mappers.getMapper(SportMapper.class);
+        SkiLiftDTO skiLiftDTO = new SkiLiftDTO();
+        skiLiftDTO.setId(TestConstants.SKILIFT_VALID_ID);
+        skiLiftDTO.setName(TestConstants.SKILIFT_VALID_NAME);
+        skiLiftDTO.setType(SkiLiftType.TELESIEGE);
+        skiLiftDTO.setStatus(SkiLiftStatus.OPEN);
+        skiLiftDTO.setAvailableSports(Set.of(TestConstants.Sport.VALID_NAME));
+        skiLiftDTO.setCommissioningDate(LocalDate.of(2020, 12, 1));
+        SportDTO sportDTO = new SportDTO();
+        sportDTO.setId(TestConstants.Sport.VALID_ID);
+        sportDTO.setName(TestConstants.Sport.VALID_NAME);
+        sportDTO.setSeason(TestConstants.Sport.VALID_SEASON);
+
+        assertCopied(skiLiftDTO, skiLiftMapper::toEntityForCreate, OnCreate.class);
+        assertCopied(skiLiftDTO, skiLiftMapper::toEntityForUpdate, OnUpdate.class);
+        assertCopied(sportDTO, sportMapper::toEntityForCreate, OnCreate.class);
+        assertCopied(sportDTO, sportMapper::toEntityForUpdate, OnUpdate.class);
+    }
+
+    @Test
+    void checkRemainingAndThrowIfInvalid_shouldThrowForUnprovenConstraints() {
+        TestEntity entity = new TestEntity(null, TestConstants.Sport.VALID_NAME);
+
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> modelValidationService.checkRemainingAndThrowIfInvalid(entity, TestSource.class, "TestEntity"));
+
+        assertEquals(1, exception.getValidationErrors().size(),
+                TestConstants.ValidationTestMessages.ONE_ERROR_IN_EXCEPTION);
+    }
+
+    @Test
+    void checkProperties_shouldOnlyReportTheNamedProperties() {
+        SkiLiftDTO changes = new SkiLiftDTO();
+        changes.setStatus(SkiLiftStatus.CLOSED);
+        changes.setName("");
+
+        for (ModelValidationService service : List.of(modelValidationService,
+                new ModelValidationService(ValidationBackend.BEAN_VALIDATION))) {
+            assertTrue(service.checkProperties(changes, List.of("status"), OnUpdate.class).isEmpty(),
+                    TestConstants.ValidationTestMessages.EMPTY_ERROR_LIST_FOR_VALID);
+
+            List<String> errors = service.checkProperties(changes, List.of("status", "name"), OnUpdate.class);
+
+            assertFalse(errors.isEmpty(), TestConstants.ValidationTestMessages.ERROR_LIST_NOT_EMPTY);
+            assertTrue(errors.stream().allMatch(error -> error.startsWith("name: ")),
+                    TestConstants.ValidationTestMessages.ERROR_FOR_NAME);
+        }
+    }
+
+    @Test
+    void checkAll_shouldKeyErrorsByIndexInOrderAcrossTheBulkPool() {
+        List<TestEntity> entities = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            boolean invalid = i % 97 == 0;
+            entities.add(new TestEntity(invalid ? null : (long) i + 1, TestConstants.Sport.VALID_NAME));
+        }
+
+        Map<Integer, List<String>> errors = modelValidationService.checkAll(entities);
+
+        List<Integer> expectedIndexes = new ArrayList<>();
+        for (int i = 0; i < entities.size(); i += 97) {
+            expectedIndexes.add(i);
+        }
+        assertEquals(expectedIndexes, new ArrayList<>(errors.keySet()));
+        for (Map.Entry<Integer, List<String>> entry : errors.entrySet()) {
+            assertEquals(modelValidationService.checkWithAnnotations(entities.get(entry.getKey())), entry.getValue());
+        }
+    }
+
+    @Test
+    void checkAll_shouldSkipNullItemsAndAcceptAnyCollection() {
+        List<TestEntity> entities = new LinkedList<>(Arrays.asList(null, new TestEntity(1L, ""),
+                new TestEntity(2L, TestConstants.Sport.VALID_NAME)));
+
+        Map<Integer, List<String>> errors = modelValidationService.checkAll(entities);
+
+        assertEquals(1, errors.size(), TestConstants.ValidationTestMessages.ONE_ERROR_IN_EXCEPTION);
+        assertTrue(errors.get(1).get(0).contains(AnnotationMessages.Name.EMPTY),
+                TestConstants.ValidationTestMessages.ERROR_FOR_NAME);
+    }
+
+    private static void assertCarried(Validator validator, Class<?> model, Class<?> dto, Class<?> group) {
+        BeanDescriptor modelDescriptor = validator.getConstraintsForClass(model);
+        BeanDescriptor dtoDescriptor = validator.getConstraintsForClass(dto);
+        assertTrue(modelDescriptor.findConstraints().unorderedAndMatchingGroups(group).getConstraintDescriptors()
+                .isEmpty(), model.getSimpleName() + " has class-level constraints");
+
+        for (PropertyDescriptor property : modelDescriptor.getConstrainedProperties()) {
+            PropertyDescriptor dtoProperty = dtoDescriptor.getConstraintsForProperty(property.getPropertyName());
+            for (ConstraintDescriptor<?> constraint : property.findConstraints().unorderedAndMatchingGroups(group)
+                    .getConstraintDescriptors()) {
+                String where = model.getSimpleName() + "." + property.getPropertyName() + " @"
+                        + constraint.getAnnotation().annotationType().getSimpleName() + " in "
+                        + group.getSimpleName();
+                if (dtoProperty == null || dtoProperty.getElementClass() != property.getElementClass()) {
+                    fail(where + " has no matching " + dto.getSimpleName() + " property");
+                }
+                boolean carried = dtoProperty.findConstraints().unorderedAndMatchingGroups(group)
+                        .getConstraintDescriptors().stream().anyMatch(known -> sameCheck(known, constraint));
+                assertTrue(carried, where + " is not checked on " + dto.getSimpleName());
+            }
+        }
+    }
+
+    private static boolean sameCheck(ConstraintDescriptor<?> known, ConstraintDescriptor<?> required) {
+        Class<? extends Annotation> knownType = known.getAnnotation().annotationType();
+        Class<? extends Annotation> requiredType = required.getAnnotation().annotationType();
+        if (requiredType == NotNull.class && (knownType == NotBlank.class || knownType == NotEmpty.class)) {
+            return true;
+        }
+        if (knownType != requiredType) {
+            return false;
+        }
+        Map<String, Object> knownAttributes = known.getAttributes();
+        return required.getAttributes().entrySet().stream()
+                .filter(attribute -> !Set.of("message", "groups", "payload").contains(attribute.getKey()))
+                .allMatch(attribute -> Objects.deepEquals(attribute.getValue(), knownAttributes.get(attribute.getKey())));
+    }
+
+    private static <D, M> void assertCopied(D dto, Function<D, M> mapping, Class<?> group)
+            throws ReflectiveOperationException {
+        M model = mapping.apply(dto);
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+        for (PropertyDescriptor property : validator.getConstraintsForClass(model.getClass())
+                .getConstrainedProperties()) {
+            if (property.findConstraints().unorderedAndMatchingGroups(group).getConstraintDescriptors().isEmpty()) {
+                continue;
+            }
+            assertEquals(read(dto, property.getPropertyName()), read(model, property.getPropertyName()),
+                    model.getClass().getSimpleName() + "." + property.getPropertyName() + " in "
+                            + group.getSimpleName());
+        }
+    }
+
+    private static Object read(Object bean, String property) throws ReflectiveOperationException {
+        String getter = "get" + Character.toUpperCase(property.charAt(0)) + property.substring(1);
+        return bean.getClass().getMethod(getter).invoke(bean);
+    }
+}
@@ -0,0 +1,72 @@
+package fr.apsprevoyance.skylift.validation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import fr.apsprevoyance.skylift.constants.TestTag;
+import fr.apsprevoyance.skylift.constants.ValidationConstants;
+
+@Tag(TestTag.VALIDATION)
+class NameCharactersTest {
+
+    private static final class TestConstants {
+        private static final Pattern NAME_PATTERN = Pattern.compile(ValidationConstants.REGEX_NAME_VALID_CHARS);
+        private static final long SEED = 20241018L;
+        private static final int SAMPLES = 200_000;
+        private static final int MAX_LENGTH = 12;
+        // Around every edge of the character class, plus Unicode spaces that \s does not match.
+        private static final char[] EDGES = { ' ', '\t', '\n', '\u000B', '\f', '\r', '\u001C', '\u0085', '\u00A0',
+                '\u2028', '\u3000', '\'', '"', '`', '/', '0', '9', ':', '@', 'A', 'Z', '[', 'a', 'z', '{', '¿',
+                'À', '×', '÷', 'ÿ', 'Ā', 'Ÿ', '\uD83D', '\uDE00', '\uFFFF' };
+    }
+
+    @Test
+    void everySingleCharacter_shouldMatchTheRegex() {
+        for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+            String value = String.valueOf((char) c);
+            assertEquals(TestConstants.NAME_PATTERN.matcher(value).matches(), NameCharacters.matches(value),
+                    () -> "U+" + Integer.toHexString(value.charAt(0)));
+        }
+    }
+
+    @Test
+    void randomStrings_shouldMatchTheRegex() {
+        Random random = new Random(TestConstants.SEED);
+        for (int i = 0; i < TestConstants.SAMPLES; i++) {
+            String value = randomString(random);
+            assertEquals(TestConstants.NAME_PATTERN.matcher(value).matches(), NameCharacters.matches(value),
+                    () -> "\"" + value + "\" " + value.chars().mapToObj(Integer::toHexString).toList());
+        }
+    }
+
+    @Test
+    void emptyName_shouldNotMatch() {
+        assertFalse(NameCharacters.matches(""));
+    }
+
+    @Test
+    void validNameAnnotation_shouldAcceptNull() {
+        assertTrue(new ValidNameValidator().isValid(null, null));
+    }
+
+    private static String randomString(Random random) {
+        int length = random.nextInt(TestConstants.MAX_LENGTH + 1);
+        StringBuilder value = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            value.append(switch (random.nextInt(4)) {
+            case 0 -> TestConstants.EDGES[random.nextInt(TestConstants.EDGES.length)];
+            case 1 -> (char) random.nextInt(0x180);
+            case 2 -> (char) random.nextInt(Character.MAX_VALUE + 1);
+            default -> (char) ('a' + random.nextInt(26));
+            });
+        }
+        return value.toString();
+    }
+}